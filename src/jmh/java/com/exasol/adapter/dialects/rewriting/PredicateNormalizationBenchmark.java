@@ -0,0 +1,84 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.dialects.dummy.DummySqlDialect;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * Measures the cost of normalizing the predicates of push-down statements with {@link PredicateNormalizer} and the
+ * size of the generated SQL with and without normalization.
+ * <p>
+ * The difference between the scores of both benchmarks is the time normalization adds to a push-down request. The
+ * secondary results {@code sqlLength} and {@code normalizedSqlLength} show the number of characters saved.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=PredicateNormalizationBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PredicateNormalizationBenchmark {
+    /** Shape of the rendered statement */
+    @Param
+    public StatementShape shape;
+    private SqlGenerationVisitor visitor;
+    private PredicateNormalizer normalizer;
+    private SqlStatement statement;
+
+    /**
+     * Create the statement, the SQL generator and the normalizer.
+     */
+    @Setup
+    public void setup() {
+        final DummySqlDialect dialect = new DummySqlDialect(null, new AdapterProperties(Map.of()), null);
+        this.visitor = new SqlGenerationVisitor(dialect, new SqlGenerationContext("", "SCHEMA", false));
+        this.normalizer = new PredicateNormalizer(this.visitor, true);
+        this.statement = this.shape.create();
+    }
+
+    /**
+     * @param sqlLength records the length of the generated SQL
+     * @return generated SQL
+     * @throws AdapterException if rendering fails
+     */
+    @Benchmark
+    public String generateSql(final SqlLength sqlLength) throws AdapterException {
+        final String sql = this.visitor.generateSqlFor(this.statement);
+        sqlLength.sqlLength = sql.length();
+        return sql;
+    }
+
+    /**
+     * @param sqlLength records the length of the generated SQL
+     * @return SQL generated from the normalized statement
+     * @throws AdapterException if normalizing or rendering fails
+     */
+    @Benchmark
+    public String normalizeAndGenerateSql(final SqlLength sqlLength) throws AdapterException {
+        final String sql = this.visitor.generateSqlFor(this.normalizer.normalize(this.statement));
+        sqlLength.normalizedSqlLength = sql.length();
+        return sql;
+    }
+
+    /**
+     * Records the length of the SQL generated by the last operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlLength {
+        /** Characters of the SQL generated without normalization */
+        public long sqlLength;
+        /** Characters of the SQL generated from the normalized statement */
+        public long normalizedSqlLength;
+    }
+}
@@ -0,0 +1,65 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.*;
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.dialects.QueryRewriter;
+import com.exasol.adapter.dialects.dummy.DummySqlDialect;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * Measures the throughput of rewriting push-down statements into {@code IMPORT} statements with
+ * {@link ImportIntoTemporaryTableQueryRewriter}.
+ * <p>
+ * The data types of the select list are provided, so the rewrite does not access a remote data source.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryRewriteBenchmark {
+    private static final List<DataType> SELECT_LIST_DATA_TYPES = List.of(DataType.createDecimal(18, 0));
+    /** Shape of the rewritten statement */
+    @Param
+    public StatementShape shape;
+    private QueryRewriter rewriter;
+    private SqlStatement statement;
+    private ExaMetadata exaMetadata;
+    private AdapterProperties properties;
+
+    /**
+     * Create the statement and the query rewriter.
+     */
+    @Setup
+    public void setup() {
+        this.properties = new AdapterProperties(Map.of("CONNECTION_NAME", "BENCHMARK_CONNECTION"));
+        this.exaMetadata = ExaMetadataStub.builder() //
+                .exaConnectionInformation(ExaConnectionInformationStub.builder() //
+                        .user("user").password("password").address("jdbc:benchmark").build()) //
+                .build();
+        final DummySqlDialect dialect = new DummySqlDialect(null, this.properties, this.exaMetadata);
+        this.rewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, null, null);
+        this.statement = this.shape.create();
+    }
+
+    /**
+     * @return rewritten push-down query
+     * @throws AdapterException if rendering fails
+     * @throws SQLException     never, since the rewrite does not access the remote data source
+     */
+    @Benchmark
+    public String rewrite() throws AdapterException, SQLException {
+        return this.rewriter.rewrite(this.statement, SELECT_LIST_DATA_TYPES, this.exaMetadata, this.properties);
+    }
+}
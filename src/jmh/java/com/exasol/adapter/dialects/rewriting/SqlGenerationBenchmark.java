@@ -0,0 +1,84 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.dialects.SqlDialect;
+import com.exasol.adapter.dialects.dummy.DummySqlDialect;
+import com.exasol.adapter.sql.SqlNode;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * Measures the throughput of rendering push-down statements to SQL with {@link SqlGenerationVisitor}.
+ * <p>
+ * {@link #generateSqlStringPerNode()} renders each node to a string of its own, which is what happens for all nodes
+ * whose {@code visit} method a dialect overrides. Comparing {@code gc.alloc.rate.norm} of both benchmarks shows the
+ * allocations saved by appending to a single builder.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlGenerationBenchmark {
+    /** Shape of the rendered statement */
+    @Param
+    public StatementShape shape;
+    private SqlGenerationVisitor visitor;
+    private SqlGenerationVisitor stringPerNodeVisitor;
+    private SqlStatement statement;
+
+    /**
+     * Create the statement and the SQL generator.
+     */
+    @Setup
+    public void setup() {
+        final DummySqlDialect dialect = new DummySqlDialect(null, new AdapterProperties(Map.of()), null);
+        final SqlGenerationContext context = new SqlGenerationContext("", "SCHEMA", false);
+        this.visitor = new SqlGenerationVisitor(dialect, context);
+        this.stringPerNodeVisitor = new StringPerNodeVisitor(dialect, context);
+        this.statement = this.shape.create();
+    }
+
+    /**
+     * @return generated SQL
+     * @throws AdapterException if rendering fails
+     */
+    @Benchmark
+    public String generateSql() throws AdapterException {
+        return this.visitor.generateSqlFor(this.statement);
+    }
+
+    /**
+     * @return generated SQL
+     * @throws AdapterException if rendering fails
+     */
+    @Benchmark
+    public String generateSqlStringPerNode() throws AdapterException {
+        return this.stringPerNodeVisitor.generateSqlFor(this.statement);
+    }
+
+    /**
+     * Visitor that renders every node with its {@code visit} method, because it overrides
+     * {@link SqlGenerationVisitor#generateSqlFor(SqlNode)}.
+     */
+    private static final class StringPerNodeVisitor extends SqlGenerationVisitor {
+        private StringPerNodeVisitor(final SqlDialect dialect, final SqlGenerationContext context) {
+            super(dialect, context);
+        }
+
+        @Override
+        public String generateSqlFor(final SqlNode sqlNode) throws AdapterException {
+            return sqlNode.accept(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import com.exasol.adapter.sql.SqlStatement;
+import com.exasol.adapter.sql.TestSqlStatementFactory;
+
+/**
+ * Statement shapes typical for push-down queries, used as benchmark parameter.
+ */
+public enum StatementShape {
+    /** Select list with 200 columns */
+    WIDE_SELECT {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createWideSelect(200);
+        }
+    },
+    /** Alternating AND/OR predicate tree with 256 comparisons */
+    DEEP_PREDICATE {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createDeepPredicate(8);
+        }
+    },
+    /** IN list with 1000 values */
+    LARGE_IN_LIST {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createLargeInList(1000);
+        }
+    },
+    /** Inner join of eight tables */
+    MULTI_JOIN {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createMultiJoin(8);
+        }
+    },
+    /** ORDER BY ten columns with LIMIT and OFFSET */
+    ORDER_BY_LIMIT {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createOrderByLimit(10);
+        }
+    },
+    /** Redundant filter with an OR-chain of 100 equality comparisons and an IN list with 100 repeated values */
+    REDUNDANT_PREDICATE {
+        @Override
+        SqlStatement create() {
+            return TestSqlStatementFactory.createRedundantPredicate(100);
+        }
+    };
+
+    /**
+     * @return new statement of this shape
+     */
+    abstract SqlStatement create();
+}
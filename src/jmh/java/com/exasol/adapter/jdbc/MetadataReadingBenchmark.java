@@ -0,0 +1,108 @@
+package com.exasol.adapter.jdbc;
+
+import java.sql.*;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.ExaMetadataStub;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.metadata.SchemaMetadata;
+import com.exasol.adapter.properties.TableCountLimit;
+
+/**
+ * Measures reading the remote metadata of schemas of different sizes end-to-end through
+ * {@link AbstractRemoteMetadataReader}, {@link BaseTableMetadataReader} and {@link BaseColumnMetadataReader}.
+ * <p>
+ * The schemas are created in an embedded in-memory Derby database. Round trips and per-phase timings are reported by
+ * {@link MetadataRoundTrips}, the heap allocation by the GC profiler.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetadataReadingBenchmark {
+    private static final String SCHEMA_NAME = "BENCH";
+    private static final String[] COLUMN_TYPES = { "INTEGER", "VARCHAR(100)", "DECIMAL(18,2)", "TIMESTAMP",
+            "DOUBLE" };
+    private static final int DDL_BATCH_SIZE = 100;
+    /** Number of tables in the remote schema */
+    @Param({ "10", "1000", "10000" })
+    public int tableCount;
+    /** Number of columns per table */
+    @Param({ "5", "50", "500" })
+    public int columnCount;
+    private String databaseUrl;
+    private Connection connection;
+    private AdapterProperties properties;
+
+    /**
+     * Create the remote schema.
+     *
+     * @throws SQLException if creating the schema fails
+     */
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        this.databaseUrl = "jdbc:derby:memory:benchmark_" + this.tableCount + "_" + this.columnCount;
+        this.connection = DriverManager.getConnection(this.databaseUrl + ";create=true");
+        this.properties = new AdapterProperties(Map.of( //
+                "SCHEMA_NAME", SCHEMA_NAME, //
+                TableCountLimit.MAXTABLES_PROPERTY, String.valueOf(this.tableCount)));
+        try (final Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + SCHEMA_NAME);
+            for (int table = 0; table < this.tableCount; ++table) {
+                statement.addBatch(createTableStatement(table));
+                if (((table + 1) % DDL_BATCH_SIZE) == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private String createTableStatement(final int table) {
+        final StringBuilder builder = new StringBuilder("CREATE TABLE ") //
+                .append(SCHEMA_NAME).append(".T").append(table).append(" (");
+        for (int column = 0; column < this.columnCount; ++column) {
+            if (column > 0) {
+                builder.append(", ");
+            }
+            builder.append('C').append(column).append(' ').append(COLUMN_TYPES[column % COLUMN_TYPES.length]);
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Drop the in-memory database.
+     *
+     * @throws SQLException if closing the connection fails
+     */
+    @TearDown(Level.Trial)
+    public void dropDatabase() throws SQLException {
+        this.connection.close();
+        try {
+            DriverManager.getConnection(this.databaseUrl + ";drop=true").close();
+        } catch (final SQLException exception) {
+            // Derby reports a successful drop with an exception.
+        }
+    }
+
+    /**
+     * @param roundTrips records metadata round trips and per-phase timings
+     * @return metadata of the remote schema
+     */
+    @Benchmark
+    public SchemaMetadata readRemoteSchemaMetadata(final MetadataRoundTrips roundTrips) {
+        final RemoteMetadataReader reader = new BaseRemoteMetadataReader(roundTrips.wrap(this.connection),
+                this.properties, ExaMetadataStub.builder().build());
+        final double metadataMillisBefore = roundTrips.getMetadataMillis();
+        final long start = System.nanoTime();
+        final SchemaMetadata metadata = reader.readRemoteSchemaMetadata();
+        roundTrips.recordMapping(start, metadataMillisBefore);
+        return metadata;
+    }
+}
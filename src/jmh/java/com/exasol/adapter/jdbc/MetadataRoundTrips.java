@@ -0,0 +1,117 @@
+package com.exasol.adapter.jdbc;
+
+import java.lang.reflect.*;
+import java.sql.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Records the metadata round trips and per-phase timings of reading remote metadata.
+ * <p>
+ * The counters are reported by JMH next to the benchmark score. Time spent in {@code getTables()} and
+ * {@code getColumns()} includes iterating the returned result sets. Mapping time is the remaining time spent in the
+ * metadata reader itself.
+ * </p>
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class MetadataRoundTrips {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    /** Number of calls to {@link DatabaseMetaData} methods */
+    public long roundTrips;
+    /** Milliseconds spent listing tables */
+    public double tableListingMillis;
+    /** Milliseconds spent reading columns */
+    public double columnReadingMillis;
+    /** Milliseconds spent in other metadata calls */
+    public double otherMetadataMillis;
+    /** Milliseconds spent mapping metadata outside of JDBC calls */
+    public double mappingMillis;
+
+    /**
+     * Reset all counters before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.roundTrips = 0;
+        this.tableListingMillis = 0;
+        this.columnReadingMillis = 0;
+        this.otherMetadataMillis = 0;
+        this.mappingMillis = 0;
+    }
+
+    /**
+     * Wrap a connection so that calls to its database metadata are recorded.
+     *
+     * @param connection connection to wrap
+     * @return recording connection
+     */
+    Connection wrap(final Connection connection) {
+        return createProxy(Connection.class, (proxy, method, args) -> {
+            final Object result = invoke(connection, method, args);
+            return "getMetaData".equals(method.getName()) ? wrapMetadata((DatabaseMetaData) result) : result;
+        });
+    }
+
+    private DatabaseMetaData wrapMetadata(final DatabaseMetaData metadata) {
+        return createProxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            ++this.roundTrips;
+            final long start = System.nanoTime();
+            final Object result = invoke(metadata, method, args);
+            addPhaseTime(method.getName(), System.nanoTime() - start);
+            return (result instanceof ResultSet) ? wrapResultSet((ResultSet) result, method.getName()) : result;
+        });
+    }
+
+    private ResultSet wrapResultSet(final ResultSet resultSet, final String phase) {
+        return createProxy(ResultSet.class, (proxy, method, args) -> {
+            final long start = System.nanoTime();
+            final Object result = invoke(resultSet, method, args);
+            addPhaseTime(phase, System.nanoTime() - start);
+            return result;
+        });
+    }
+
+    private void addPhaseTime(final String phase, final long nanos) {
+        final double millis = nanos / NANOS_PER_MILLI;
+        if ("getTables".equals(phase)) {
+            this.tableListingMillis += millis;
+        } else if ("getColumns".equals(phase)) {
+            this.columnReadingMillis += millis;
+        } else {
+            this.otherMetadataMillis += millis;
+        }
+    }
+
+    /**
+     * Record the total duration of a metadata read, attributing the time not spent in JDBC calls to mapping.
+     *
+     * @param startNanos start time in nanoseconds
+     * @param metadataMillisBefore milliseconds spent in JDBC calls before the read started
+     */
+    void recordMapping(final long startNanos, final double metadataMillisBefore) {
+        final double totalMillis = (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+        this.mappingMillis += totalMillis - (getMetadataMillis() - metadataMillisBefore);
+    }
+
+    /**
+     * @return milliseconds spent in JDBC metadata calls so far
+     */
+    double getMetadataMillis() {
+        return this.tableListingMillis + this.columnReadingMillis + this.otherMetadataMillis;
+    }
+
+    private static Object invoke(final Object delegate, final Method method, final Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private static <T> T createProxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(MetadataRoundTrips.class.getClassLoader(), new Class<?>[] { type },
+                handler));
+    }
+}
@@ -2,14 +2,21 @@ package com.exasol.adapter.adapternotes;
 
 import java.io.StringReader;
 import java.util.Collections;
+import java.util.Optional;
 
 import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.cache.BoundedCache;
+import com.exasol.adapter.metrics.Metrics;
 import com.exasol.errorreporting.ExaError;
 
 import jakarta.json.*;
 
 /**
  * Converts column adapter Notes into JSON format and back.
+ * <p>
+ * Parsed column adapter notes are cached by their JSON representation. A virtual schema only uses a handful of
+ * distinct notes (one per remote data type), so repeated lookups during SQL generation do not parse the JSON again.
+ * </p>
  */
 public final class ColumnAdapterNotesJsonConverter {
     /** Key for the jdbc type in the adapter notes */
@@ -17,7 +24,9 @@ public final class ColumnAdapterNotesJsonConverter {
     /** Key for the type namein the adapter notes */
     protected static final String TYPE_NAME = "typeName";
     private static final ColumnAdapterNotesJsonConverter COLUMN_ADAPTER_NOTES_JSON_CONVERTER = new ColumnAdapterNotesJsonConverter();
+    private static final int MAX_CACHED_NOTES = 1024;
     private final JsonBuilderFactory factory = Json.createBuilderFactory(Collections.emptyMap());
+    private final BoundedCache<String, ColumnAdapterNotes> parsedNotes = new BoundedCache<>(MAX_CACHED_NOTES);
 
     /**
      * Returns instance of {@link ColumnAdapterNotesJsonConverter} singleton class.
@@ -34,6 +43,10 @@ public final class ColumnAdapterNotesJsonConverter {
 
     /**
      * Converts column adapter notes into a JSON format.
+     * <p>
+     * This is called once per column while reading the metadata, so it is not timed on its own. Its duration is part of
+     * the column scan that calls it.
+     * </p>
      *
      * @param columnAdapterNotes column adapter notes to be converted
      * @return string representation of a JSON Object
@@ -63,6 +76,23 @@ public final class ColumnAdapterNotesJsonConverter {
                     .message("Adapter notes for column \"{{columnName|uq}}\" are empty or NULL.", columnName)
                     .mitigation("Please refresh the virtual schema.").toString());
         }
+        final Optional<ColumnAdapterNotes> cachedNotes = this.parsedNotes.get(adapterNotes);
+        if (cachedNotes.isPresent()) {
+            return cachedNotes.get();
+        }
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.ADAPTER_NOTES_CONVERSION);
+        final ColumnAdapterNotes notes;
+        try {
+            notes = parseColumnAdapterNotes(adapterNotes, columnName);
+        } finally {
+            timer.stop();
+        }
+        this.parsedNotes.put(adapterNotes, notes);
+        return notes;
+    }
+
+    private ColumnAdapterNotes parseColumnAdapterNotes(final String adapterNotes, final String columnName)
+            throws AdapterException {
         final JsonObject root;
         try (final JsonReader jr = Json.createReader(new StringReader(adapterNotes))) {
             root = jr.readObject();
@@ -0,0 +1,104 @@
+package com.exasol.adapter.adapternotes;
+
+import java.util.*;
+
+/**
+ * Holds the table adapter notes.
+ */
+public final class TableAdapterNotes {
+    private static final TableAdapterNotes EMPTY = new TableAdapterNotes(List.of());
+    private final List<TablePartition> partitions;
+    private final OptionalLong rowCount;
+
+    /**
+     * Create new table adapter notes.
+     *
+     * @param partitions partitions of the remote table
+     */
+    public TableAdapterNotes(final List<TablePartition> partitions) {
+        this(partitions, OptionalLong.empty());
+    }
+
+    /**
+     * Create new table adapter notes.
+     *
+     * @param partitions partitions of the remote table
+     * @param rowCount   estimated number of rows of the remote table
+     */
+    public TableAdapterNotes(final List<TablePartition> partitions, final OptionalLong rowCount) {
+        this.partitions = List.copyOf(partitions);
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Get table adapter notes without any entries.
+     *
+     * @return empty table adapter notes
+     */
+    public static TableAdapterNotes empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Get the partitions of the remote table.
+     *
+     * @return partitions or an empty list if the table is not partitioned
+     */
+    public List<TablePartition> getPartitions() {
+        return this.partitions;
+    }
+
+    /**
+     * Check if the remote table is partitioned.
+     *
+     * @return {@code true} if the adapter notes contain partitions
+     */
+    public boolean hasPartitions() {
+        return !this.partitions.isEmpty();
+    }
+
+    /**
+     * Get the estimated number of rows of the remote table.
+     *
+     * @return row count estimate or an empty optional if no statistics were read
+     */
+    public OptionalLong getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Create a copy of these adapter notes with a row count estimate.
+     *
+     * @param rowCount estimated number of rows of the remote table
+     * @return new table adapter notes
+     */
+    public TableAdapterNotes withRowCount(final long rowCount) {
+        return new TableAdapterNotes(this.partitions, OptionalLong.of(rowCount));
+    }
+
+    /**
+     * Check if the adapter notes have no entries.
+     *
+     * @return {@code true} if the adapter notes neither contain partitions nor statistics
+     */
+    public boolean isEmpty() {
+        return this.partitions.isEmpty() && this.rowCount.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TableAdapterNotes)) {
+            return false;
+        }
+        final TableAdapterNotes other = (TableAdapterNotes) object;
+        return this.partitions.equals(other.partitions) && this.rowCount.equals(other.rowCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.partitions, this.rowCount);
+    }
+}
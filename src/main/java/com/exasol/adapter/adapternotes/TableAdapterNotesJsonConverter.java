@@ -0,0 +1,118 @@
+package com.exasol.adapter.adapternotes;
+
+import java.io.StringReader;
+import java.util.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.errorreporting.ExaError;
+
+import jakarta.json.*;
+
+/**
+ * Converts table adapter notes into JSON format and back.
+ * <p>
+ * Tables without partitions and statistics keep empty adapter notes, so that snapshots of such schemas do not change.
+ * </p>
+ */
+public final class TableAdapterNotesJsonConverter {
+    /** Key for the list of partitions in the adapter notes */
+    static final String PARTITIONS = "partitions";
+    /** Key for the partition name in a partition entry */
+    static final String NAME = "name";
+    /** Key for the partition column in a partition entry */
+    static final String COLUMN = "column";
+    /** Key for the inclusive lower bound in a partition entry */
+    static final String LOWER_BOUND = "lowerBound";
+    /** Key for the exclusive upper bound in a partition entry */
+    static final String UPPER_BOUND = "upperBound";
+    /** Key for the estimated row count in the adapter notes */
+    static final String ROW_COUNT = "rowCount";
+    private static final TableAdapterNotesJsonConverter TABLE_ADAPTER_NOTES_JSON_CONVERTER = new TableAdapterNotesJsonConverter();
+    private final JsonBuilderFactory factory = Json.createBuilderFactory(Collections.emptyMap());
+
+    /**
+     * Returns instance of {@link TableAdapterNotesJsonConverter} singleton class.
+     *
+     * @return {@link TableAdapterNotesJsonConverter} instance
+     */
+    public static TableAdapterNotesJsonConverter getInstance() {
+        return TABLE_ADAPTER_NOTES_JSON_CONVERTER;
+    }
+
+    private TableAdapterNotesJsonConverter() {
+        // intentionally left blank
+    }
+
+    /**
+     * Converts table adapter notes into a JSON format.
+     *
+     * @param tableAdapterNotes table adapter notes to be converted
+     * @return string representation of a JSON Object or an empty string if the notes have no entries
+     */
+    public String convertToJson(final TableAdapterNotes tableAdapterNotes) {
+        if (tableAdapterNotes.isEmpty()) {
+            return "";
+        }
+        final JsonObjectBuilder root = this.factory.createObjectBuilder();
+        if (tableAdapterNotes.hasPartitions()) {
+            root.add(PARTITIONS, convertPartitionsToJson(tableAdapterNotes.getPartitions()));
+        }
+        tableAdapterNotes.getRowCount().ifPresent(rowCount -> root.add(ROW_COUNT, rowCount));
+        return root.build().toString();
+    }
+
+    private JsonArrayBuilder convertPartitionsToJson(final List<TablePartition> tablePartitions) {
+        final JsonArrayBuilder partitions = this.factory.createArrayBuilder();
+        for (final TablePartition partition : tablePartitions) {
+            final JsonObjectBuilder builder = this.factory.createObjectBuilder() //
+                    .add(NAME, partition.getName()) //
+                    .add(COLUMN, partition.getColumnName());
+            if (partition.getLowerBound() != null) {
+                builder.add(LOWER_BOUND, partition.getLowerBound());
+            }
+            if (partition.getUpperBound() != null) {
+                builder.add(UPPER_BOUND, partition.getUpperBound());
+            }
+            partitions.add(builder);
+        }
+        return partitions;
+    }
+
+    /**
+     * Converts JSON representation of table adapter notes into instance of {@link TableAdapterNotes} class.
+     *
+     * @param adapterNotes JSON representation of table adapter notes
+     * @param tableName    name of the table
+     * @return instance of {@link TableAdapterNotes}; empty if the adapter notes are empty or {@code NULL}
+     * @throws AdapterException if the adapter notes cannot be parsed
+     */
+    public TableAdapterNotes convertFromJsonToTableAdapterNotes(final String adapterNotes, final String tableName)
+            throws AdapterException {
+        if ((adapterNotes == null) || adapterNotes.isEmpty()) {
+            return TableAdapterNotes.empty();
+        }
+        try (final JsonReader jr = Json.createReader(new StringReader(adapterNotes))) {
+            final JsonObject root = jr.readObject();
+            final List<TablePartition> partitions = new ArrayList<>();
+            final List<JsonObject> partitionEntries = root.containsKey(PARTITIONS)
+                    ? root.getJsonArray(PARTITIONS).getValuesAs(JsonObject.class)
+                    : List.of();
+            for (final JsonObject partition : partitionEntries) {
+                partitions.add(TablePartition.builder() //
+                        .name(partition.getString(NAME)) //
+                        .columnName(partition.getString(COLUMN)) //
+                        .lowerBound(partition.getString(LOWER_BOUND, null)) //
+                        .upperBound(partition.getString(UPPER_BOUND, null)) //
+                        .build());
+            }
+            final OptionalLong rowCount = root.containsKey(ROW_COUNT)
+                    ? OptionalLong.of(root.getJsonNumber(ROW_COUNT).longValueExact())
+                    : OptionalLong.empty();
+            return new TableAdapterNotes(partitions, rowCount);
+        } catch (final RuntimeException exception) {
+            throw new AdapterException(ExaError.messageBuilder("E-VSCJDBC-62")
+                    .message("Could not parse the table adapter notes of table \"{{tableName|uq}}\".", tableName)
+                    .mitigation("Please refresh the virtual schema.").toString(), exception);
+        }
+    }
+}
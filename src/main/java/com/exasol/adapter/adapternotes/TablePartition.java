@@ -0,0 +1,157 @@
+package com.exasol.adapter.adapternotes;
+
+import java.util.Objects;
+
+/**
+ * Describes a partition of a remote table as a value range of the partition column.
+ * <p>
+ * The lower bound is inclusive, the upper bound exclusive. Missing bounds mean that the range is unbounded on that
+ * side.
+ * Bounds use the SQL literal format of the column type, e.g. {@code 42} for numbers and {@code 2024-01-31} for dates.
+ * </p>
+ */
+public final class TablePartition {
+    private final String name;
+    private final String columnName;
+    private final String lowerBound;
+    private final String upperBound;
+
+    private TablePartition(final Builder builder) {
+        this.name = builder.name;
+        this.columnName = builder.columnName;
+        this.lowerBound = builder.lowerBound;
+        this.upperBound = builder.upperBound;
+    }
+
+    /**
+     * Get the name of the partition on the remote data source.
+     *
+     * @return partition name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the name of the partition column as mapped to Exasol.
+     *
+     * @return partition column name
+     */
+    public String getColumnName() {
+        return this.columnName;
+    }
+
+    /**
+     * Get the inclusive lower bound of the partition.
+     *
+     * @return lower bound or {@code null} if the partition has no lower bound
+     */
+    public String getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Get the exclusive upper bound of the partition.
+     *
+     * @return upper bound or {@code null} if the partition has no upper bound
+     */
+    public String getUpperBound() {
+        return this.upperBound;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TablePartition)) {
+            return false;
+        }
+        final TablePartition other = (TablePartition) object;
+        return Objects.equals(this.name, other.name) && Objects.equals(this.columnName, other.columnName)
+                && Objects.equals(this.lowerBound, other.lowerBound)
+                && Objects.equals(this.upperBound, other.upperBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.columnName, this.lowerBound, this.upperBound);
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " [" + this.lowerBound + ", " + this.upperBound + ")";
+    }
+
+    /**
+     * Create a new builder for {@link TablePartition}.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link TablePartition}.
+     */
+    public static final class Builder {
+        private String name;
+        private String columnName;
+        private String lowerBound;
+        private String upperBound;
+
+        /**
+         * Set the partition name.
+         *
+         * @param name name of the partition on the remote data source
+         * @return builder instance for fluent programming
+         */
+        public Builder name(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Set the partition column name.
+         *
+         * @param columnName name of the partition column as mapped to Exasol
+         * @return builder instance for fluent programming
+         */
+        public Builder columnName(final String columnName) {
+            this.columnName = columnName;
+            return this;
+        }
+
+        /**
+         * Set the inclusive lower bound.
+         *
+         * @param lowerBound lower bound or {@code null} if the partition has no lower bound
+         * @return builder instance for fluent programming
+         */
+        public Builder lowerBound(final String lowerBound) {
+            this.lowerBound = lowerBound;
+            return this;
+        }
+
+        /**
+         * Set the exclusive upper bound.
+         *
+         * @param upperBound upper bound or {@code null} if the partition has no upper bound
+         * @return builder instance for fluent programming
+         */
+        public Builder upperBound(final String upperBound) {
+            this.upperBound = upperBound;
+            return this;
+        }
+
+        /**
+         * Build a new instance of the {@link TablePartition}.
+         *
+         * @return new instance of {@link TablePartition}
+         */
+        public TablePartition build() {
+            return new TablePartition(this);
+        }
+    }
+}
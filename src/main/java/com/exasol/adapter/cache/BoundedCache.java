@@ -0,0 +1,178 @@
+package com.exasol.adapter.cache;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Thread-safe cache with a maximum total weight of its entries.
+ * <p>
+ * Each entry has a weight, by default one per entry. When storing an entry exceeds the maximum weight, the
+ * least-recently-used entries are evicted. Entries can optionally expire after a time to live.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class BoundedCache<K, V> {
+    private final Map<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long defaultMaxWeight;
+    private final ToLongBiFunction<K, V> weigher;
+    private final LongSupplier nanoClock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long weight = 0;
+
+    /**
+     * Create a new instance of a {@link BoundedCache} with a maximum number of entries.
+     *
+     * @param maxEntries maximum number of cached entries
+     */
+    public BoundedCache(final int maxEntries) {
+        this(maxEntries, (key, value) -> 1, System::nanoTime);
+    }
+
+    /**
+     * Create a new instance of a {@link BoundedCache} with weighted entries.
+     *
+     * @param defaultMaxWeight maximum total weight used by {@link #put(Object, Object)}
+     * @param weigher          calculates the weight of an entry
+     * @param nanoClock        source of the current time in nanoseconds
+     */
+    public BoundedCache(final long defaultMaxWeight, final ToLongBiFunction<K, V> weigher,
+            final LongSupplier nanoClock) {
+        this.defaultMaxWeight = defaultMaxWeight;
+        this.weigher = weigher;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get a cached value and mark it as recently used.
+     * <p>
+     * Expired entries are removed and count as a miss.
+     * </p>
+     *
+     * @param key cache key
+     * @return cached value or empty if the key is not cached
+     */
+    public Optional<V> get(final K key) {
+        final Optional<V> value = lookup(key);
+        if (value.isPresent()) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    private synchronized Optional<V> lookup(final K key) {
+        final Entry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        } else if (entry.isExpired(this.nanoClock.getAsLong())) {
+            this.entries.remove(key);
+            this.weight -= entry.weight;
+            return Optional.empty();
+        } else {
+            return Optional.of(entry.value);
+        }
+    }
+
+    /**
+     * Cache a value that does not expire, limited by the default maximum weight.
+     *
+     * @param key   cache key
+     * @param value value to cache
+     */
+    public void put(final K key, final V value) {
+        store(key, new Entry<>(value, this.weigher.applyAsLong(key, value), false, 0), this.defaultMaxWeight);
+    }
+
+    /**
+     * Cache a value that expires after a time to live.
+     * <p>
+     * Entries that are heavier than the maximum weight on their own are not cached.
+     * </p>
+     *
+     * @param key        cache key
+     * @param value      value to cache
+     * @param timeToLive time after which the entry expires
+     * @param maxWeight  maximum total weight of the cached entries
+     */
+    public void put(final K key, final V value, final Duration timeToLive, final long maxWeight) {
+        final long expiresAt = this.nanoClock.getAsLong() + timeToLive.toNanos();
+        store(key, new Entry<>(value, this.weigher.applyAsLong(key, value), true, expiresAt), maxWeight);
+    }
+
+    private synchronized void store(final K key, final Entry<V> entry, final long maxWeight) {
+        if (entry.weight > maxWeight) {
+            return;
+        }
+        final Entry<V> previous = this.entries.put(key, entry);
+        if (previous != null) {
+            this.weight -= previous.weight;
+        }
+        this.weight += entry.weight;
+        final Iterator<Entry<V>> eldestEntries = this.entries.values().iterator();
+        while (this.weight > maxWeight) {
+            this.weight -= eldestEntries.next().weight;
+            eldestEntries.remove();
+        }
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    /**
+     * @return number of cached entries
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return total weight of the cached entries
+     */
+    public synchronized long getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * @return number of lookups that found a cached value
+     */
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * @return number of lookups that did not find a cached value
+     */
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final boolean expiring;
+        private final long expiresAt;
+
+        private Entry(final V value, final long weight, final boolean expiring, final long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiring = expiring;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return this.expiring && ((now - this.expiresAt) >= 0);
+        }
+    }
+}
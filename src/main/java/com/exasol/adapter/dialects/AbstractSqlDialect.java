@@ -8,10 +8,14 @@ import java.util.*;
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.dialects.rewriting.AbstractQueryRewriter;
+import com.exasol.adapter.dialects.rewriting.PushdownSqlCache;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationContext;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationVisitor;
 import com.exasol.adapter.dialects.validators.*;
+import com.exasol.adapter.jdbc.AbstractRemoteMetadataReader;
 import com.exasol.adapter.jdbc.ConnectionFactory;
+import com.exasol.adapter.jdbc.RemoteConnectionFactory;
 import com.exasol.adapter.jdbc.RemoteMetadataReader;
 import com.exasol.adapter.metadata.DataType;
 import com.exasol.adapter.metadata.SchemaMetadata;
@@ -25,7 +29,19 @@ import com.exasol.adapter.sql.*;
 public abstract class AbstractSqlDialect implements SqlDialect {
     private static final Set<String> COMMON_SUPPORTED_PROPERTIES = Set.of(CONNECTION_NAME_PROPERTY,
             TABLE_FILTER_PROPERTY, EXCLUDED_CAPABILITIES_PROPERTY, DEBUG_ADDRESS_PROPERTY, LOG_LEVEL_PROPERTY,
-            DataTypeDetection.STRATEGY_PROPERTY, TableCountLimit.MAXTABLES_PROPERTY, AdapterTelemetryConfiguration.TELEMETRY_PROPERTY);
+            DataTypeDetection.STRATEGY_PROPERTY, TableCountLimit.MAXTABLES_PROPERTY, AdapterTelemetryConfiguration.TELEMETRY_PROPERTY,
+            AbstractRemoteMetadataReader.BULK_COLUMN_SCAN_PROPERTY, MetadataReadParallelism.PARALLELISM_PROPERTY,
+            AbstractRemoteMetadataReader.METADATA_SNAPSHOT_DIRECTORY_PROPERTY,
+            AbstractRemoteMetadataReader.TARGETED_TABLE_SCAN_PROPERTY,
+            AbstractRemoteMetadataReader.TABLE_STATISTICS_PROPERTY,
+            ColumnDescriptionCacheSettings.CACHE_SIZE_PROPERTY, ColumnDescriptionCacheSettings.CACHE_TTL_PROPERTY,
+            ConnectionPoolSettings.POOL_SIZE_PROPERTY, ConnectionPoolSettings.IDLE_TIMEOUT_PROPERTY,
+            ConnectionPoolSettings.MAX_AGE_PROPERTY, TableFilter.INCLUDE_PATTERN_PROPERTY,
+            TableFilter.INCLUDE_REGEX_PROPERTY, TableFilter.EXCLUDE_PATTERN_PROPERTY,
+            TableFilter.EXCLUDE_REGEX_PROPERTY, RemoteConnectionFactory.KERBEROS_SUBJECT_REUSE_PROPERTY,
+            ImportPartitioning.PARTITION_COUNT_PROPERTY, ImportPartitioning.PARTITION_COLUMNS_PROPERTY,
+            PushdownCacheSettings.CACHE_MEMORY_PROPERTY, PushdownCacheSettings.CACHE_TTL_PROPERTY,
+            AbstractQueryRewriter.PREDICATE_NORMALIZATION_PROPERTY);
     /** Factory that creates JDBC connection to the data source */
     protected final ConnectionFactory connectionFactory;
     private final SupportedPropertiesValidator supportedProperties;
@@ -75,6 +91,17 @@ public abstract class AbstractSqlDialect implements SqlDialect {
                 .add(PropertyValidator.forStructureElement(supportsJdbcSchemas(), "schemas", SCHEMA_NAME_PROPERTY))
                 .add(DataTypeDetection.getValidator()) //
                 .add(TableCountLimit.getValidator()) //
+                .add(BooleanProperty.validator(AbstractRemoteMetadataReader.BULK_COLUMN_SCAN_PROPERTY)) //
+                .add(BooleanProperty.validator(AbstractRemoteMetadataReader.TARGETED_TABLE_SCAN_PROPERTY)) //
+                .add(BooleanProperty.validator(AbstractRemoteMetadataReader.TABLE_STATISTICS_PROPERTY)) //
+                .add(BooleanProperty.validator(RemoteConnectionFactory.KERBEROS_SUBJECT_REUSE_PROPERTY)) //
+                .add(BooleanProperty.validator(AbstractQueryRewriter.PREDICATE_NORMALIZATION_PROPERTY)) //
+                .add(MetadataReadParallelism.getValidator()) //
+                .add(ColumnDescriptionCacheSettings.getValidator()) //
+                .add(ConnectionPoolSettings.getValidator()) //
+                .add(TableFilter.getValidator()) //
+                .add(ImportPartitioning.getValidator()) //
+                .add(PushdownCacheSettings.getValidator()) //
                 .addAll(dialectSpecificPropertyValidators);
     }
 
@@ -152,7 +179,16 @@ public abstract class AbstractSqlDialect implements SqlDialect {
     @Override
     public String rewriteQuery(final SqlStatement statement, final List<DataType> selectListDataTypes,
             final ExaMetadata exaMetadata) throws AdapterException, SQLException {
-        return createQueryRewriter().rewrite(statement, selectListDataTypes, exaMetadata, this.properties);
+        final PushdownCacheSettings cacheSettings = PushdownCacheSettings.from(this.properties);
+        final Optional<String> cacheKey = cacheSettings.isEnabled()
+                ? PushdownSqlCache.createKey(getClass().getName(), this.properties, exaMetadata.getDatabaseVersion(),
+                        statement, selectListDataTypes)
+                : Optional.empty();
+        if (cacheKey.isEmpty()) {
+            return createQueryRewriter().rewrite(statement, selectListDataTypes, exaMetadata, this.properties);
+        }
+        return PushdownSqlCache.getInstance().getOrRewrite(cacheKey.get(), cacheSettings,
+                () -> createQueryRewriter().rewrite(statement, selectListDataTypes, exaMetadata, this.properties));
     }
 
     @Override
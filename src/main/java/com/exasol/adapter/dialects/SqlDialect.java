@@ -8,6 +8,7 @@ import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.capabilities.Capabilities;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationContext;
+import com.exasol.adapter.jdbc.ColumnDescriptionStrategy;
 import com.exasol.adapter.metadata.DataType;
 import com.exasol.adapter.metadata.SchemaMetadata;
 import com.exasol.adapter.properties.PropertyValidationException;
@@ -35,6 +36,10 @@ public interface SqlDialect {
 
     /**
      * Get the capabilities the SQL dialect supports.
+     * <p>
+     * The adapter caches the capabilities per dialect, adapter properties and Exasol version for the lifetime of the
+     * UDF VM. The capabilities must therefore only depend on these, not e.g. on the state of the remote data source.
+     * </p>
      *
      * @return set of capabilities supported by this SQL-Dialect
      */
@@ -237,6 +242,25 @@ public interface SqlDialect {
      */
     public void validateProperties() throws PropertyValidationException;
 
+    /**
+     * Get the strategies for reading the result columns of a push-down query from the remote data source.
+     * <p>
+     * The strategies are tried in the given order until one of them provides the metadata, so dialects should list
+     * the cheapest strategy that works for their JDBC driver first. By default only the metadata of the prepared
+     * statement is read, so no query is executed on the remote data source.
+     * </p>
+     * <p>
+     * Dialects whose drivers return no metadata for prepared statements can add the zero-row strategies. These execute
+     * the push-down query wrapped in a derived table, which some databases reject if the select list contains
+     * duplicate or unnamed columns, e.g. two {@code COUNT(*)}. The next strategy is tried in that case.
+     * </p>
+     *
+     * @return strategies in order of preference
+     */
+    public default List<ColumnDescriptionStrategy> getColumnDescriptionStrategies() {
+        return List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT);
+    }
+
     /**
      * Rewrite the given query so that data from the remote data source is imported into Exasol when that query is
      * executed on the Virtual Schema frontend.
@@ -1,18 +1,24 @@
 package com.exasol.adapter.dialects.rewriting;
 
 import java.sql.SQLException;
-import java.util.List;
+import java.util.*;
 import java.util.logging.Logger;
 
 import com.exasol.*;
 import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.capabilities.Capabilities;
+import com.exasol.adapter.capabilities.PredicateCapability;
 import com.exasol.adapter.dialects.*;
 import com.exasol.adapter.jdbc.ConnectionDefinitionBuilder;
+import com.exasol.adapter.jdbc.ConnectionFactory;
 import com.exasol.adapter.jdbc.RemoteMetadataReader;
 import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metrics.Metrics;
+import com.exasol.adapter.metrics.QueryRewriteEvent;
 import com.exasol.adapter.properties.DataTypeDetection;
 import com.exasol.adapter.properties.DataTypeDetection.Strategy;
+import com.exasol.adapter.properties.ImportPartitioning;
 import com.exasol.adapter.sql.SqlStatement;
 import com.exasol.errorreporting.ExaError;
 
@@ -20,6 +26,10 @@ import com.exasol.errorreporting.ExaError;
  * Abstract implementation of {@link QueryRewriter}.
  */
 public abstract class AbstractQueryRewriter implements QueryRewriter {
+        /**
+         * Property that enables simplifying the filter predicates of push-down queries before SQL generation.
+         */
+        public static final String PREDICATE_NORMALIZATION_PROPERTY = "PREDICATE_NORMALIZATION";
         private static final Logger LOGGER = Logger.getLogger(AbstractQueryRewriter.class.getName());
         /** Dialect implementation */
         protected final SqlDialect dialect;
@@ -46,21 +56,27 @@ public abstract class AbstractQueryRewriter implements QueryRewriter {
         public String rewrite(final SqlStatement statement, final List<DataType> selectListDataTypes,
                         final ExaMetadata exaMetadata, final AdapterProperties properties)
                         throws AdapterException, SQLException {
-                final String pushdownQuery = createPushdownQuery(statement, properties);
+                final QueryRewriteEvent event = new QueryRewriteEvent();
+                event.begin();
+                final SqlGenerator sqlGenerator = createSqlGenerator(properties);
+                final SqlStatement pushdownStatement = normalizePredicates(sqlGenerator, statement, properties);
+                final String pushdownQuery = createPushdownQuery(sqlGenerator, pushdownStatement);
                 final ExaConnectionInformation exaConnectionInformation = getConnectionInformation(exaMetadata,
                                 properties);
                 final String connectionDefinition = this.connectionDefinitionBuilder
                                 .buildConnectionDefinition(properties, exaConnectionInformation);
 
                 if (DataTypeDetection.from(properties).getStrategy() == Strategy.EXASOL_CALCULATED) {
-                        String importStatement;
-                        if (!selectListDataTypes.isEmpty()) {
-                                importStatement = generateImportStatement(connectionDefinition, selectListDataTypes,
-                                                pushdownQuery);
-                        } else {
-                                importStatement = generateImportStatement(connectionDefinition, pushdownQuery);
-                        }
+                        final List<String> partitionQueries = createPartitionQueries(sqlGenerator,
+                                        pushdownStatement, properties);
+                        final String importStatement = partitionQueries.isEmpty()
+                                        ? generateImportStatement(connectionDefinition, selectListDataTypes,
+                                                        pushdownQuery, properties)
+                                        : generatePartitionedImportStatement(connectionDefinition,
+                                                        selectListDataTypes, pushdownQuery, partitionQueries,
+                                                        properties);
                         LOGGER.finer(() -> "Import push-down statement:\n" + importStatement);
+                        commitRewriteEvent(event, selectListDataTypes, pushdownQuery, importStatement);
                         return importStatement;
                 } else {
                         throw new AdapterException(ExaError.messageBuilder("E-VSCJDBC-46").message(
@@ -70,17 +86,105 @@ public abstract class AbstractQueryRewriter implements QueryRewriter {
                 }
         }
 
-        private String createPushdownQuery(final SqlStatement statement, final AdapterProperties properties)
-                        throws AdapterException {
+        private void commitRewriteEvent(final QueryRewriteEvent event, final List<DataType> selectListDataTypes,
+                        final String pushdownQuery, final String importStatement) {
+                event.end();
+                if (event.shouldCommit()) {
+                        event.rewriter = getClass().getName();
+                        event.columnCount = (selectListDataTypes == null) ? 0 : selectListDataTypes.size();
+                        event.pushdownSqlLength = pushdownQuery.length();
+                        event.sqlLength = importStatement.length();
+                        event.commit();
+                }
+        }
+
+        private SqlGenerator createSqlGenerator(final AdapterProperties properties) {
                 final SqlGenerationContext context = new SqlGenerationContext(properties.getCatalogName(),
                                 properties.getSchemaName(), false);
-                final SqlGenerator sqlGenerator = this.dialect.getSqlGenerator(context);
-                final String pushdownQuery = sqlGenerator.generateSqlFor(statement);
+                return this.dialect.getSqlGenerator(context);
+        }
+
+        private SqlStatement normalizePredicates(final SqlGenerator sqlGenerator, final SqlStatement statement,
+                        final AdapterProperties properties) throws AdapterException {
+                if (!properties.isEnabled(PREDICATE_NORMALIZATION_PROPERTY)) {
+                        return statement;
+                }
+                final Metrics.Timer timer = Metrics.startTimer(Metrics.PREDICATE_NORMALIZATION);
+                try {
+                        return new PredicateNormalizer(sqlGenerator, supportsInList()).normalize(statement);
+                } finally {
+                        timer.stop();
+                }
+        }
+
+        private boolean supportsInList() {
+                final Capabilities capabilities = this.dialect.getCapabilities();
+                return (capabilities != null)
+                                && capabilities.getPredicateCapabilities().contains(PredicateCapability.IN_CONSTLIST);
+        }
+
+        private String createPushdownQuery(final SqlGenerator sqlGenerator, final SqlStatement statement)
+                        throws AdapterException {
+                final Metrics.Timer timer = Metrics.startTimer(Metrics.SQL_GENERATION);
+                final String pushdownQuery;
+                try {
+                        pushdownQuery = sqlGenerator.generateSqlFor(statement);
+                } finally {
+                        timer.stop();
+                }
                 LOGGER.finer(() -> "Push-down query generated with " + sqlGenerator.getClass().getSimpleName() + ":\n"
                                 + pushdownQuery);
                 return pushdownQuery;
         }
 
+        private List<String> createPartitionQueries(final SqlGenerator sqlGenerator, final SqlStatement statement,
+                        final AdapterProperties properties) throws AdapterException, SQLException {
+                final ImportPartitioning partitioning = ImportPartitioning.from(properties);
+                if (!partitioning.isEnabled()) {
+                        return Collections.emptyList();
+                }
+                final ImportPartitioner partitioner = new ImportPartitioner(partitioning);
+                final Optional<List<SqlStatement>> catalogPartitions = partitioner
+                                .splitByCatalogPartitions(statement);
+                if (catalogPartitions.isPresent()) {
+                        return createPushdownQueries(sqlGenerator, catalogPartitions.get());
+                }
+                final ConnectionFactory connectionFactory = getConnectionFactory();
+                final Optional<ImportPartitioner.PartitionColumn> column = (connectionFactory == null)
+                                ? Optional.empty()
+                                : partitioner.findPartitionColumn(statement);
+                if (column.isEmpty()) {
+                        LOGGER.fine("Push-down query cannot be partitioned.");
+                        return Collections.emptyList();
+                }
+                return createPushdownQueries(sqlGenerator,
+                                partitioner.split(column.get(), sqlGenerator, connectionFactory.getConnection()));
+        }
+
+        private List<String> createPushdownQueries(final SqlGenerator sqlGenerator,
+                        final List<SqlStatement> partitions) throws AdapterException {
+                final List<String> partitionQueries = new ArrayList<>();
+                for (final SqlStatement partition : partitions) {
+                        partitionQueries.add(createPushdownQuery(sqlGenerator, partition));
+                }
+                return partitionQueries;
+        }
+
+        /**
+         * Get the factory for connections to the remote data source.
+         * <p>
+         * The connection is used to read the value range of the partition column if push-down queries are split into
+         * multiple {@code IMPORT} statements with property
+         * {@value ImportPartitioning#PARTITION_COUNT_PROPERTY}. The default implementation returns {@code null}, so
+         * that push-down queries are only split along the partitions recorded in the table adapter notes.
+         * </p>
+         *
+         * @return connection factory or {@code null} if the rewriter has no access to the remote data source
+         */
+        protected ConnectionFactory getConnectionFactory() {
+                return null;
+        }
+
         /**
          * Read the connection information from the metadata.
          *
@@ -105,6 +209,56 @@ public abstract class AbstractQueryRewriter implements QueryRewriter {
                 return null;
         }
 
+        /**
+         * Generate an IMPORT statement with access to the adapter properties.
+         * <p>
+         * The default implementation uses {@link #generateImportStatement(String, List, String)} if the data types of
+         * the result set are known and {@link #generateImportStatement(String, String)} otherwise.
+         *
+         * @param connectionDefinition connection definition to be used when connecting to the external source
+         * @param selectListDataTypes  expected data types of result set, empty if unknown
+         * @param pushdownQuery        source data for the `IMPORT...FROM` statement
+         * @param properties           adapter properties
+         * @return IMPORT statement to be executed on the Exasol database
+         * @throws SQLException if any problem occurs
+         */
+        protected String generateImportStatement(final String connectionDefinition,
+                        final List<DataType> selectListDataTypes, final String pushdownQuery,
+                        final AdapterProperties properties) throws SQLException {
+                if (!selectListDataTypes.isEmpty()) {
+                        return generateImportStatement(connectionDefinition, selectListDataTypes, pushdownQuery);
+                } else {
+                        return generateImportStatement(connectionDefinition, pushdownQuery);
+                }
+        }
+
+        /**
+         * Generate an IMPORT statement that loads a push-down query split into value ranges of a partition column.
+         * <p>
+         * The default implementation combines one IMPORT statement per partition with {@code UNION ALL}, so that
+         * Exasol can run them in parallel.
+         * </p>
+         *
+         * @param connectionDefinition connection definition to be used when connecting to the external source
+         * @param selectListDataTypes  expected data types of result set, empty if unknown
+         * @param pushdownQuery        push-down query before partitioning
+         * @param partitionQueries     push-down queries of the partitions
+         * @param properties           adapter properties
+         * @return IMPORT statement to be executed on the Exasol database
+         * @throws SQLException if any problem occurs
+         */
+        protected String generatePartitionedImportStatement(final String connectionDefinition,
+                        final List<DataType> selectListDataTypes, final String pushdownQuery,
+                        final List<String> partitionQueries, final AdapterProperties properties)
+                        throws SQLException {
+                final StringJoiner union = new StringJoiner(" UNION ALL ");
+                for (final String partitionQuery : partitionQueries) {
+                        union.add("SELECT * FROM (" + generateImportStatement(connectionDefinition,
+                                        selectListDataTypes, partitionQuery, properties) + ")");
+                }
+                return union.toString();
+        }
+
         /**
          * This method provides backwards compatibility. A class extending the {@link AbstractQueryRewriter} has two
          * options:
@@ -11,6 +11,8 @@ import com.exasol.adapter.jdbc.*;
  * @see <a href="https://docs.exasol.com/sql/import.htm">https://docs.exasol.com/sql/import.htm</a>
  */
 public class ImportFromJDBCQueryRewriter extends AbstractQueryRewriter {
+    private final ConnectionFactory connectionFactory;
+
     /**
      * Construct a new instance of {@link ImportFromJDBCQueryRewriter}.
      *
@@ -30,7 +32,28 @@ public class ImportFromJDBCQueryRewriter extends AbstractQueryRewriter {
      */
     public ImportFromJDBCQueryRewriter(final SqlDialect dialect, final RemoteMetadataReader remoteMetadataReader,
             final ConnectionDefinitionBuilder connectionDefinitionBuilder) {
+        this(dialect, remoteMetadataReader, connectionDefinitionBuilder, null);
+    }
+
+    /**
+     * Construct a new instance of {@link ImportFromJDBCQueryRewriter} that can split push-down queries into multiple
+     * range-filtered {@code IMPORT} statements.
+     *
+     * @param dialect                     dialect
+     * @param remoteMetadataReader        remote metadata reader
+     * @param connectionDefinitionBuilder custom connection definition builder
+     * @param connectionFactory           factory for the JDBC connection used to read the value range of partition
+     *                                    columns
+     */
+    public ImportFromJDBCQueryRewriter(final SqlDialect dialect, final RemoteMetadataReader remoteMetadataReader,
+            final ConnectionDefinitionBuilder connectionDefinitionBuilder, final ConnectionFactory connectionFactory) {
         super(dialect, remoteMetadataReader, connectionDefinitionBuilder);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected ConnectionFactory getConnectionFactory() {
+        return this.connectionFactory;
     }
 
     @Override
@@ -2,11 +2,15 @@ package com.exasol.adapter.dialects.rewriting;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.StringJoiner;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 
+import com.exasol.adapter.AdapterProperties;
 import com.exasol.adapter.dialects.SqlDialect;
 import com.exasol.adapter.jdbc.*;
 import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.properties.ColumnDescriptionCacheSettings;
 
 /**
  * Implementation of {@link AbstractQueryRewriter} to generate {@code IMPORT INTO (<columns description>) FROM JDBC}
@@ -46,6 +50,76 @@ public class ImportIntoTemporaryTableQueryRewriter extends AbstractQueryRewriter
         this.connectionFactory = connectionFactory;
     }
 
+    @Override
+    protected String generateImportStatement(final String connectionDefinition,
+            final List<DataType> selectListDataTypes, final String pushdownQuery, final AdapterProperties properties)
+            throws SQLException {
+        final ColumnDescriptionCacheSettings cacheSettings = ColumnDescriptionCacheSettings.from(properties);
+        if (selectListDataTypes.isEmpty() && cacheSettings.isEnabled()) {
+            final String columnsDescription = describeColumnsWithCache(connectionDefinition, pushdownQuery,
+                    properties, cacheSettings);
+            return generateImportStatement(columnsDescription, connectionDefinition, pushdownQuery);
+        } else {
+            return super.generateImportStatement(connectionDefinition, selectListDataTypes, pushdownQuery,
+                    properties);
+        }
+    }
+
+    private String describeColumnsWithCache(final String connectionDefinition, final String pushdownQuery,
+            final AdapterProperties properties, final ColumnDescriptionCacheSettings cacheSettings)
+            throws SQLException {
+        final String key = ColumnDescriptionCache.createKey(connectionDefinition, createMappingFingerprint(properties),
+                pushdownQuery);
+        return ColumnDescriptionCache.getInstance().getOrDescribe(key, cacheSettings,
+                () -> createColumnsDescriptionFromQuery(pushdownQuery));
+    }
+
+    /**
+     * Generate an IMPORT statement per partition with {@code UNION ALL}.
+     * <p>
+     * The columns are described once for the push-down query before partitioning and used for all partitions.
+     * </p>
+     */
+    @Override
+    protected String generatePartitionedImportStatement(final String connectionDefinition,
+            final List<DataType> selectListDataTypes, final String pushdownQuery, final List<String> partitionQueries,
+            final AdapterProperties properties) throws SQLException {
+        final String columnsDescription = describeColumns(connectionDefinition, selectListDataTypes, pushdownQuery,
+                properties);
+        final StringJoiner union = new StringJoiner(" UNION ALL ");
+        for (final String partitionQuery : partitionQueries) {
+            union.add("SELECT * FROM (" + generateImportStatement(columnsDescription, connectionDefinition,
+                    partitionQuery) + ")");
+        }
+        return union.toString();
+    }
+
+    private String describeColumns(final String connectionDefinition, final List<DataType> selectListDataTypes,
+            final String pushdownQuery, final AdapterProperties properties) throws SQLException {
+        final ColumnDescriptionCacheSettings cacheSettings = ColumnDescriptionCacheSettings.from(properties);
+        if (!selectListDataTypes.isEmpty()) {
+            return SqlGenerationHelper.createColumnsDescriptionFromDataTypes(selectListDataTypes);
+        } else if (cacheSettings.isEnabled()) {
+            return describeColumnsWithCache(connectionDefinition, pushdownQuery, properties, cacheSettings);
+        } else {
+            return createColumnsDescriptionFromQuery(pushdownQuery);
+        }
+    }
+
+    @Override
+    protected ConnectionFactory getConnectionFactory() {
+        return this.connectionFactory;
+    }
+
+    private String createMappingFingerprint(final AdapterProperties properties) {
+        final StringBuilder builder = new StringBuilder(this.dialect.getName()).append('\n')
+                .append(this.remoteMetadataReader.getColumnMetadataReader().getClass().getName());
+        for (final String key : new TreeSet<>(properties.keySet())) {
+            builder.append('\n').append(key).append('=').append(properties.get(key));
+        }
+        return builder.toString();
+    }
+
     @Override
     protected String generateImportStatement(final String connectionDefinition,
             final List<DataType> selectListDataTypes, final String pushdownQuery) throws SQLException {
@@ -72,7 +146,8 @@ public class ImportIntoTemporaryTableQueryRewriter extends AbstractQueryRewriter
     private String createColumnsDescriptionFromQuery(final String query) throws SQLException {
         final ColumnMetadataReader columnMetadataReader = this.remoteMetadataReader.getColumnMetadataReader();
         final ResultSetMetadataReader resultSetMetadataReader = new ResultSetMetadataReader(
-                this.connectionFactory.getConnection(), columnMetadataReader);
+                this.connectionFactory.getConnection(), columnMetadataReader,
+                this.dialect.getColumnDescriptionStrategies());
         final String columnsDescription = resultSetMetadataReader.describeColumns(query);
         LOGGER.finer(() -> "Import columns: " + columnsDescription);
         return columnsDescription;
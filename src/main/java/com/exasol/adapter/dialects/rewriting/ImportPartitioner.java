@@ -0,0 +1,557 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.adapternotes.*;
+import com.exasol.adapter.dialects.SqlGenerator;
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.properties.ImportPartitioning;
+import com.exasol.adapter.sql.*;
+
+/**
+ * Splits a push-down statement into statements that each select a value range of a partition column.
+ * <p>
+ * If the table adapter notes contain partitions discovered in the catalog of the remote data source, the statement is
+ * split along the partition boundaries. Otherwise the value range is read from the remote data source. If the table
+ * statistics contain a row count estimate, small tables are split into fewer statements.
+ * </p>
+ * <p>
+ * Only statements that read a single table row by row can be split, i.e. statements without join, aggregation,
+ * {@code ORDER BY} and {@code LIMIT}. The partition column is either configured for the table or the first numeric or
+ * date column of the table. The split points divide the range between the lowest and highest value of the column in
+ * the rows matching the filter of the statement into equally wide ranges. The first range also contains {@code NULL}
+ * values, so that the partitions together always return all rows, even if the data changed after reading the value
+ * range. Tables with an estimated row count of at most {@value #MIN_ROWS_PER_PARTITION} are not split, so that the
+ * value range is not read for them.
+ * </p>
+ */
+final class ImportPartitioner {
+    private static final Logger LOGGER = Logger.getLogger(ImportPartitioner.class.getName());
+    private static final long MIN_ROWS_PER_PARTITION = 100_000L;
+    private final ImportPartitioning partitioning;
+
+    /**
+     * Create a new instance of an {@link ImportPartitioner}.
+     *
+     * @param partitioning partitioning settings
+     */
+    ImportPartitioner(final ImportPartitioning partitioning) {
+        this.partitioning = partitioning;
+    }
+
+    /**
+     * Find the partition column of a push-down statement.
+     *
+     * @param statement push-down statement
+     * @return partition column or an empty optional if the statement cannot be split
+     * @throws AdapterException if the table adapter notes cannot be parsed
+     */
+    Optional<PartitionColumn> findPartitionColumn(final SqlStatement statement) throws AdapterException {
+        final Optional<SqlStatementSelect> splittableSelect = findSplittableSelect(statement);
+        if (splittableSelect.isEmpty()) {
+            return Optional.empty();
+        }
+        final SqlStatementSelect select = splittableSelect.get();
+        final SqlTable table = (SqlTable) select.getFromClause();
+        final int partitionCount = getPartitionCount(table, readTableAdapterNotes(table));
+        if (partitionCount < 2) {
+            return Optional.empty();
+        }
+        final Optional<String> configuredColumn = this.partitioning.getPartitionColumn(table.getName());
+        final List<ColumnMetadata> columns = table.getMetadata().getColumns();
+        for (int i = 0; i < columns.size(); ++i) {
+            final ColumnMetadata column = columns.get(i);
+            if (configuredColumn.map(column.getName()::equals).orElseGet(() -> isPartitionable(column.getType()))) {
+                if (isPartitionable(column.getType())) {
+                    return Optional.of(new PartitionColumn(select, table, i, column, partitionCount));
+                }
+                LOGGER.fine(() -> "Partition column " + column.getName() + " of type " + column.getType()
+                        + " is neither numeric nor a date.");
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static TableAdapterNotes readTableAdapterNotes(final SqlTable table) throws AdapterException {
+        return TableAdapterNotesJsonConverter.getInstance()
+                .convertFromJsonToTableAdapterNotes(table.getMetadata().getAdapterNotes(), table.getName());
+    }
+
+    /**
+     * Get the number of statements a table is split into. If the row count of the table is known from its statistics,
+     * each statement reads at least {@value #MIN_ROWS_PER_PARTITION} rows, so that small tables keep a single
+     * {@code IMPORT}.
+     */
+    private int getPartitionCount(final SqlTable table, final TableAdapterNotes notes) {
+        final int configuredCount = this.partitioning.getPartitionCount();
+        if (notes.getRowCount().isEmpty()) {
+            return configuredCount;
+        }
+        final long rowCount = notes.getRowCount().getAsLong();
+        final long usefulCount = (rowCount + MIN_ROWS_PER_PARTITION - 1) / MIN_ROWS_PER_PARTITION;
+        final int partitionCount = (int) Math.max(1, Math.min(configuredCount, usefulCount));
+        if (partitionCount < configuredCount) {
+            LOGGER.fine(() -> "Reducing partitions of table " + table.getName() + " with an estimated " + rowCount
+                    + " rows to " + partitionCount + ".");
+        }
+        return partitionCount;
+    }
+
+    private static Optional<SqlStatementSelect> findSplittableSelect(final SqlStatement statement) {
+        if (!(statement instanceof SqlStatementSelect)) {
+            return Optional.empty();
+        }
+        final SqlStatementSelect select = (SqlStatementSelect) statement;
+        if (!(select.getFromClause() instanceof SqlTable) || select.hasGroupBy() || select.hasHaving()
+                || select.hasOrderBy() || select.hasLimit() || !isRowWise(select.getSelectList())) {
+            return Optional.empty();
+        }
+        return Optional.of(select);
+    }
+
+    private static boolean isRowWise(final SqlSelectList selectList) {
+        return !selectList.hasExplicitColumnsList()
+                || selectList.getExpressions().stream().allMatch(ImportPartitioner::isRowWise);
+    }
+
+    private static boolean isRowWise(final SqlNode node) {
+        if (node instanceof SqlFunctionScalar) {
+            return ((SqlFunctionScalar) node).getArguments().stream().allMatch(ImportPartitioner::isRowWise);
+        } else if (node instanceof SqlFunctionScalarCast) {
+            return isRowWise(((SqlFunctionScalarCast) node).getArgument());
+        } else {
+            return (node instanceof SqlColumn) || (node instanceof SqlLiteralBool) || (node instanceof SqlLiteralDate)
+                    || (node instanceof SqlLiteralDouble) || (node instanceof SqlLiteralExactnumeric)
+                    || (node instanceof SqlLiteralNull) || (node instanceof SqlLiteralString)
+                    || (node instanceof SqlLiteralTimestamp) || (node instanceof SqlLiteralTimestampUtc)
+                    || (node instanceof SqlLiteralInterval);
+        }
+    }
+
+    private static boolean isPartitionable(final DataType type) {
+        switch (type.getExaDataType()) {
+        case DECIMAL:
+        case DOUBLE:
+        case DATE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Split a push-down statement into statements that each select a value range of the partition column.
+     *
+     * @param column       partition column
+     * @param sqlGenerator generator for the query reading the value range
+     * @param connection   connection to the remote data source
+     * @return statements selecting the partitions or an empty list if the value range cannot be split
+     * @throws AdapterException if generating the range query fails
+     * @throws SQLException     if reading the value range fails
+     */
+    List<SqlStatement> split(final PartitionColumn column, final SqlGenerator sqlGenerator,
+            final Connection connection) throws AdapterException, SQLException {
+        final String rangeQuery = createRangeQuery(column, sqlGenerator);
+        final List<Object> splitPoints = readSplitPoints(column, rangeQuery, connection);
+        if (splitPoints.isEmpty()) {
+            LOGGER.fine(() -> "Value range of partition column " + column.getName() + " cannot be split.");
+            return List.of();
+        }
+        final List<SqlStatement> partitions = new ArrayList<>(splitPoints.size() + 1);
+        for (int i = 0; i <= splitPoints.size(); ++i) {
+            partitions.add(createPartition(column, splitPoints, i));
+        }
+        LOGGER.fine(() -> "Split push-down on column " + column.getName() + " at " + splitPoints + ".");
+        return partitions;
+    }
+
+    /**
+     * The range query applies the filter of the push-down statement, so that the split points divide the rows the
+     * statement actually selects instead of the whole table.
+     */
+    private static String createRangeQuery(final PartitionColumn column, final SqlGenerator sqlGenerator)
+            throws AdapterException {
+        final String columnSql = sqlGenerator.generateSqlFor(column.createColumnNode());
+        final StringBuilder rangeQuery = new StringBuilder("SELECT MIN(").append(columnSql).append("), MAX(")
+                .append(columnSql).append(") FROM ").append(sqlGenerator.generateSqlFor(column.table));
+        if (column.select.hasFilter()) {
+            rangeQuery.append(" WHERE ").append(sqlGenerator.generateSqlFor(column.select.getWhereClause()));
+        }
+        return rangeQuery.toString();
+    }
+
+    /**
+     * Split a push-down statement along the partitions recorded in the adapter notes of the table.
+     * <p>
+     * Partitions that cannot contain rows matching the conjuncts of the filter on the partition column are pruned. The
+     * remaining partitions are grouped into at most as many consecutive groups as configured, and each group becomes
+     * one statement selecting the value range from the lower bound of its first partition.
+     * </p>
+     *
+     * @param statement push-down statement
+     * @return statements selecting the partition groups, an empty list if the statement should not be split or an empty
+     *         optional if the table has no usable catalog partitions
+     * @throws AdapterException if the table adapter notes cannot be parsed
+     */
+    Optional<List<SqlStatement>> splitByCatalogPartitions(final SqlStatement statement) throws AdapterException {
+        final Optional<SqlStatementSelect> splittableSelect = findSplittableSelect(statement);
+        if (splittableSelect.isEmpty()) {
+            return Optional.empty();
+        }
+        final SqlStatementSelect select = splittableSelect.get();
+        final SqlTable table = (SqlTable) select.getFromClause();
+        final TableAdapterNotes notes = readTableAdapterNotes(table);
+        if (!notes.hasPartitions()) {
+            return Optional.empty();
+        }
+        final int partitionCount = getPartitionCount(table, notes);
+        if (partitionCount < 2) {
+            return Optional.of(List.of());
+        }
+        final String columnName = notes.getPartitions().get(0).getColumnName();
+        final Optional<PartitionColumn> column = findCatalogPartitionColumn(select, table, columnName,
+                partitionCount);
+        if (column.isEmpty()) {
+            return Optional.empty();
+        }
+        final List<BigDecimal[]> bounds = new ArrayList<>();
+        for (final TablePartition partition : notes.getPartitions()) {
+            if (!columnName.equals(partition.getColumnName())) {
+                LOGGER.fine(() -> "Partitions of table " + table.getName() + " use different columns.");
+                return Optional.empty();
+            }
+            try {
+                bounds.add(new BigDecimal[] { parseBound(column.get(), partition.getLowerBound()),
+                        parseBound(column.get(), partition.getUpperBound()) });
+            } catch (final DateTimeParseException | NumberFormatException exception) {
+                LOGGER.fine(() -> "Bounds of partition " + partition + " cannot be parsed.");
+                return Optional.empty();
+            }
+        }
+        return Optional.of(splitAlongPartitions(column.get(), bounds));
+    }
+
+    private static Optional<PartitionColumn> findCatalogPartitionColumn(final SqlStatementSelect select,
+            final SqlTable table, final String columnName, final int partitionCount) {
+        final List<ColumnMetadata> columns = table.getMetadata().getColumns();
+        for (int i = 0; i < columns.size(); ++i) {
+            final ColumnMetadata column = columns.get(i);
+            if (column.getName().equals(columnName)) {
+                return isPartitionable(column.getType())
+                        ? Optional.of(new PartitionColumn(select, table, i, column, partitionCount))
+                        : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static BigDecimal parseBound(final PartitionColumn column, final String bound) {
+        if (bound == null) {
+            return null;
+        }
+        return column.isDate() ? BigDecimal.valueOf(LocalDate.parse(bound).toEpochDay()) : new BigDecimal(bound);
+    }
+
+    private static List<SqlStatement> splitAlongPartitions(final PartitionColumn column,
+            final List<BigDecimal[]> bounds) {
+        final ValueRange filterRange = new ValueRange();
+        if (column.select.hasFilter()) {
+            restrict(filterRange, column, column.select.getWhereClause());
+        }
+        final List<BigDecimal[]> remaining = new ArrayList<>();
+        for (final BigDecimal[] partitionBounds : bounds) {
+            if (filterRange.overlaps(partitionBounds[0], partitionBounds[1])) {
+                remaining.add(partitionBounds);
+            }
+        }
+        remaining.sort(Comparator.comparing((final BigDecimal[] partitionBounds) -> partitionBounds[0],
+                Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder())));
+        final int groupCount = Math.min(column.partitionCount, remaining.size());
+        final List<Object> splitPoints = new ArrayList<>();
+        BigDecimal previous = null;
+        for (int group = 1; group < groupCount; ++group) {
+            final BigDecimal point = remaining.get((group * remaining.size()) / groupCount)[0];
+            if ((point != null) && ((previous == null) || (point.compareTo(previous) > 0))) {
+                splitPoints.add(column.isDate() ? LocalDate.ofEpochDay(point.longValueExact()) : point);
+                previous = point;
+            }
+        }
+        LOGGER.fine(() -> remaining.size() + " of " + bounds.size() + " partitions on column " + column.getName()
+                + " remain after pruning, split at " + splitPoints + ".");
+        final List<SqlStatement> partitions = new ArrayList<>(splitPoints.size() + 1);
+        if (!splitPoints.isEmpty()) {
+            for (int i = 0; i <= splitPoints.size(); ++i) {
+                partitions.add(createPartition(column, splitPoints, i));
+            }
+        }
+        return partitions;
+    }
+
+    private static void restrict(final ValueRange range, final PartitionColumn column, final SqlNode predicate) {
+        if (predicate instanceof SqlPredicateAnd) {
+            for (final SqlNode conjunct : ((SqlPredicateAnd) predicate).getAndedPredicates()) {
+                restrict(range, column, conjunct);
+            }
+        } else if (predicate instanceof SqlPredicateEqual) {
+            final SqlPredicateEqual equal = (SqlPredicateEqual) predicate;
+            final BigDecimal value = findComparedValue(column, equal.getLeft(), equal.getRight());
+            range.restrictLower(value);
+            range.restrictUpper(value, true);
+        } else if (predicate instanceof SqlPredicateLess) {
+            final SqlPredicateLess less = (SqlPredicateLess) predicate;
+            restrictComparison(range, column, less.getLeft(), less.getRight(), false);
+        } else if (predicate instanceof SqlPredicateLessEqual) {
+            final SqlPredicateLessEqual lessEqual = (SqlPredicateLessEqual) predicate;
+            restrictComparison(range, column, lessEqual.getLeft(), lessEqual.getRight(), true);
+        } else if (predicate instanceof SqlPredicateBetween) {
+            final SqlPredicateBetween between = (SqlPredicateBetween) predicate;
+            if (isColumn(column, between.getExpression())) {
+                range.restrictLower(toValue(column, between.getBetweenLeft()));
+                range.restrictUpper(toValue(column, between.getBetweenRight()), true);
+            }
+        } else if (predicate instanceof SqlPredicateInConstList) {
+            final SqlPredicateInConstList in = (SqlPredicateInConstList) predicate;
+            if (isColumn(column, in.getExpression())) {
+                restrictToValues(range, column, in.getInArguments());
+            }
+        }
+    }
+
+    private static void restrictComparison(final ValueRange range, final PartitionColumn column, final SqlNode left,
+            final SqlNode right, final boolean inclusive) {
+        if (isColumn(column, left)) {
+            range.restrictUpper(toValue(column, right), inclusive);
+        } else if (isColumn(column, right)) {
+            range.restrictLower(toValue(column, left));
+        }
+    }
+
+    private static void restrictToValues(final ValueRange range, final PartitionColumn column,
+            final List<SqlNode> arguments) {
+        BigDecimal lowest = null;
+        BigDecimal highest = null;
+        for (final SqlNode argument : arguments) {
+            final BigDecimal value = toValue(column, argument);
+            if (value == null) {
+                return;
+            }
+            lowest = ((lowest == null) || (value.compareTo(lowest) < 0)) ? value : lowest;
+            highest = ((highest == null) || (value.compareTo(highest) > 0)) ? value : highest;
+        }
+        range.restrictLower(lowest);
+        range.restrictUpper(highest, true);
+    }
+
+    private static BigDecimal findComparedValue(final PartitionColumn column, final SqlNode left,
+            final SqlNode right) {
+        if (isColumn(column, left)) {
+            return toValue(column, right);
+        } else if (isColumn(column, right)) {
+            return toValue(column, left);
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isColumn(final PartitionColumn column, final SqlNode node) {
+        return (node instanceof SqlColumn) && ((SqlColumn) node).getName().equals(column.getName());
+    }
+
+    private static BigDecimal toValue(final PartitionColumn column, final SqlNode node) {
+        if (column.isDate()) {
+            return (node instanceof SqlLiteralDate)
+                    ? BigDecimal.valueOf(LocalDate.parse(((SqlLiteralDate) node).getValue()).toEpochDay())
+                    : null;
+        } else if (node instanceof SqlLiteralExactnumeric) {
+            return ((SqlLiteralExactnumeric) node).getValue();
+        } else if (node instanceof SqlLiteralDouble) {
+            return BigDecimal.valueOf(((SqlLiteralDouble) node).getValue());
+        } else {
+            return null;
+        }
+    }
+
+    private static List<Object> readSplitPoints(final PartitionColumn column, final String rangeQuery,
+            final Connection connection) throws SQLException {
+        try (final Statement statement = connection.createStatement();
+                final ResultSet range = statement.executeQuery(rangeQuery)) {
+            if (!range.next()) {
+                return List.of();
+            }
+            if (column.isDate()) {
+                final Date lower = range.getDate(1);
+                final Date upper = range.getDate(2);
+                return (lower == null) || (upper == null) ? List.of()
+                        : computeDateSplitPoints(lower.toLocalDate(), upper.toLocalDate(), column.partitionCount);
+            } else {
+                final BigDecimal lower = range.getBigDecimal(1);
+                final BigDecimal upper = range.getBigDecimal(2);
+                return (lower == null) || (upper == null) ? List.of()
+                        : computeNumericSplitPoints(lower, upper, column.isIntegral(), column.partitionCount);
+            }
+        }
+    }
+
+    private static List<Object> computeNumericSplitPoints(final BigDecimal lower, final BigDecimal upper,
+            final boolean integral, final int partitionCount) {
+        final BigDecimal count = BigDecimal.valueOf(partitionCount);
+        final BigDecimal width = upper.subtract(lower);
+        final List<Object> splitPoints = new ArrayList<>();
+        BigDecimal previous = lower;
+        for (int i = 1; i < partitionCount; ++i) {
+            BigDecimal point = lower.add(width.multiply(BigDecimal.valueOf(i)).divide(count, MathContext.DECIMAL64));
+            if (integral) {
+                point = point.setScale(0, RoundingMode.CEILING);
+            }
+            if ((point.compareTo(previous) > 0) && (point.compareTo(upper) <= 0)) {
+                splitPoints.add(point);
+                previous = point;
+            }
+        }
+        return splitPoints;
+    }
+
+    private static List<Object> computeDateSplitPoints(final LocalDate lower, final LocalDate upper,
+            final int partitionCount) {
+        final long count = partitionCount;
+        final long width = upper.toEpochDay() - lower.toEpochDay();
+        final List<Object> splitPoints = new ArrayList<>();
+        long previous = lower.toEpochDay();
+        for (int i = 1; i < count; ++i) {
+            final long point = lower.toEpochDay() + ((width * i) / count);
+            if (point > previous) {
+                splitPoints.add(LocalDate.ofEpochDay(point));
+                previous = point;
+            }
+        }
+        return splitPoints;
+    }
+
+    private static SqlStatement createPartition(final PartitionColumn column, final List<Object> splitPoints,
+            final int index) {
+        final SqlNode range;
+        if (index == 0) {
+            range = new SqlPredicateOr(List.of(
+                    new SqlPredicateLess(column.createColumnNode(), createLiteral(splitPoints.get(0))),
+                    new SqlPredicateIsNull(column.createColumnNode())));
+        } else if (index == splitPoints.size()) {
+            range = new SqlPredicateLessEqual(createLiteral(splitPoints.get(index - 1)), column.createColumnNode());
+        } else {
+            range = new SqlPredicateAnd(List.of(
+                    new SqlPredicateLessEqual(createLiteral(splitPoints.get(index - 1)), column.createColumnNode()),
+                    new SqlPredicateLess(column.createColumnNode(), createLiteral(splitPoints.get(index)))));
+        }
+        final SqlStatementSelect select = column.select;
+        final SqlNode filter = select.hasFilter() ? new SqlPredicateAnd(List.of(select.getWhereClause(), range))
+                : range;
+        return SqlStatementSelect.builder() //
+                .selectList(select.getSelectList()) //
+                .fromClause(select.getFromClause()) //
+                .whereClause(filter) //
+                .build();
+    }
+
+    private static SqlNode createLiteral(final Object splitPoint) {
+        if (splitPoint instanceof LocalDate) {
+            return new SqlLiteralDate(splitPoint.toString());
+        } else {
+            return new SqlLiteralExactnumeric((BigDecimal) splitPoint);
+        }
+    }
+
+    /**
+     * Range of partition column values that can match a filter. Missing bounds mean that the range is unbounded on that
+     * side; lower bounds are treated as inclusive, which keeps pruning conservative.
+     */
+    private static final class ValueRange {
+        private BigDecimal lower;
+        private BigDecimal upper;
+        private boolean upperInclusive = true;
+
+        private void restrictLower(final BigDecimal value) {
+            if ((value != null) && ((this.lower == null) || (value.compareTo(this.lower) > 0))) {
+                this.lower = value;
+            }
+        }
+
+        private void restrictUpper(final BigDecimal value, final boolean inclusive) {
+            if (value == null) {
+                return;
+            }
+            final int comparison = (this.upper == null) ? -1 : value.compareTo(this.upper);
+            if (comparison < 0) {
+                this.upper = value;
+                this.upperInclusive = inclusive;
+            } else if (comparison == 0) {
+                this.upperInclusive = this.upperInclusive && inclusive;
+            }
+        }
+
+        private boolean overlaps(final BigDecimal partitionLower, final BigDecimal partitionUpper) {
+            final boolean aboveLower = (this.lower == null) || (partitionUpper == null)
+                    || (this.lower.compareTo(partitionUpper) < 0);
+            final boolean belowUpper = (this.upper == null) || (partitionLower == null)
+                    || (this.upperInclusive ? partitionLower.compareTo(this.upper) <= 0
+                            : partitionLower.compareTo(this.upper) < 0);
+            return aboveLower && belowUpper;
+        }
+    }
+
+    /**
+     * Column a push-down statement is partitioned on.
+     */
+    static final class PartitionColumn {
+        private final SqlStatementSelect select;
+        private final SqlTable table;
+        private final int columnIndex;
+        private final ColumnMetadata metadata;
+        private final int partitionCount;
+
+        private PartitionColumn(final SqlStatementSelect select, final SqlTable table, final int columnIndex,
+                final ColumnMetadata metadata, final int partitionCount) {
+            this.select = select;
+            this.table = table;
+            this.columnIndex = columnIndex;
+            this.metadata = metadata;
+            this.partitionCount = partitionCount;
+        }
+
+        /**
+         * @return name of the partition column
+         */
+        String getName() {
+            return this.metadata.getName();
+        }
+
+        private boolean isDate() {
+            return this.metadata.getType().getExaDataType() == DataType.ExaDataType.DATE;
+        }
+
+        private boolean isIntegral() {
+            final DataType type = this.metadata.getType();
+            return (type.getExaDataType() == DataType.ExaDataType.DECIMAL) && (type.getScale() == 0);
+        }
+
+        private SqlColumn createColumnNode() {
+            if (this.table.hasAlias()) {
+                return new SqlColumn(this.columnIndex, this.metadata, this.table.getName(), this.table.getAlias());
+            } else {
+                return new SqlColumn(this.columnIndex, this.metadata, this.table.getName());
+            }
+        }
+    }
+}
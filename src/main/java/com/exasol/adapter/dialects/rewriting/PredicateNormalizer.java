@@ -0,0 +1,283 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.util.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.dialects.SqlGenerator;
+import com.exasol.adapter.sql.*;
+
+/**
+ * Simplifies the filter predicates of a push-down statement before SQL generation.
+ * <p>
+ * BI tools often generate filters with nested {@code AND} and {@code OR}, repeated conditions and {@code IN} lists
+ * with repeated values. The normalizer flattens nested {@code AND} and {@code OR}, removes duplicate operands and
+ * {@code IN} list values, folds the constants {@code TRUE} and {@code FALSE} and, if the dialect supports {@code IN}
+ * lists, merges {@code OR}-ed equality comparisons of a column with literals into a single {@code IN} list.
+ * </p>
+ * <p>
+ * Operands are compared by their generated SQL. Only operands built from columns, literals and predicates are
+ * deduplicated, since each call of a non-deterministic function like {@code RANDOM()} can return a different value.
+ * </p>
+ */
+final class PredicateNormalizer {
+    private final SqlGenerator sqlGenerator;
+    private final boolean inListSupported;
+
+    /**
+     * Create a new instance of a {@link PredicateNormalizer}.
+     *
+     * @param sqlGenerator    generator used to compare predicates
+     * @param inListSupported {@code true} if the dialect supports {@code IN} lists of constants
+     */
+    PredicateNormalizer(final SqlGenerator sqlGenerator, final boolean inListSupported) {
+        this.sqlGenerator = sqlGenerator;
+        this.inListSupported = inListSupported;
+    }
+
+    /**
+     * Normalize the {@code WHERE} and {@code HAVING} clauses of a push-down statement.
+     *
+     * @param statement push-down statement
+     * @return statement with normalized predicates or the original statement if it has no predicates
+     * @throws AdapterException if generating the SQL of a predicate fails
+     */
+    SqlStatement normalize(final SqlStatement statement) throws AdapterException {
+        if (!(statement instanceof SqlStatementSelect)) {
+            return statement;
+        }
+        final SqlStatementSelect select = (SqlStatementSelect) statement;
+        if (!select.hasFilter() && !select.hasHaving()) {
+            return statement;
+        }
+        final SqlStatementSelect.Builder builder = SqlStatementSelect.builder() //
+                .selectList(select.getSelectList()) //
+                .fromClause(select.getFromClause());
+        if (select.hasFilter()) {
+            final SqlNode filter = normalizePredicate(select.getWhereClause());
+            if (!isLiteral(filter, true)) {
+                builder.whereClause(filter);
+            }
+        }
+        if (select.hasGroupBy()) {
+            builder.groupBy(select.getGroupBy());
+        }
+        if (select.hasHaving()) {
+            final SqlNode having = normalizePredicate(select.getHaving());
+            if (!isLiteral(having, true)) {
+                builder.having(having);
+            }
+        }
+        if (select.hasOrderBy()) {
+            builder.orderBy(select.getOrderBy());
+        }
+        if (select.hasLimit()) {
+            builder.limit(select.getLimit());
+        }
+        return builder.build();
+    }
+
+    private SqlNode normalizePredicate(final SqlNode predicate) throws AdapterException {
+        if (predicate instanceof SqlPredicateAnd) {
+            return normalizeJunction(((SqlPredicateAnd) predicate).getAndedPredicates(), true);
+        } else if (predicate instanceof SqlPredicateOr) {
+            return normalizeJunction(((SqlPredicateOr) predicate).getOrPredicates(), false);
+        } else if (predicate instanceof SqlPredicateNot) {
+            final SqlNode operand = ((SqlPredicateNot) predicate).getExpression();
+            final SqlNode normalizedOperand = normalizePredicate(operand);
+            if (normalizedOperand instanceof SqlLiteralBool) {
+                return new SqlLiteralBool(!((SqlLiteralBool) normalizedOperand).getValue());
+            }
+            return normalizedOperand == operand ? predicate : new SqlPredicateNot(normalizedOperand);
+        } else if (predicate instanceof SqlPredicateInConstList) {
+            final SqlPredicateInConstList inList = (SqlPredicateInConstList) predicate;
+            final List<SqlNode> values = removeDuplicates(inList.getInArguments());
+            return values.size() == inList.getInArguments().size() ? predicate
+                    : new SqlPredicateInConstList(inList.getExpression(), values);
+        } else {
+            return predicate;
+        }
+    }
+
+    /**
+     * Normalize the operands of an {@code AND} ({@code conjunction}) or {@code OR}. {@code TRUE} is the neutral
+     * element of {@code AND} and {@code FALSE} the absorbing one; for {@code OR} it is the other way round.
+     */
+    private SqlNode normalizeJunction(final List<SqlNode> operands, final boolean conjunction)
+            throws AdapterException {
+        final List<SqlNode> flattenedOperands = new ArrayList<>();
+        for (final SqlNode operand : operands) {
+            final SqlNode normalizedOperand = normalizePredicate(operand);
+            if (isLiteral(normalizedOperand, !conjunction)) {
+                return new SqlLiteralBool(!conjunction);
+            } else if (!isLiteral(normalizedOperand, conjunction)) {
+                flattenedOperands.addAll(flatten(normalizedOperand, conjunction));
+            }
+        }
+        List<SqlNode> result = removeDuplicates(flattenedOperands);
+        if (!conjunction && this.inListSupported) {
+            result = mergeEqualities(result);
+        }
+        if (result.isEmpty()) {
+            return new SqlLiteralBool(conjunction);
+        } else if (result.size() == 1) {
+            return result.get(0);
+        } else {
+            return conjunction ? new SqlPredicateAnd(result) : new SqlPredicateOr(result);
+        }
+    }
+
+    private static boolean isLiteral(final SqlNode node, final boolean value) {
+        return (node instanceof SqlLiteralBool) && (((SqlLiteralBool) node).getValue() == value);
+    }
+
+    private static List<SqlNode> flatten(final SqlNode operand, final boolean conjunction) {
+        if (conjunction && (operand instanceof SqlPredicateAnd)) {
+            return ((SqlPredicateAnd) operand).getAndedPredicates();
+        } else if (!conjunction && (operand instanceof SqlPredicateOr)) {
+            return ((SqlPredicateOr) operand).getOrPredicates();
+        } else {
+            return List.of(operand);
+        }
+    }
+
+    private List<SqlNode> removeDuplicates(final List<SqlNode> nodes) throws AdapterException {
+        final Set<String> seen = new HashSet<>();
+        final List<SqlNode> uniqueNodes = new ArrayList<>(nodes.size());
+        for (final SqlNode node : nodes) {
+            if (!isDeterministic(node) || seen.add(this.sqlGenerator.generateSqlFor(node))) {
+                uniqueNodes.add(node);
+            }
+        }
+        return uniqueNodes;
+    }
+
+    /**
+     * Check if a node always evaluates to the same value for the same row, so that repeating it is redundant.
+     */
+    private static boolean isDeterministic(final SqlNode node) {
+        if ((node instanceof SqlColumn) || isConstant(node)) {
+            return true;
+        } else if (node instanceof SqlPredicateAnd) {
+            return areDeterministic(((SqlPredicateAnd) node).getAndedPredicates());
+        } else if (node instanceof SqlPredicateOr) {
+            return areDeterministic(((SqlPredicateOr) node).getOrPredicates());
+        } else if (node instanceof SqlPredicateNot) {
+            return isDeterministic(((SqlPredicateNot) node).getExpression());
+        } else if (node instanceof SqlPredicateEqual) {
+            return isDeterministic(((SqlPredicateEqual) node).getLeft())
+                    && isDeterministic(((SqlPredicateEqual) node).getRight());
+        } else if (node instanceof SqlPredicateNotEqual) {
+            return isDeterministic(((SqlPredicateNotEqual) node).getLeft())
+                    && isDeterministic(((SqlPredicateNotEqual) node).getRight());
+        } else if (node instanceof SqlPredicateLess) {
+            return isDeterministic(((SqlPredicateLess) node).getLeft())
+                    && isDeterministic(((SqlPredicateLess) node).getRight());
+        } else if (node instanceof SqlPredicateLessEqual) {
+            return isDeterministic(((SqlPredicateLessEqual) node).getLeft())
+                    && isDeterministic(((SqlPredicateLessEqual) node).getRight());
+        } else if (node instanceof SqlPredicateBetween) {
+            final SqlPredicateBetween between = (SqlPredicateBetween) node;
+            return isDeterministic(between.getExpression()) && isDeterministic(between.getBetweenLeft())
+                    && isDeterministic(between.getBetweenRight());
+        } else if (node instanceof SqlPredicateInConstList) {
+            final SqlPredicateInConstList inList = (SqlPredicateInConstList) node;
+            return isDeterministic(inList.getExpression()) && areDeterministic(inList.getInArguments());
+        } else if (node instanceof SqlPredicateIsNull) {
+            return isDeterministic(((SqlPredicateIsNull) node).getExpression());
+        } else if (node instanceof SqlPredicateIsNotNull) {
+            return isDeterministic(((SqlPredicateIsNotNull) node).getExpression());
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean areDeterministic(final List<SqlNode> nodes) {
+        for (final SqlNode node : nodes) {
+            if (!isDeterministic(node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConstant(final SqlNode node) {
+        return (node instanceof SqlLiteralBool) || (node instanceof SqlLiteralNull) || ColumnValues.isValue(node);
+    }
+
+    /**
+     * Merge the {@code OR}-ed equality comparisons and {@code IN} lists of each column into a single {@code IN} list
+     * at the position of the first of them.
+     */
+    private List<SqlNode> mergeEqualities(final List<SqlNode> operands) throws AdapterException {
+        final Map<String, ColumnValues> valuesByColumn = new LinkedHashMap<>();
+        final List<String> columnKeys = new ArrayList<>(operands.size());
+        for (final SqlNode operand : operands) {
+            final Optional<ColumnValues> columnValues = ColumnValues.of(operand);
+            if (columnValues.isPresent()) {
+                final String columnKey = this.sqlGenerator.generateSqlFor(columnValues.get().column);
+                valuesByColumn.merge(columnKey, columnValues.get(), ColumnValues::add);
+                columnKeys.add(columnKey);
+            } else {
+                columnKeys.add(null);
+            }
+        }
+        final List<SqlNode> result = new ArrayList<>(operands.size());
+        for (int i = 0; i < operands.size(); ++i) {
+            final ColumnValues columnValues = (columnKeys.get(i) == null) ? null
+                    : valuesByColumn.remove(columnKeys.get(i));
+            if (columnValues == null) {
+                if (columnKeys.get(i) == null) {
+                    result.add(operands.get(i));
+                }
+            } else if (columnValues.operandCount < 2) {
+                result.add(operands.get(i));
+            } else {
+                result.add(new SqlPredicateInConstList(columnValues.column, removeDuplicates(columnValues.values)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Literal values a column is compared with in one or more {@code OR}-ed operands.
+     */
+    private static final class ColumnValues {
+        private final SqlColumn column;
+        private final List<SqlNode> values;
+        private int operandCount = 1;
+
+        private ColumnValues(final SqlColumn column, final List<SqlNode> values) {
+            this.column = column;
+            this.values = new ArrayList<>(values);
+        }
+
+        private static Optional<ColumnValues> of(final SqlNode operand) {
+            if (operand instanceof SqlPredicateEqual) {
+                final SqlPredicateEqual equal = (SqlPredicateEqual) operand;
+                if ((equal.getLeft() instanceof SqlColumn) && isValue(equal.getRight())) {
+                    return Optional.of(new ColumnValues((SqlColumn) equal.getLeft(), List.of(equal.getRight())));
+                } else if ((equal.getRight() instanceof SqlColumn) && isValue(equal.getLeft())) {
+                    return Optional.of(new ColumnValues((SqlColumn) equal.getRight(), List.of(equal.getLeft())));
+                }
+            } else if (operand instanceof SqlPredicateInConstList) {
+                final SqlPredicateInConstList inList = (SqlPredicateInConstList) operand;
+                if (inList.getExpression() instanceof SqlColumn) {
+                    return Optional.of(new ColumnValues((SqlColumn) inList.getExpression(), inList.getInArguments()));
+                }
+            }
+            return Optional.empty();
+        }
+
+        private static boolean isValue(final SqlNode node) {
+            return (node instanceof SqlLiteralExactnumeric) || (node instanceof SqlLiteralDouble)
+                    || (node instanceof SqlLiteralString) || (node instanceof SqlLiteralDate)
+                    || (node instanceof SqlLiteralTimestamp) || (node instanceof SqlLiteralTimestampUtc);
+        }
+
+        private ColumnValues add(final ColumnValues other) {
+            this.values.addAll(other.values);
+            this.operandCount += other.operandCount;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.cache.BoundedCache;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metrics.Metrics;
+import com.exasol.adapter.properties.PushdownCacheSettings;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * Bounded cache for the rewritten SQL of push-down queries.
+ * <p>
+ * Exasol compiles the same queries on virtual schemas over and over again. Each compilation sends a push-down request,
+ * which is rewritten from scratch: SQL generation, connection lookup and, depending on the rewriter, describing the
+ * query on the remote data source. The cache keeps the final push-down SQL per JVM, keyed by a fingerprint of the
+ * statement tree and the table metadata of the request, so that a cache hit does not generate any SQL. Entries are
+ * evicted in least-recently-used order once their estimated memory exceeds the configured limit, and expire after the
+ * configured time to live.
+ * </p>
+ * <p>
+ * The key does not contain the definition of the connection named in the adapter properties. If a rewriter embeds the
+ * connection string or credentials in the push-down SQL, a cached statement keeps the old values after the connection
+ * was altered until the entry expires.
+ * </p>
+ */
+public final class PushdownSqlCache {
+    private static final Logger LOGGER = Logger.getLogger(PushdownSqlCache.class.getName());
+    private static final PushdownSqlCache PUSHDOWN_SQL_CACHE = new PushdownSqlCache(System::nanoTime);
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private final BoundedCache<String, String> statements;
+
+    /**
+     * Returns instance of {@link PushdownSqlCache} singleton class.
+     *
+     * @return {@link PushdownSqlCache} instance
+     */
+    public static PushdownSqlCache getInstance() {
+        return PUSHDOWN_SQL_CACHE;
+    }
+
+    /**
+     * Create a new instance of a {@link PushdownSqlCache}.
+     *
+     * @param nanoClock source of the current time in nanoseconds
+     */
+    PushdownSqlCache(final LongSupplier nanoClock) {
+        this.statements = new BoundedCache<>(Long.MAX_VALUE, PushdownSqlCache::estimateBytes, nanoClock);
+    }
+
+    /**
+     * Create the cache key for a push-down request.
+     * <p>
+     * The key combines the dialect, all adapter properties, the Exasol version, the select-list data types and a
+     * fingerprint of the statement tree including the metadata of the tables the statement reads. No SQL is generated.
+     * </p>
+     *
+     * @param dialectName         name of the SQL dialect
+     * @param properties          adapter properties
+     * @param databaseVersion     version of the Exasol database
+     * @param statement           push-down statement
+     * @param selectListDataTypes expected data types of the result columns
+     * @return cache key or an empty optional if the statement cannot be fingerprinted
+     */
+    public static Optional<String> createKey(final String dialectName, final AdapterProperties properties,
+            final String databaseVersion, final SqlStatement statement, final List<DataType> selectListDataTypes) {
+        final StringBuilder key = new StringBuilder(dialectName).append('\n').append(databaseVersion);
+        for (final String property : new TreeSet<>(properties.keySet())) {
+            key.append('\n').append(property).append('=').append(properties.get(property));
+        }
+        key.append('\n').append(selectListDataTypes);
+        try {
+            key.append('\n').append(StatementFingerprint.create(statement));
+        } catch (final AdapterException | RuntimeException exception) {
+            LOGGER.fine(() -> "Unable to fingerprint push-down statement: " + exception.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    /**
+     * Get the cached push-down SQL or rewrite the statement and cache the result.
+     * <p>
+     * The statement is rewritten outside of the cache lock, so that slow remote calls do not block other lookups.
+     * </p>
+     *
+     * @param key      cache key created with {@link #createKey}
+     * @param settings cache settings
+     * @param rewriter rewrites the statement in case of a cache miss
+     * @return push-down SQL
+     * @throws AdapterException if rewriting the statement fails
+     * @throws SQLException     if accessing the remote data source fails
+     */
+    public String getOrRewrite(final String key, final PushdownCacheSettings settings, final Rewriter rewriter)
+            throws AdapterException, SQLException {
+        final Optional<String> cachedSql = this.statements.get(key);
+        if (cachedSql.isPresent()) {
+            Metrics.increment(Metrics.PUSHDOWN_CACHE_HIT);
+            return cachedSql.get();
+        }
+        Metrics.increment(Metrics.PUSHDOWN_CACHE_MISS);
+        LOGGER.fine(() -> "Push-down cache miss (hits: " + getHitCount() + ", misses: " + getMissCount() + ").");
+        final String sql = rewriter.rewrite();
+        this.statements.put(key, sql, settings.getTimeToLive(), settings.getMaxBytes());
+        return sql;
+    }
+
+    private static long estimateBytes(final String key, final String sql) {
+        return ENTRY_OVERHEAD_BYTES + (2L * (key.length() + sql.length()));
+    }
+
+    /**
+     * Remove all cached push-down statements.
+     */
+    public void invalidateAll() {
+        this.statements.clear();
+    }
+
+    /**
+     * @return number of push-down requests answered from the cache
+     */
+    public long getHitCount() {
+        return this.statements.getHitCount();
+    }
+
+    /**
+     * @return number of push-down requests that required rewriting the statement
+     */
+    public long getMissCount() {
+        return this.statements.getMissCount();
+    }
+
+    /**
+     * @return number of cached push-down statements
+     */
+    public int size() {
+        return this.statements.size();
+    }
+
+    /**
+     * @return estimated memory of the cached push-down statements in bytes
+     */
+    public long getUsedBytes() {
+        return this.statements.getWeight();
+    }
+
+    /**
+     * Rewrites a push-down statement in case of a cache miss.
+     */
+    @FunctionalInterface
+    public interface Rewriter {
+        /**
+         * @return push-down SQL
+         * @throws AdapterException if rewriting the statement fails
+         * @throws SQLException     if accessing the remote data source fails
+         */
+        public String rewrite() throws AdapterException, SQLException;
+    }
+}
@@ -1,8 +1,10 @@
 package com.exasol.adapter.dialects.rewriting;
 
+import java.lang.reflect.Method;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import com.exasol.adapter.AdapterException;
@@ -25,6 +27,12 @@ import com.exasol.errorreporting.ExaError;
  * methods. You also have to return your custom visitor class then in the method
  * {@link SqlDialect#getSqlGenerator(SqlGenerationContext)}.
  * </p>
+ * <p>
+ * For the common node types the visitor appends the SQL of the child nodes to a single {@link StringBuilder} instead of
+ * creating a string per node. If a subclass overrides the {@code visit} method of a node type, nodes of that type are
+ * rendered through the overriding method and the returned string is appended, so existing dialects keep working
+ * unchanged.
+ * </p>
  *
  * Note on operator associativity and parenthesis generation: Currently we almost always use parenthesis. Without
  * parenthesis, two {@link SqlNode} graphs with different semantic lead to {@code select 1 = 1 - 1 + 1}. Also
@@ -34,11 +42,23 @@ import com.exasol.errorreporting.ExaError;
  */
 public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerator {
     private static final Logger LOGGER = Logger.getLogger(SqlGenerationVisitor.class.getName());
+    private static final Map<Class<? extends SqlNode>, NodeAppender> APPENDERS = createAppenders();
+    private static final Map<Class<?>, Map<Class<? extends SqlNode>, NodeAppender>> APPENDERS_BY_VISITOR_CLASS = //
+            new ConcurrentHashMap<>();
     private final SqlDialect dialect;
     private final SqlGenerationContext context;
+    private final Map<ScalarFunction, String> scalarFunctionAliases;
+    private final Map<AggregateFunction, String> aggregateFunctionAliases;
+    private final Map<ScalarFunction, String> binaryInfixFunctionAliases;
+    private final Map<ScalarFunction, String> prefixFunctionAliases;
+    private final Map<Class<? extends SqlNode>, NodeAppender> appenders;
 
     /**
      * Creates a new instance of the {@link SqlGenerationVisitor}.
+     * <p>
+     * The function aliases of the dialect are read once here, so that they are not rebuilt for every function in the
+     * statement.
+     * </p>
      *
      * @param dialect SQl dialect
      * @param context SQL generation context
@@ -46,12 +66,139 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
     public SqlGenerationVisitor(final SqlDialect dialect, final SqlGenerationContext context) {
         this.dialect = dialect;
         this.context = context;
+        this.scalarFunctionAliases = dialect.getScalarFunctionAliases();
+        this.aggregateFunctionAliases = dialect.getAggregateFunctionAliases();
+        this.binaryInfixFunctionAliases = dialect.getBinaryInfixFunctionAliases();
+        this.prefixFunctionAliases = dialect.getPrefixFunctionAliases();
+        this.appenders = APPENDERS_BY_VISITOR_CLASS.computeIfAbsent(getClass(),
+                SqlGenerationVisitor::findInheritedAppenders);
         checkDialectAliases();
     }
 
+    private static Map<Class<? extends SqlNode>, NodeAppender> createAppenders() {
+        final Map<Class<? extends SqlNode>, NodeAppender> appenders = new HashMap<>();
+        appenders.put(SqlStatementSelect.class, (v, n, b) -> v.appendSelect((SqlStatementSelect) n, b));
+        appenders.put(SqlSelectList.class, (v, n, b) -> v.appendSelectList((SqlSelectList) n, b));
+        appenders.put(SqlColumn.class, (v, n, b) -> v.appendColumn((SqlColumn) n, b));
+        appenders.put(SqlTable.class, (v, n, b) -> v.appendTable((SqlTable) n, b));
+        appenders.put(SqlJoin.class, (v, n, b) -> v.appendJoin((SqlJoin) n, b));
+        appenders.put(SqlGroupBy.class, (v, n, b) -> v.appendGroupBy((SqlGroupBy) n, b));
+        appenders.put(SqlOrderBy.class, (v, n, b) -> v.appendOrderBy((SqlOrderBy) n, b));
+        appenders.put(SqlFunctionAggregate.class, (v, n, b) -> v.appendFunctionAggregate((SqlFunctionAggregate) n, b));
+        appenders.put(SqlFunctionScalar.class, (v, n, b) -> v.appendFunctionScalar((SqlFunctionScalar) n, b));
+        appenders.put(SqlFunctionScalarCase.class, (v, n, b) -> v.appendFunctionCase((SqlFunctionScalarCase) n, b));
+        appenders.put(SqlFunctionScalarCast.class, (v, n, b) -> v.appendFunctionCast((SqlFunctionScalarCast) n, b));
+        appenders.put(SqlPredicateAnd.class,
+                (v, n, b) -> v.appendJoined("(", ((SqlPredicateAnd) n).getAndedPredicates(), " AND ", ")", b));
+        appenders.put(SqlPredicateOr.class,
+                (v, n, b) -> v.appendJoined("(", ((SqlPredicateOr) n).getOrPredicates(), " OR ", ")", b));
+        appenders.put(SqlPredicateNot.class, (v, n, b) -> v.appendPredicateNot((SqlPredicateNot) n, b));
+        appenders.put(SqlPredicateEqual.class, (v, n, b) -> v.appendPredicateEqual((SqlPredicateEqual) n, b));
+        appenders.put(SqlPredicateNotEqual.class, (v, n, b) -> v.appendPredicateNotEqual((SqlPredicateNotEqual) n, b));
+        appenders.put(SqlPredicateLess.class, (v, n, b) -> v.appendPredicateLess((SqlPredicateLess) n, b));
+        appenders.put(SqlPredicateLessEqual.class,
+                (v, n, b) -> v.appendPredicateLessEqual((SqlPredicateLessEqual) n, b));
+        appenders.put(SqlPredicateBetween.class, (v, n, b) -> v.appendPredicateBetween((SqlPredicateBetween) n, b));
+        appenders.put(SqlPredicateInConstList.class,
+                (v, n, b) -> v.appendPredicateInConstList((SqlPredicateInConstList) n, b));
+        appenders.put(SqlPredicateIsNull.class,
+                (v, n, b) -> v.appendPredicateIsNull(((SqlPredicateIsNull) n).getExpression(), ") IS NULL", b));
+        appenders.put(SqlPredicateIsNotNull.class,
+                (v, n, b) -> v.appendPredicateIsNull(((SqlPredicateIsNotNull) n).getExpression(), ") IS NOT NULL", b));
+        appenders.put(SqlPredicateLike.class, (v, n, b) -> v.appendPredicateLike((SqlPredicateLike) n, b));
+        return appenders;
+    }
+
+    /**
+     * Find the appenders a visitor class can use directly.
+     * <p>
+     * A node type whose {@code visit} method is overridden is rendered through the overriding method instead. The same
+     * applies to the select list if {@link #createExplicitColumnsSelectList(SqlSelectList)} is overridden. If
+     * {@link #generateSqlFor(SqlNode)} is overridden, all nodes are rendered with the {@code visit} methods.
+     * </p>
+     *
+     * @param visitorClass class of the visitor
+     * @return appenders by node type
+     */
+    private static Map<Class<? extends SqlNode>, NodeAppender> findInheritedAppenders(final Class<?> visitorClass) {
+        if (isOverridden(visitorClass, "generateSqlFor", SqlNode.class)) {
+            return Map.of();
+        }
+        final Map<Class<? extends SqlNode>, NodeAppender> inherited = new HashMap<>();
+        for (final Map.Entry<Class<? extends SqlNode>, NodeAppender> entry : APPENDERS.entrySet()) {
+            if (!isOverridden(visitorClass, "visit", entry.getKey())) {
+                inherited.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (isOverridden(visitorClass, "createExplicitColumnsSelectList", SqlSelectList.class)) {
+            inherited.remove(SqlSelectList.class);
+        }
+        return inherited;
+    }
+
+    private static boolean isOverridden(final Class<?> visitorClass, final String methodName,
+            final Class<?> parameterType) {
+        for (Class<?> type = visitorClass; type != SqlGenerationVisitor.class; type = type.getSuperclass()) {
+            for (final Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(methodName) && (method.getParameterCount() == 1)
+                        && (method.getParameterTypes()[0] == parameterType) && !method.isBridge()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public String generateSqlFor(final SqlNode sqlNode) throws AdapterException {
-        return sqlNode.accept(this);
+        final StringBuilder builder = new StringBuilder();
+        appendSqlFor(sqlNode, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Append the SQL for a node to a builder.
+     * <p>
+     * Nodes whose {@code visit} method is not overridden are written directly to the builder together with their
+     * children. All other nodes are rendered with {@link SqlNode#accept(SqlNodeVisitor)}.
+     * </p>
+     *
+     * @param sqlNode node to render
+     * @param builder builder the SQL is appended to
+     * @throws AdapterException in case the node cannot be rendered to SQL
+     */
+    protected void appendSqlFor(final SqlNode sqlNode, final StringBuilder builder) throws AdapterException {
+        final NodeAppender appender = this.appenders.get(sqlNode.getClass());
+        if (appender == null) {
+            builder.append(sqlNode.accept(this));
+        } else {
+            appender.append(this, sqlNode, builder);
+        }
+    }
+
+    private static String render(final SqlAppender appender) throws AdapterException {
+        final StringBuilder builder = new StringBuilder();
+        appender.appendTo(builder);
+        return builder.toString();
+    }
+
+    private void appendJoined(final String prefix, final List<? extends SqlNode> nodes, final String separator,
+            final String suffix, final StringBuilder builder) throws AdapterException {
+        builder.append(prefix);
+        appendJoined(nodes, separator, builder);
+        builder.append(suffix);
+    }
+
+    private void appendJoined(final List<? extends SqlNode> nodes, final String separator,
+            final StringBuilder builder) throws AdapterException {
+        boolean first = true;
+        for (final SqlNode node : nodes) {
+            if (!first) {
+                builder.append(separator);
+            }
+            appendSqlFor(node, builder);
+            first = false;
+        }
     }
 
     /**
@@ -67,7 +214,7 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
      * Check if dialect provided invalid aliases, which would never be applied.
      */
     protected void checkDialectAliases() {
-        for (final ScalarFunction function : this.dialect.getScalarFunctionAliases().keySet()) {
+        for (final ScalarFunction function : this.scalarFunctionAliases.keySet()) {
             if (!function.isSimple()) {
                 throw new UnsupportedOperationException(ExaError.messageBuilder("E-VSCJDBC-9")
                         .message(
@@ -77,7 +224,7 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
                         .ticketMitigation().toString());
             }
         }
-        for (final AggregateFunction function : this.dialect.getAggregateFunctionAliases().keySet()) {
+        for (final AggregateFunction function : this.aggregateFunctionAliases.keySet()) {
             if (!function.isSimple()) {
                 throw new UnsupportedOperationException(ExaError.messageBuilder("E-VSCJDBC-10").message(
                         "The dialect {{dialectName|uq}} provided an alias for the non-simple aggregate function "
@@ -99,32 +246,34 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlStatementSelect select) throws AdapterException {
-        final StringBuilder sql = new StringBuilder();
-        sql.append("SELECT ");
-        sql.append(select.getSelectList().accept(this));
-        sql.append(" FROM ");
-        sql.append(select.getFromClause().accept(this));
+        return render(builder -> appendSelect(select, builder));
+    }
+
+    private void appendSelect(final SqlStatementSelect select, final StringBuilder builder) throws AdapterException {
+        builder.append("SELECT ");
+        appendSqlFor(select.getSelectList(), builder);
+        builder.append(" FROM ");
+        appendSqlFor(select.getFromClause(), builder);
         if (select.hasFilter()) {
-            sql.append(" WHERE ");
-            sql.append(select.getWhereClause().accept(this));
+            builder.append(" WHERE ");
+            appendSqlFor(select.getWhereClause(), builder);
         }
         if (select.hasGroupBy()) {
-            sql.append(" GROUP BY ");
-            sql.append(select.getGroupBy().accept(this));
+            builder.append(" GROUP BY ");
+            appendSqlFor(select.getGroupBy(), builder);
         }
         if (select.hasHaving()) {
-            sql.append(" HAVING ");
-            sql.append(select.getHaving().accept(this));
+            builder.append(" HAVING ");
+            appendSqlFor(select.getHaving(), builder);
         }
         if (select.hasOrderBy()) {
-            sql.append(" ");
-            sql.append(select.getOrderBy().accept(this));
+            builder.append(" ");
+            appendSqlFor(select.getOrderBy(), builder);
         }
         if (select.hasLimit()) {
-            sql.append(" ");
-            sql.append(select.getLimit().accept(this));
+            builder.append(" ");
+            appendSqlFor(select.getLimit(), builder);
         }
-        return sql.toString();
     }
 
     @Override
@@ -136,6 +285,15 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
         }
     }
 
+    private void appendSelectList(final SqlSelectList selectList, final StringBuilder builder)
+            throws AdapterException {
+        if (selectList.hasExplicitColumnsList()) {
+            appendJoined(selectList.getExpressions(), ", ", builder);
+        } else {
+            builder.append(representAnyColumnInSelectList());
+        }
+    }
+
     /**
      * Represent "any column" in the <code>SELECT</code> list.
      * <p>
@@ -158,52 +316,62 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
      * @throws AdapterException in case the expressions in the list cannot be rendered to SQL
      */
     protected String createExplicitColumnsSelectList(final SqlSelectList selectList) throws AdapterException {
-        final List<SqlNode> expressions = selectList.getExpressions();
-        final List<String> selectElement = new ArrayList<>(expressions.size());
-        for (final SqlNode node : expressions) {
-            selectElement.add(node.accept(this));
-        }
-        return String.join(", ", selectElement);
+        return render(builder -> appendJoined(selectList.getExpressions(), ", ", builder));
     }
 
     @Override
     public String visit(final SqlColumn column) throws AdapterException {
-        String tablePrefix = "";
+        return render(builder -> appendColumn(column, builder));
+    }
+
+    private void appendColumn(final SqlColumn column, final StringBuilder builder) {
         if (column.hasTableAlias()) {
-            tablePrefix = this.dialect.applyQuote(column.getTableAlias())
-                    + this.dialect.getTableCatalogAndSchemaSeparator();
+            appendQuoted(column.getTableAlias(), builder).append(this.dialect.getTableCatalogAndSchemaSeparator());
         } else if ((column.getTableName() != null) && !column.getTableName().isEmpty()) {
-            tablePrefix = this.dialect.applyQuote(column.getTableName())
-                    + this.dialect.getTableCatalogAndSchemaSeparator();
+            appendQuoted(column.getTableName(), builder).append(this.dialect.getTableCatalogAndSchemaSeparator());
         }
-        return tablePrefix + this.dialect.applyQuote(column.getName());
+        appendQuoted(column.getName(), builder);
+    }
+
+    private StringBuilder appendQuoted(final String identifier, final StringBuilder builder) {
+        return builder.append(this.dialect.applyQuote(identifier));
     }
 
     @Override
     public String visit(final SqlTable table) {
-        String schemaPrefix = "";
+        final StringBuilder builder = new StringBuilder();
+        appendTable(table, builder);
+        return builder.toString();
+    }
+
+    private void appendTable(final SqlTable table, final StringBuilder builder) {
         if (this.dialect.requiresCatalogQualifiedTableNames(this.context) && (this.context.getCatalogName() != null)
                 && !this.context.getCatalogName().isEmpty()) {
-            schemaPrefix = this.dialect.applyQuote(this.context.getCatalogName())
-                    + this.dialect.getTableCatalogAndSchemaSeparator();
+            appendQuoted(this.context.getCatalogName(), builder)
+                    .append(this.dialect.getTableCatalogAndSchemaSeparator());
         }
         if (this.dialect.requiresSchemaQualifiedTableNames(this.context) && (this.context.getSchemaName() != null)
                 && !this.context.getSchemaName().isEmpty()) {
-            schemaPrefix += this.dialect.applyQuote(this.context.getSchemaName())
-                    + this.dialect.getTableCatalogAndSchemaSeparator();
+            appendQuoted(this.context.getSchemaName(), builder)
+                    .append(this.dialect.getTableCatalogAndSchemaSeparator());
         }
+        appendQuoted(table.getName(), builder);
         if (table.hasAlias()) {
-            return schemaPrefix + this.dialect.applyQuote(table.getName()) + " "
-                    + this.dialect.applyQuote(table.getAlias());
-        } else {
-            return schemaPrefix + this.dialect.applyQuote(table.getName());
+            appendQuoted(table.getAlias(), builder.append(" "));
         }
     }
 
     @Override
     public String visit(final SqlJoin join) throws AdapterException {
-        return join.getLeft().accept(this) + " " + join.getJoinType().name().replace('_', ' ') + " JOIN "
-                + join.getRight().accept(this) + " ON " + join.getCondition().accept(this);
+        return render(builder -> appendJoin(join, builder));
+    }
+
+    private void appendJoin(final SqlJoin join, final StringBuilder builder) throws AdapterException {
+        appendSqlFor(join.getLeft(), builder);
+        builder.append(" ").append(join.getJoinType().name().replace('_', ' ')).append(" JOIN ");
+        appendSqlFor(join.getRight(), builder);
+        builder.append(" ON ");
+        appendSqlFor(join.getCondition(), builder);
     }
 
     @Override
@@ -240,12 +408,18 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlGroupBy groupBy) throws AdapterException {
-        final List<String> selectElement = new ArrayList<>();
+        return render(builder -> appendGroupBy(groupBy, builder));
+    }
+
+    private void appendGroupBy(final SqlGroupBy groupBy, final StringBuilder builder) throws AdapterException {
+        boolean first = true;
         for (final SqlNode node : groupBy.getExpressions()) {
-            final SqlNode replacement = workaroundGroupByInteger(node);
-            selectElement.add(replacement.accept(this));
+            if (!first) {
+                builder.append(", ");
+            }
+            appendSqlFor(workaroundGroupByInteger(node), builder);
+            first = false;
         }
-        return String.join(", ", selectElement);
     }
 
     /**
@@ -271,30 +445,28 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlFunctionAggregate function) throws AdapterException {
-        final StringBuilder builder = new StringBuilder();
-        final String functionNameInSourceSystem = this.dialect.getAggregateFunctionAliases()
-                .getOrDefault(function.getFunction(), function.getFunctionName());
+        return render(builder -> appendFunctionAggregate(function, builder));
+    }
+
+    private void appendFunctionAggregate(final SqlFunctionAggregate function, final StringBuilder builder)
+            throws AdapterException {
+        final String functionNameInSourceSystem = this.aggregateFunctionAliases.getOrDefault(function.getFunction(),
+                function.getFunctionName());
         builder.append(functionNameInSourceSystem);
         builder.append("(");
-        final List<String> renderedArguments = new ArrayList<>();
-        for (final SqlNode node : function.getArguments()) {
-            renderedArguments.add(node.accept(this));
-        }
+        final List<SqlNode> arguments = function.getArguments();
         final boolean countFunction = function.getFunctionName().equals("COUNT");
         if (function.hasDistinct()) {
             builder.append("DISTINCT ");
         }
-        if (countFunction && (renderedArguments.size() > 1)) {
-            builder.append("(");
-        } else if (countFunction && renderedArguments.isEmpty()) {
-            renderedArguments.add(SqlConstants.ASTERISK);
-        }
-        builder.append(String.join(", ", renderedArguments));
-        if (countFunction && (renderedArguments.size() > 1)) {
-            builder.append(")");
+        if (countFunction && (arguments.size() > 1)) {
+            appendJoined("(", arguments, ", ", ")", builder);
+        } else if (countFunction && arguments.isEmpty()) {
+            builder.append(SqlConstants.ASTERISK);
+        } else {
+            appendJoined(arguments, ", ", builder);
         }
         builder.append(")");
-        return builder.toString();
     }
 
     @Override
@@ -321,101 +493,107 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlFunctionScalar function) throws AdapterException {
-        final List<String> argumentsSql = this.generateSqlForFunctionArguments(function.getArguments());
+        return render(builder -> appendFunctionScalar(function, builder));
+    }
+
+    private void appendFunctionScalar(final SqlFunctionScalar function, final StringBuilder builder)
+            throws AdapterException {
         if (this.hasAlias(function)) {
-            return generateSqlForFunctionWithAlias(function, argumentsSql);
+            appendFunctionWithName(function, this.scalarFunctionAliases.get(function.getFunction()), builder);
         } else if (this.isBinaryInfixFunction(function)) {
-            return this.generateSqlForBinaryInfixFunction(function.getFunction(), argumentsSql);
+            appendBinaryInfixFunction(function, builder);
         } else if (this.isPrefixFunction(function)) {
-            return this.generateSqlForPrefixFunction(function.getFunction(), argumentsSql);
+            appendPrefixFunction(function, builder);
         } else {
-            return this.generateSqlForFunctionWithName(function, argumentsSql, function.getFunctionName());
-        }
-    }
-
-    private List<String> generateSqlForFunctionArguments(final List<SqlNode> arguments) throws AdapterException {
-        final List<String> argumentsSql = new ArrayList<>();
-        for (final SqlNode argument : arguments) {
-            argumentsSql.add(this.generateSqlFor(argument));
+            appendFunctionWithName(function, function.getFunctionName(), builder);
         }
-        return argumentsSql;
     }
 
     private boolean hasAlias(final SqlFunctionScalar function) {
-        return this.dialect.getScalarFunctionAliases().containsKey(function.getFunction());
-    }
-
-    private String generateSqlForFunctionWithAlias(final SqlFunctionScalar function, final List<String> sqlArguments) {
-        final String alias = this.dialect.getScalarFunctionAliases().get(function.getFunction());
-        return this.generateSqlForFunctionWithName(function, sqlArguments, alias);
+        return this.scalarFunctionAliases.containsKey(function.getFunction());
     }
 
-    private String generateSqlForFunctionWithName(final SqlFunctionScalar function, final List<String> sqlArguments,
-            final String functionName) {
-        if (sqlArguments.isEmpty() && this.dialect.omitParentheses(function.getFunction())) {
-            return functionName;
-        } else {
-            return functionName + "(" + String.join(", ", sqlArguments) + ")";
+    private void appendFunctionWithName(final SqlFunctionScalar function, final String functionName,
+            final StringBuilder builder) throws AdapterException {
+        builder.append(functionName);
+        if (!function.getArguments().isEmpty() || !this.dialect.omitParentheses(function.getFunction())) {
+            appendJoined("(", function.getArguments(), ", ", ")", builder);
         }
     }
 
     private boolean isBinaryInfixFunction(final SqlFunctionScalar function) {
-        return this.dialect.getBinaryInfixFunctionAliases().containsKey(function.getFunction());
+        return this.binaryInfixFunctionAliases.containsKey(function.getFunction());
     }
 
-    private String generateSqlForBinaryInfixFunction(final ScalarFunction scalarFunction,
-            final List<String> sqlArguments) {
-        final String realFunctionName = this.dialect.getBinaryInfixFunctionAliases().get(scalarFunction);
-        if (sqlArguments.size() != 2) {
+    private void appendBinaryInfixFunction(final SqlFunctionScalar function, final StringBuilder builder)
+            throws AdapterException {
+        final String realFunctionName = this.binaryInfixFunctionAliases.get(function.getFunction());
+        final List<SqlNode> arguments = function.getArguments();
+        if (arguments.size() != 2) {
             throw new IllegalArgumentException(ExaError.messageBuilder("E-VSCJDBC-11").message(
                     "The {{realFunctionName|uq}} function requests 2 arguments, but {{sqlArgumentsSize|uq}} were given.",
-                    realFunctionName, sqlArguments.size()).toString());
+                    realFunctionName, arguments.size()).toString());
         }
-        return "(" + sqlArguments.get(0) + " " + realFunctionName + " " + sqlArguments.get(1) + ")";
+        builder.append("(");
+        appendSqlFor(arguments.get(0), builder);
+        builder.append(" ").append(realFunctionName).append(" ");
+        appendSqlFor(arguments.get(1), builder);
+        builder.append(")");
     }
 
     private boolean isPrefixFunction(final SqlFunctionScalar function) {
-        return this.dialect.getPrefixFunctionAliases().containsKey(function.getFunction());
+        return this.prefixFunctionAliases.containsKey(function.getFunction());
     }
 
-    private String generateSqlForPrefixFunction(final ScalarFunction scalarFunction, final List<String> sqlArguments) {
-        final String realFunctionName = this.dialect.getPrefixFunctionAliases().get(scalarFunction);
-        if (sqlArguments.size() != 1) {
+    private void appendPrefixFunction(final SqlFunctionScalar function, final StringBuilder builder)
+            throws AdapterException {
+        final String realFunctionName = this.prefixFunctionAliases.get(function.getFunction());
+        final List<SqlNode> arguments = function.getArguments();
+        if (arguments.size() != 1) {
             throw new IllegalArgumentException(ExaError.messageBuilder("E-VSCJDBC-12").message(
                     "The {{realFunctionName|uq}} function requests 1 argument, but {{sqlArgumentsSize|uq}} were given.",
-                    realFunctionName, sqlArguments.size()).toString());
+                    realFunctionName, arguments.size()).toString());
         }
-        return "(" + realFunctionName + sqlArguments.get(0) + ")";
+        builder.append("(").append(realFunctionName);
+        appendSqlFor(arguments.get(0), builder);
+        builder.append(")");
     }
 
     @Override
     public String visit(final SqlFunctionScalarCase function) throws AdapterException {
-        final StringBuilder builder = new StringBuilder();
+        return render(builder -> appendFunctionCase(function, builder));
+    }
+
+    private void appendFunctionCase(final SqlFunctionScalarCase function, final StringBuilder builder)
+            throws AdapterException {
         builder.append("CASE");
         if (function.getBasis() != null) {
             builder.append(" ");
-            builder.append(function.getBasis().accept(this));
+            appendSqlFor(function.getBasis(), builder);
         }
         for (int i = 0; i < function.getArguments().size(); i++) {
-            final SqlNode node = function.getArguments().get(i);
-            final SqlNode result = function.getResults().get(i);
             builder.append(" WHEN ");
-            builder.append(node.accept(this));
+            appendSqlFor(function.getArguments().get(i), builder);
             builder.append(" THEN ");
-            builder.append(result.accept(this));
+            appendSqlFor(function.getResults().get(i), builder);
         }
         if (function.getResults().size() > function.getArguments().size()) {
             builder.append(" ELSE ");
-            builder.append(function.getResults().get(function.getResults().size() - 1).accept(this));
+            appendSqlFor(function.getResults().get(function.getResults().size() - 1), builder);
         }
         builder.append(" END");
-        return builder.toString();
     }
 
     @Override
     public String visit(final SqlFunctionScalarCast function) throws AdapterException {
-        final String expression = function.getArgument().accept(this);
-        return "CAST(" + expression + " AS " + function.getDataType() + ")";
+        return render(builder -> appendFunctionCast(function, builder));
+    }
+
+    private void appendFunctionCast(final SqlFunctionScalarCast function, final StringBuilder builder)
+            throws AdapterException {
+        builder.append("CAST(");
+        appendSqlFor(function.getArgument(), builder);
+        builder.append(" AS ").append(function.getDataType()).append(")");
     }
 
     @Override
@@ -536,23 +714,28 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlOrderBy orderBy) throws AdapterException {
+        return render(builder -> appendOrderBy(orderBy, builder));
+    }
+
+    private void appendOrderBy(final SqlOrderBy orderBy, final StringBuilder builder) throws AdapterException {
         // ORDER BY <expr> [ASC/DESC] [NULLS FIRST/LAST]
         // ASC and NULLS LAST are default in EXASOL
-        final List<String> sqlOrderElement = new ArrayList<>();
+        builder.append("ORDER BY ");
         for (int i = 0; i < orderBy.getExpressions().size(); ++i) {
-            String elementSql = orderBy.getExpressions().get(i).accept(this);
+            if (i > 0) {
+                builder.append(", ");
+            }
+            appendSqlFor(orderBy.getExpressions().get(i), builder);
             final boolean shallNullsBeAtTheEnd = orderBy.nullsLast().get(i);
             final boolean isAscending = orderBy.isAscending().get(i);
             if (!isAscending) {
-                elementSql += " DESC";
+                builder.append(" DESC");
             }
             if (shallNullsBeAtTheEnd != nullsAreAtEndByDefault(isAscending, this.dialect.getDefaultNullSorting())) {
                 // we have to specify null positioning explicitly, otherwise it would be wrong
-                elementSql += (shallNullsBeAtTheEnd) ? " NULLS LAST" : " NULLS FIRST";
+                builder.append((shallNullsBeAtTheEnd) ? " NULLS LAST" : " NULLS FIRST");
             }
-            sqlOrderElement.add(elementSql);
         }
-        return "ORDER BY " + String.join(", ", sqlOrderElement);
     }
 
     /**
@@ -577,31 +760,49 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlPredicateAnd predicate) throws AdapterException {
-        final List<String> operandsSql = new ArrayList<>();
-        for (final SqlNode node : predicate.getAndedPredicates()) {
-            operandsSql.add(node.accept(this));
-        }
-        return "(" + String.join(" AND ", operandsSql) + ")";
+        return render(builder -> appendJoined("(", predicate.getAndedPredicates(), " AND ", ")", builder));
     }
 
     @Override
     public String visit(final SqlPredicateBetween predicate) throws AdapterException {
-        return predicate.getExpression().accept(this) + " BETWEEN " + predicate.getBetweenLeft().accept(this) + " AND "
-                + predicate.getBetweenRight().accept(this);
+        return render(builder -> appendPredicateBetween(predicate, builder));
+    }
+
+    private void appendPredicateBetween(final SqlPredicateBetween predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendSqlFor(predicate.getExpression(), builder);
+        builder.append(" BETWEEN ");
+        appendSqlFor(predicate.getBetweenLeft(), builder);
+        builder.append(" AND ");
+        appendSqlFor(predicate.getBetweenRight(), builder);
     }
 
     @Override
     public String visit(final SqlPredicateEqual predicate) throws AdapterException {
-        return predicate.getLeft().accept(this) + " = " + predicate.getRight().accept(this);
+        return render(builder -> appendPredicateEqual(predicate, builder));
+    }
+
+    private void appendPredicateEqual(final SqlPredicateEqual predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendComparison(predicate.getLeft(), " = ", predicate.getRight(), builder);
+    }
+
+    private void appendComparison(final SqlNode left, final String operator, final SqlNode right,
+            final StringBuilder builder) throws AdapterException {
+        appendSqlFor(left, builder);
+        builder.append(operator);
+        appendSqlFor(right, builder);
     }
 
     @Override
     public String visit(final SqlPredicateInConstList predicate) throws AdapterException {
-        final List<String> argumentsSql = new ArrayList<>();
-        for (final SqlNode node : predicate.getInArguments()) {
-            argumentsSql.add(node.accept(this));
-        }
-        return predicate.getExpression().accept(this) + " IN (" + String.join(", ", argumentsSql) + ")";
+        return render(builder -> appendPredicateInConstList(predicate, builder));
+    }
+
+    private void appendPredicateInConstList(final SqlPredicateInConstList predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendSqlFor(predicate.getExpression(), builder);
+        appendJoined(" IN (", predicate.getInArguments(), ", ", ")", builder);
     }
 
     @Override
@@ -634,21 +835,38 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlPredicateLess predicate) throws AdapterException {
-        return predicate.getLeft().accept(this) + " < " + predicate.getRight().accept(this);
+        return render(builder -> appendPredicateLess(predicate, builder));
+    }
+
+    private void appendPredicateLess(final SqlPredicateLess predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendComparison(predicate.getLeft(), " < ", predicate.getRight(), builder);
     }
 
     @Override
     public String visit(final SqlPredicateLessEqual predicate) throws AdapterException {
-        return predicate.getLeft().accept(this) + " <= " + predicate.getRight().accept(this);
+        return render(builder -> appendPredicateLessEqual(predicate, builder));
+    }
+
+    private void appendPredicateLessEqual(final SqlPredicateLessEqual predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendComparison(predicate.getLeft(), " <= ", predicate.getRight(), builder);
     }
 
     @Override
     public String visit(final SqlPredicateLike predicate) throws AdapterException {
-        String sql = predicate.getLeft().accept(this) + " LIKE " + predicate.getPattern().accept(this);
+        return render(builder -> appendPredicateLike(predicate, builder));
+    }
+
+    private void appendPredicateLike(final SqlPredicateLike predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendSqlFor(predicate.getLeft(), builder);
+        builder.append(" LIKE ");
+        appendSqlFor(predicate.getPattern(), builder);
         if (predicate.getEscapeChar() != null) {
-            sql += " ESCAPE " + predicate.getEscapeChar().accept(this);
+            builder.append(" ESCAPE ");
+            appendSqlFor(predicate.getEscapeChar(), builder);
         }
-        return sql;
     }
 
     @Override
@@ -658,32 +876,47 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
 
     @Override
     public String visit(final SqlPredicateNot predicate) throws AdapterException {
+        return render(builder -> appendPredicateNot(predicate, builder));
+    }
+
+    private void appendPredicateNot(final SqlPredicateNot predicate, final StringBuilder builder)
+            throws AdapterException {
         // "SELECT NOT NOT TRUE" is invalid syntax, "SELECT NOT (NOT TRUE)" works.
-        return "NOT (" + predicate.getExpression().accept(this) + ")";
+        builder.append("NOT (");
+        appendSqlFor(predicate.getExpression(), builder);
+        builder.append(")");
     }
 
     @Override
     public String visit(final SqlPredicateNotEqual predicate) throws AdapterException {
-        return predicate.getLeft().accept(this) + " <> " + predicate.getRight().accept(this);
+        return render(builder -> appendPredicateNotEqual(predicate, builder));
+    }
+
+    private void appendPredicateNotEqual(final SqlPredicateNotEqual predicate, final StringBuilder builder)
+            throws AdapterException {
+        appendComparison(predicate.getLeft(), " <> ", predicate.getRight(), builder);
     }
 
     @Override
     public String visit(final SqlPredicateOr predicate) throws AdapterException {
-        final List<String> operandsSql = new ArrayList<>();
-        for (final SqlNode node : predicate.getOrPredicates()) {
-            operandsSql.add(node.accept(this));
-        }
-        return "(" + String.join(" OR ", operandsSql) + ")";
+        return render(builder -> appendJoined("(", predicate.getOrPredicates(), " OR ", ")", builder));
     }
 
     @Override
     public String visit(final SqlPredicateIsNull predicate) throws AdapterException {
-        return "(" + predicate.getExpression().accept(this) + ") IS NULL";
+        return render(builder -> appendPredicateIsNull(predicate.getExpression(), ") IS NULL", builder));
     }
 
     @Override
     public String visit(final SqlPredicateIsNotNull predicate) throws AdapterException {
-        return "(" + predicate.getExpression().accept(this) + ") IS NOT NULL";
+        return render(builder -> appendPredicateIsNull(predicate.getExpression(), ") IS NOT NULL", builder));
+    }
+
+    private void appendPredicateIsNull(final SqlNode expression, final String suffix, final StringBuilder builder)
+            throws AdapterException {
+        builder.append("(");
+        appendSqlFor(expression, builder);
+        builder.append(suffix);
     }
 
     /**
@@ -698,4 +931,20 @@ public class SqlGenerationVisitor implements SqlNodeVisitor<String>, SqlGenerato
         return converter.convertFromJsonToColumnAdapterNotes(column.getMetadata().getAdapterNotes(), column.getName())
                 .getTypeName();
     }
-}
\ No newline at end of file
+
+    /**
+     * Appends the SQL for a node of a specific type.
+     */
+    @FunctionalInterface
+    private interface NodeAppender {
+        void append(SqlGenerationVisitor visitor, SqlNode node, StringBuilder builder) throws AdapterException;
+    }
+
+    /**
+     * Appends SQL to the builder passed in.
+     */
+    @FunctionalInterface
+    private interface SqlAppender {
+        void appendTo(StringBuilder builder) throws AdapterException;
+    }
+}
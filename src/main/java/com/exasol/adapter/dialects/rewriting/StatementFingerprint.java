@@ -0,0 +1,373 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.sql.*;
+import com.exasol.adapter.sql.SqlFunctionAggregateListagg.Behavior;
+
+/**
+ * Fingerprint of a push-down statement.
+ * <p>
+ * The fingerprint is built by walking the statement tree without generating SQL. It contains the type of each node,
+ * identifiers, function names, literal values and the metadata of the tables in the statement. The rewriters read the
+ * table metadata in addition to the statement, e.g. the adapter notes for splitting the import into partitions.
+ * </p>
+ * <p>
+ * Strings are written with a length prefix, so that values containing separator characters cannot produce the same
+ * fingerprint as a different tree.
+ * </p>
+ */
+final class StatementFingerprint implements SqlNodeVisitor<Void> {
+    private final StringBuilder builder = new StringBuilder();
+
+    private StatementFingerprint() {
+        // use create()
+    }
+
+    /**
+     * Create the fingerprint of a push-down statement.
+     *
+     * @param statement push-down statement
+     * @return fingerprint
+     * @throws AdapterException if walking the statement tree fails
+     */
+    static String create(final SqlStatement statement) throws AdapterException {
+        final StatementFingerprint fingerprint = new StatementFingerprint();
+        fingerprint.node(statement);
+        return fingerprint.builder.toString();
+    }
+
+    private void node(final SqlNode node) throws AdapterException {
+        if (node == null) {
+            this.builder.append('-');
+        } else {
+            this.builder.append('(').append(node.getType());
+            node.accept(this);
+            this.builder.append(')');
+        }
+    }
+
+    private void nodes(final List<? extends SqlNode> nodes) throws AdapterException {
+        this.builder.append('[');
+        for (final SqlNode node : nodes) {
+            node(node);
+        }
+        this.builder.append(']');
+    }
+
+    private StatementFingerprint value(final Object value) {
+        if (value == null) {
+            this.builder.append(" -");
+        } else {
+            final String text = value.toString();
+            this.builder.append(' ').append(text.length()).append(':').append(text);
+        }
+        return this;
+    }
+
+    private void table(final TableMetadata table) {
+        if (table == null) {
+            value(null);
+            return;
+        }
+        value(table.getName()).value(table.getAdapterNotes());
+        for (final ColumnMetadata column : table.getColumns()) {
+            value(column.getName()).value(column.getType()).value(column.getAdapterNotes());
+        }
+    }
+
+    @Override
+    public Void visit(final SqlStatementSelect select) throws AdapterException {
+        node(select.getSelectList());
+        node(select.getFromClause());
+        node(select.hasFilter() ? select.getWhereClause() : null);
+        node(select.hasGroupBy() ? select.getGroupBy() : null);
+        node(select.hasHaving() ? select.getHaving() : null);
+        node(select.hasOrderBy() ? select.getOrderBy() : null);
+        node(select.hasLimit() ? select.getLimit() : null);
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlSelectList selectList) throws AdapterException {
+        if (selectList.hasExplicitColumnsList()) {
+            nodes(selectList.getExpressions());
+        } else {
+            value("*");
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlColumn column) {
+        value(column.hasTableAlias() ? column.getTableAlias() : null).value(column.getTableName())
+                .value(column.getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlTable table) {
+        value(table.getName()).value(table.hasAlias() ? table.getAlias() : null);
+        table(table.getMetadata());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlJoin join) throws AdapterException {
+        value(join.getJoinType());
+        node(join.getLeft());
+        node(join.getRight());
+        node(join.getCondition());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregateListagg function) throws AdapterException {
+        value(function.hasDistinct());
+        node(function.getArgument());
+        node(function.hasSeparator() ? function.getSeparator() : null);
+        final Behavior overflowBehavior = function.getOverflowBehavior();
+        value(overflowBehavior.getBehaviorType()).value(overflowBehavior.getTruncationType());
+        node(overflowBehavior.hasTruncationFiller() ? overflowBehavior.getTruncationFiller() : null);
+        node(function.hasOrderBy() ? function.getOrderBy() : null);
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlGroupBy groupBy) throws AdapterException {
+        nodes(groupBy.getExpressions());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregate function) throws AdapterException {
+        value(function.getFunction()).value(function.hasDistinct());
+        nodes(function.getArguments());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregateGroupConcat function) throws AdapterException {
+        value(function.getFunctionName()).value(function.hasDistinct());
+        node(function.getArgument());
+        node(function.hasOrderBy() ? function.getOrderBy() : null);
+        node(function.getSeparator());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalar function) throws AdapterException {
+        value(function.getFunction());
+        nodes(function.getArguments());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarCase function) throws AdapterException {
+        node(function.getBasis());
+        nodes(function.getArguments());
+        nodes(function.getResults());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarCast function) throws AdapterException {
+        value(function.getDataType());
+        node(function.getArgument());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarExtract function) throws AdapterException {
+        value(function.getToExtract());
+        node(function.getArgument());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarJsonValue function) throws AdapterException {
+        nodes(function.getArguments());
+        value(function.getReturningDataType());
+        behavior(function.getEmptyBehavior());
+        behavior(function.getErrorBehavior());
+        return null;
+    }
+
+    private void behavior(final SqlFunctionScalarJsonValue.Behavior behavior) throws AdapterException {
+        value(behavior.getBehaviorType());
+        final Optional<SqlNode> expression = behavior.getExpression();
+        node(expression.isPresent() ? expression.get() : null);
+    }
+
+    @Override
+    public Void visit(final SqlLimit limit) {
+        value(limit.getLimit()).value(limit.getOffset());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralBool literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralDate literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralDouble literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralExactnumeric literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralNull literal) {
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralString literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralTimestamp literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralTimestampUtc literal) {
+        value(literal.getValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlLiteralInterval literal) {
+        value(literal.getValue()).value(literal.getDataType());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlOrderBy orderBy) throws AdapterException {
+        nodes(orderBy.getExpressions());
+        value(orderBy.isAscending()).value(orderBy.nullsLast());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateAnd predicate) throws AdapterException {
+        nodes(predicate.getAndedPredicates());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateBetween predicate) throws AdapterException {
+        node(predicate.getExpression());
+        node(predicate.getBetweenLeft());
+        node(predicate.getBetweenRight());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateEqual predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getRight());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateInConstList predicate) throws AdapterException {
+        node(predicate.getExpression());
+        nodes(predicate.getInArguments());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsJson predicate) throws AdapterException {
+        node(predicate.getExpression());
+        value(predicate.getTypeConstraint()).value(predicate.getKeyUniquenessConstraint());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNotJson predicate) throws AdapterException {
+        node(predicate.getExpression());
+        value(predicate.getTypeConstraint()).value(predicate.getKeyUniquenessConstraint());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLess predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getRight());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLessEqual predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getRight());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLike predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getPattern());
+        node(predicate.getEscapeChar());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLikeRegexp predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getPattern());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateNot predicate) throws AdapterException {
+        node(predicate.getExpression());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateNotEqual predicate) throws AdapterException {
+        node(predicate.getLeft());
+        node(predicate.getRight());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateOr predicate) throws AdapterException {
+        nodes(predicate.getOrPredicates());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNull predicate) throws AdapterException {
+        node(predicate.getExpression());
+        return null;
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNotNull predicate) throws AdapterException {
+        node(predicate.getExpression());
+        return null;
+    }
+}
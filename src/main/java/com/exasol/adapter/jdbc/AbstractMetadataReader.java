@@ -4,6 +4,7 @@ import java.sql.Connection;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.properties.TableFilter;
 
 /**
  * This class contains parts that are used commonly across all types of metadata readers.
@@ -19,6 +20,7 @@ public abstract class AbstractMetadataReader implements MetadataReader {
     protected final ExaMetadata exaMetadata;
     /** Connection */
     protected final Connection connection;
+    private TableFilter tableFilter;
 
     /**
      * Create an {@link AbstractMetadataReader}.
@@ -53,4 +55,19 @@ public abstract class AbstractMetadataReader implements MetadataReader {
     public String getSchemaNameFilter() {
         return this.properties.getSchemaName();
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the filter selecting the remote tables to map.
+     * <p>
+     * The filter is compiled from the adapter properties on first use and reused afterwards.
+     * </p>
+     *
+     * @return table filter
+     */
+    protected TableFilter getTableFilter() {
+        if (this.tableFilter == null) {
+            this.tableFilter = TableFilter.from(this.properties);
+        }
+        return this.tableFilter;
+    }
+}
@@ -1,31 +1,61 @@
 package com.exasol.adapter.jdbc;
 
+import static com.exasol.adapter.jdbc.RemoteMetadataReaderConstants.ANY_COLUMN;
 import static com.exasol.adapter.jdbc.RemoteMetadataReaderConstants.ANY_TABLE;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.*;
 import java.util.*;
+import java.util.function.IntSupplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterProperties;
-import com.exasol.adapter.adapternotes.SchemaAdapterNotes;
-import com.exasol.adapter.adapternotes.SchemaAdapterNotesJsonConverter;
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.adapternotes.*;
 import com.exasol.adapter.dialects.IdentifierConverter;
-import com.exasol.adapter.metadata.SchemaMetadata;
-import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metrics.MetadataScanEvent;
+import com.exasol.adapter.metrics.Metrics;
+import com.exasol.adapter.properties.MetadataReadParallelism;
+import com.exasol.adapter.properties.TableCountLimit;
 import com.exasol.errorreporting.ExaError;
 
 /**
  * Contains a common part of remote metadata readers.
  */
 public abstract class AbstractRemoteMetadataReader extends AbstractMetadataReader implements RemoteMetadataReader {
+    /**
+     * Property that switches column mapping to a single schema-wide column scan instead of one scan per table.
+     */
+    public static final String BULK_COLUMN_SCAN_PROPERTY = "BULK_COLUMN_SCAN";
+    /**
+     * Property that switches the table scan to one exact-match scan per filtered table instead of listing all tables.
+     */
+    public static final String TARGETED_TABLE_SCAN_PROPERTY = "TARGETED_TABLE_SCAN";
+    /**
+     * Property that defines a local directory for metadata snapshots, enabling incremental reading of the remote
+     * schema metadata.
+     */
+    public static final String METADATA_SNAPSHOT_DIRECTORY_PROPERTY = "METADATA_SNAPSHOT_DIRECTORY";
+    /**
+     * Property that enables reading row count estimates of the remote tables into the table adapter notes.
+     */
+    public static final String TABLE_STATISTICS_PROPERTY = "TABLE_STATISTICS";
     private static final Logger LOGGER = Logger.getLogger(AbstractRemoteMetadataReader.class.getName());
+    private static final String INDEX_TYPE_COLUMN = "TYPE";
+    private static final String INDEX_NON_UNIQUE_COLUMN = "NON_UNIQUE";
+    private static final String INDEX_CARDINALITY_COLUMN = "CARDINALITY";
     /** Column metadata reader */
     protected final ColumnMetadataReader columnMetadataReader;
     /** Table metadata reader */
     protected final TableMetadataReader tableMetadataReader;
     /** Identifier converter */
     protected final IdentifierConverter identifierConverter;
+    /** Factory for additional connections or {@code null} if the reader is limited to its own connection */
+    protected final ConnectionFactory connectionFactory;
 
     /**
      * Create a new instance of {@link AbstractRemoteMetadataReader}.
@@ -36,7 +66,22 @@ public abstract class AbstractRemoteMetadataReader extends AbstractMetadataReade
      */
     protected AbstractRemoteMetadataReader(final Connection connection, final AdapterProperties properties,
                 final ExaMetadata exaMetadata) {
+        this(connection, null, properties, exaMetadata);
+    }
+
+    /**
+     * Create a new instance of {@link AbstractRemoteMetadataReader} that can open additional connections, e.g. for
+     * reading column metadata in parallel.
+     *
+     * @param connection        SQl connection
+     * @param connectionFactory factory for additional connections to the remote data source
+     * @param properties        adapter properties
+     * @param exaMetadata       metadata of the Exasol database
+     */
+    protected AbstractRemoteMetadataReader(final Connection connection, final ConnectionFactory connectionFactory,
+            final AdapterProperties properties, final ExaMetadata exaMetadata) {
         super(connection, properties, exaMetadata);
+        this.connectionFactory = connectionFactory;
         this.identifierConverter = createIdentifierConverter();
         this.columnMetadataReader = createColumnMetadataReader();
         this.tableMetadataReader = createTableMetadataReader();
@@ -51,6 +96,19 @@ public abstract class AbstractRemoteMetadataReader extends AbstractMetadataReade
      */
     protected abstract ColumnMetadataReader createColumnMetadataReader();
 
+    /**
+     * Create an additional reader that handles column metadata through the given connection.
+     * <p>
+     * Override this method to allow reading the columns of multiple tables in parallel. The default implementation
+     * does not support additional readers.
+     *
+     * @param connection connection the reader uses exclusively
+     * @return column metadata reader or an empty optional if additional readers are not supported
+     */
+    protected Optional<ColumnMetadataReader> createAdditionalColumnMetadataReader(final Connection connection) {
+        return Optional.empty();
+    }
+
     /**
      * Create a reader that handles table metadata.
      * <p>
@@ -98,23 +156,231 @@ public abstract class AbstractRemoteMetadataReader extends AbstractMetadataReade
 
     @Override
     public SchemaMetadata readRemoteSchemaMetadata() {
-        return readRemoteSchemaMetadataForSelectedTables(Collections.emptyList());
+        final Optional<MetadataSnapshotStore> snapshotStore = createMetadataSnapshotStore();
+        try {
+            if (snapshotStore.isPresent()) {
+                return readRemoteSchemaMetadataIncrementally(snapshotStore.get());
+            } else {
+                return getSchemaMetadata(Collections.emptyList());
+            }
+        } catch (final SQLException exception) {
+            throw createSchemaMetadataReadException(exception);
+        }
     }
 
     @Override
     public SchemaMetadata readRemoteSchemaMetadata(final List<String> selectedTables) {
-        return readRemoteSchemaMetadataForSelectedTables(selectedTables);
-    }
-
-    private SchemaMetadata readRemoteSchemaMetadataForSelectedTables(final List<String> selectedTables) {
         try {
             return this.getSchemaMetadata(selectedTables);
         } catch (final SQLException exception) {
-            throw new RemoteMetadataReaderException(ExaError.messageBuilder("E-VSCJDBC-21")
-                    .message("Unable to read remote schema metadata. SQL error: {{exceptionMessage|uq}}",
+            throw createSchemaMetadataReadException(exception);
+        }
+    }
+
+    private static RemoteMetadataReaderException createSchemaMetadataReadException(final SQLException exception) {
+        return new RemoteMetadataReaderException(ExaError.messageBuilder("E-VSCJDBC-21")
+                .message("Unable to read remote schema metadata. SQL error: {{exceptionMessage|uq}}",
+                        exception.getMessage())
+                .toString(), exception);
+    }
+
+    /**
+     * Create the store for metadata snapshots.
+     * <p>
+     * If a store is available, reading the metadata of the complete remote schema only reads tables that changed
+     * since the last snapshot. The default implementation stores the snapshots in the directory defined by property
+     * {@value #METADATA_SNAPSHOT_DIRECTORY_PROPERTY}. Override this method to store the snapshots elsewhere.
+     *
+     * @return metadata snapshot store or an empty optional if snapshots are disabled
+     */
+    protected Optional<MetadataSnapshotStore> createMetadataSnapshotStore() {
+        final String directory = this.properties.get(METADATA_SNAPSHOT_DIRECTORY_PROPERTY);
+        if ((directory == null) || directory.isEmpty()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(new FileMetadataSnapshotStore(Path.of(directory)));
+        }
+    }
+
+    /**
+     * Read a cheap signature for each table in the remote schema that changes whenever the structure of the table
+     * changes.
+     * <p>
+     * The default implementation lists the tables of the supported table types, reads the columns of all tables with a
+     * single scan and combines column count and a hash of the column definitions. Dialects can override this method
+     * with a cheaper source like the last DDL timestamps from the remote catalog. Signatures of tables that are
+     * excluded by the table filters are ignored.
+     *
+     * @return map from remote table name to table signature
+     * @throws SQLException if reading the signatures fails
+     */
+    protected Map<String, String> readTableSignatures() throws SQLException {
+        final DatabaseMetaData metadata = this.connection.getMetaData();
+        final WildcardEscaper wildcards = WildcardEscaper.instance(metadata.getSearchStringEscape());
+        final String schemaName = getSchemaNameFilter();
+        final String schemaPattern = schemaName == null ? null : wildcards.escape(schemaName);
+        final Set<String> tableNames = listTableNamesOfSupportedTypes(metadata, schemaPattern);
+        final Map<String, long[]> countsAndHashes = new LinkedHashMap<>();
+        try (final ResultSet columns = metadata.getColumns(getCatalogNameFilter(), schemaPattern,
+                getTableNamePattern(), ANY_COLUMN)) {
+            while (columns.next()) {
+                final String tableName = columns.getString(BaseColumnMetadataReader.TABLE_NAME_COLUMN);
+                if (tableNames.contains(tableName)) {
+                    final long[] countAndHash = countsAndHashes.computeIfAbsent(tableName, name -> new long[2]);
+                    ++countAndHash[0];
+                    countAndHash[1] = (31 * countAndHash[1]) + hashColumnDefinition(columns);
+                }
+            }
+        }
+        final Map<String, String> signatures = new LinkedHashMap<>();
+        countsAndHashes.forEach((tableName, countAndHash) -> signatures.put(tableName,
+                countAndHash[0] + ":" + Long.toHexString(countAndHash[1])));
+        return signatures;
+    }
+
+    private Set<String> listTableNamesOfSupportedTypes(final DatabaseMetaData metadata, final String schemaPattern)
+            throws SQLException {
+        final Set<String> tableNames = new HashSet<>();
+        try (final ResultSet tables = metadata.getTables(getCatalogNameFilter(), schemaPattern, getTableNamePattern(),
+                getTableTypeFilter())) {
+            while (tables.next()) {
+                tableNames.add(tables.getString(BaseTableMetadataReader.NAME_COLUMN));
+            }
+        }
+        return tableNames;
+    }
+
+    private Map<String, String> readSelectedTableSignatures() throws SQLException {
+        final Map<String, String> signatures = new LinkedHashMap<>();
+        readTableSignatures().forEach((tableName, signature) -> {
+            if (getTableFilter().matches(tableName) && this.tableMetadataReader.isTableIncludedByMapping(tableName)) {
+                signatures.put(tableName, signature);
+            }
+        });
+        return signatures;
+    }
+
+    private static int hashColumnDefinition(final ResultSet columns) throws SQLException {
+        return Objects.hash(columns.getString(BaseColumnMetadataReader.NAME_COLUMN),
+                columns.getInt(BaseColumnMetadataReader.DATA_TYPE_COLUMN),
+                columns.getInt(BaseColumnMetadataReader.SIZE_COLUMN),
+                columns.getInt(BaseColumnMetadataReader.SCALE_COLUMN),
+                columns.getString(BaseColumnMetadataReader.TYPE_NAME_COLUMN),
+                columns.getString(BaseColumnMetadataReader.NULLABLE_COLUMN),
+                columns.getString(BaseColumnMetadataReader.DEFAULT_VALUE_COLUMN),
+                columns.getString(BaseColumnMetadataReader.REMARKS_COLUMN));
+    }
+
+    private SchemaMetadata readRemoteSchemaMetadataIncrementally(final MetadataSnapshotStore snapshotStore)
+            throws SQLException {
+        final Map<String, String> signatures;
+        try {
+            signatures = readSelectedTableSignatures();
+        } catch (final SQLException | RemoteMetadataReaderException exception) {
+            LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-55")
+                    .message("Unable to read table signatures for incremental metadata reading: {{cause|uq}}",
                             exception.getMessage())
-                    .toString(), exception);
+                    .mitigation("Reading the complete remote metadata instead.").toString());
+            return getSchemaMetadata(Collections.emptyList());
+        }
+        final String key = getMetadataSnapshotKey();
+        final String fingerprint = getPropertiesFingerprint();
+        final MetadataSnapshot previousSnapshot = snapshotStore.load(key)
+                .filter(snapshot -> fingerprint.equals(snapshot.getPropertiesFingerprint()))
+                .orElseGet(() -> new MetadataSnapshot(fingerprint, Collections.emptyList()));
+        final List<String> changedTables = new ArrayList<>();
+        signatures.forEach((tableName, signature) -> {
+            if (previousSnapshot.getUnchangedTable(tableName, signature).isEmpty()) {
+                changedTables.add(tableName);
+            }
+        });
+        LOGGER.fine(() -> "Metadata snapshot: " + changedTables.size() + " of " + signatures.size()
+                + " tables are new or changed.");
+        final Map<String, TableMetadata> changedTableMetadata = readChangedTables(changedTables,
+                changedTables.size() == signatures.size());
+        final List<MetadataSnapshot.Entry> entries = new ArrayList<>();
+        int matchedChangedTables = 0;
+        for (final Map.Entry<String, String> signature : signatures.entrySet()) {
+            final String tableName = signature.getKey();
+            Optional<TableMetadata> table = previousSnapshot.getUnchangedTable(tableName, signature.getValue());
+            if (table.isEmpty()) {
+                table = Optional.ofNullable(changedTableMetadata.get(this.identifierConverter.convert(tableName)));
+                if (table.isPresent()) {
+                    ++matchedChangedTables;
+                }
+            }
+            table.ifPresent(
+                    metadata -> entries.add(new MetadataSnapshot.Entry(tableName, signature.getValue(), metadata)));
+        }
+        if (matchedChangedTables < changedTableMetadata.size()) {
+            LOGGER.fine("Unable to assign the changed tables to their remote names. Reading all remote metadata.");
+            return getSchemaMetadata(Collections.emptyList());
+        }
+        TableCountLimit.from(this.properties).validateNumberOfTables(entries.size());
+        final List<MetadataSnapshot.Entry> refreshedEntries = refreshUnchangedTables(entries,
+                new HashSet<>(changedTables));
+        snapshotStore.save(key, new MetadataSnapshot(fingerprint, refreshedEntries));
+        final List<TableMetadata> tables = new ArrayList<>(refreshedEntries.size());
+        for (final MetadataSnapshot.Entry entry : refreshedEntries) {
+            tables.add(entry.getTable());
+        }
+        return new SchemaMetadata(this.getJsonAdapterNotes(), tables);
+    }
+
+    /**
+     * Read the adapter notes of the tables taken from the snapshot again, since partitions and row counts can change
+     * without changing the table signature.
+     * <p>
+     * These are the same per-table reads a complete metadata read performs, only the columns are skipped. Remote calls
+     * are only made if the dialect reads partitions or {@value #TABLE_STATISTICS_PROPERTY} is enabled.
+     * </p>
+     */
+    private List<MetadataSnapshot.Entry> refreshUnchangedTables(final List<MetadataSnapshot.Entry> entries,
+            final Set<String> changedTables) throws SQLException {
+        final DatabaseMetaData remoteMetadata = this.connection.getMetaData();
+        final List<MetadataSnapshot.Entry> refreshedEntries = new ArrayList<>(entries.size());
+        for (final MetadataSnapshot.Entry entry : entries) {
+            if (changedTables.contains(entry.getRemoteTableName())) {
+                refreshedEntries.add(entry);
+            } else {
+                refreshedEntries.add(new MetadataSnapshot.Entry(entry.getRemoteTableName(), entry.getSignature(),
+                        refreshTableAdapterNotes(remoteMetadata, entry.getRemoteTableName(), entry.getTable())));
+            }
         }
+        return refreshedEntries;
+    }
+
+    private TableMetadata refreshTableAdapterNotes(final DatabaseMetaData remoteMetadata, final String remoteTableName,
+            final TableMetadata table) throws SQLException {
+        final TableMetadata refreshedTable = new TableMetadata(table.getName(),
+                this.tableMetadataReader.readTableAdapterNotes(remoteTableName), table.getColumns(),
+                table.getComment());
+        return isTableStatisticsEnabled() ? addTableStatistics(remoteMetadata, refreshedTable, remoteTableName)
+                : refreshedTable;
+    }
+
+    private Map<String, TableMetadata> readChangedTables(final List<String> changedTables,
+            final boolean allTablesChanged) throws SQLException {
+        final Map<String, TableMetadata> tablesByName = new HashMap<>();
+        if (!changedTables.isEmpty()) {
+            for (final TableMetadata table : getTableMetadata(
+                    allTablesChanged ? Collections.emptyList() : changedTables)) {
+                tablesByName.put(table.getName(), table);
+            }
+        }
+        return tablesByName;
+    }
+
+    private String getMetadataSnapshotKey() {
+        return this.properties.getConnectionName() + "\n" + getCatalogNameFilter() + "\n" + getSchemaNameFilter();
+    }
+
+    private String getPropertiesFingerprint() {
+        final StringBuilder builder = new StringBuilder(getClass().getName());
+        for (final String key : new TreeSet<>(this.properties.keySet())) {
+            builder.append('\n').append(key).append('=').append(this.properties.get(key));
+        }
+        return UUID.nameUUIDFromBytes(builder.toString().getBytes(StandardCharsets.UTF_8)).toString();
     }
 
     private SchemaMetadata getSchemaMetadata(final List<String> selectedTables) throws SQLException {
@@ -134,13 +400,371 @@ public abstract class AbstractRemoteMetadataReader extends AbstractMetadataReade
             final List<String> selectedTables) throws SQLException {
         final String catalogName = this.getCatalogNameFilter();
         final String schemaName = this.getSchemaNameFilter();
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.TABLE_LISTING);
+        final List<String> candidateTables;
+        try {
+            candidateTables = listSelectedTableNames(remoteMetadata, selectedTables);
+        } finally {
+            timer.stop();
+        }
+        LOGGER.fine(() -> "Found " + candidateTables.size() + " candidate table(s) for mapping.");
+        TableCountLimit.from(this.properties).validateNumberOfTables(candidateTables.size());
+        if (isBulkColumnScanEnabled(selectedTables)) {
+            LOGGER.fine("Reading the columns of all tables with a single bulk column scan.");
+            this.columnMetadataReader.prefetchColumns();
+        } else {
+            final MetadataReadParallelism parallelism = MetadataReadParallelism.from(this.properties);
+            if (parallelism.isParallel()) {
+                prefetchColumnsInParallel(candidateTables, parallelism.getParallelism());
+            }
+        }
         logTablesScan(catalogName, schemaName);
-        try (final ResultSet remoteTables = remoteMetadata.getTables(catalogName, schemaName, ANY_TABLE,
+        final List<TableMetadata> tables = isTargetedTableScanEnabled(selectedTables)
+                ? extractTargetedTableMetadata(remoteMetadata, selectedTables)
+                : extractScannedTableMetadata(remoteMetadata, selectedTables);
+        return isTableStatisticsEnabled() ? addTableStatistics(remoteMetadata, tables, candidateTables) : tables;
+    }
+
+    private List<TableMetadata> extractScannedTableMetadata(final DatabaseMetaData remoteMetadata,
+            final List<String> selectedTables) throws SQLException {
+        final String catalogName = this.getCatalogNameFilter();
+        final String schemaName = this.getSchemaNameFilter();
+        final MetadataScanEvent event = beginTablesScanEvent();
+        try (final ResultSet remoteTables = remoteMetadata.getTables(catalogName, schemaName, getTableNamePattern(),
                 getTableTypeFilter())) {
-            return this.tableMetadataReader.mapTables(remoteTables, selectedTables);
+            final List<TableMetadata> tables = this.tableMetadataReader.mapTables(remoteTables, selectedTables);
+            commitTablesScanEvent(event, getTableNamePattern(), tables.size(), () -> countColumns(tables));
+            return tables;
+        }
+    }
+
+    /**
+     * Check if row count estimates of the remote tables should be read into the table adapter notes.
+     *
+     * @return {@code true} if table statistics should be read
+     */
+    protected boolean isTableStatisticsEnabled() {
+        return this.properties.isEnabled(TABLE_STATISTICS_PROPERTY);
+    }
+
+    private List<TableMetadata> addTableStatistics(final DatabaseMetaData remoteMetadata,
+            final List<TableMetadata> tables, final List<String> remoteTableNames) {
+        final Map<String, String> remoteNamesByMappedName = new HashMap<>();
+        for (final String remoteTableName : remoteTableNames) {
+            remoteNamesByMappedName.put(this.identifierConverter.convert(remoteTableName), remoteTableName);
+        }
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.TABLE_STATISTICS);
+        try {
+            final List<TableMetadata> tablesWithStatistics = new ArrayList<>(tables.size());
+            for (final TableMetadata table : tables) {
+                final String remoteTableName = remoteNamesByMappedName.get(table.getName());
+                tablesWithStatistics.add(remoteTableName == null ? table
+                        : addTableStatistics(remoteMetadata, table, remoteTableName));
+            }
+            return tablesWithStatistics;
+        } finally {
+            timer.stop();
         }
     }
 
+    private TableMetadata addTableStatistics(final DatabaseMetaData remoteMetadata, final TableMetadata table,
+            final String remoteTableName) {
+        try {
+            final OptionalLong rowCount = readTableRowCount(remoteMetadata, remoteTableName);
+            if (rowCount.isEmpty()) {
+                return table;
+            }
+            final TableAdapterNotesJsonConverter converter = TableAdapterNotesJsonConverter.getInstance();
+            final TableAdapterNotes notes = converter
+                    .convertFromJsonToTableAdapterNotes(table.getAdapterNotes(), table.getName())
+                    .withRowCount(rowCount.getAsLong());
+            return new TableMetadata(table.getName(), converter.convertToJson(notes), table.getColumns(),
+                    table.getComment());
+        } catch (final SQLException | AdapterException exception) {
+            LOGGER.fine(() -> "Unable to read statistics of table \"" + remoteTableName + "\": "
+                    + exception.getMessage());
+            return table;
+        }
+    }
+
+    /**
+     * Read a cheap estimate of the number of rows of a remote table.
+     * <p>
+     * The estimate is taken from the catalog row count of the dialect if available. Otherwise the approximate index
+     * statistics of the JDBC driver are used: the cardinality of the table statistic or, if the driver does not report
+     * one, the highest cardinality of a unique index.
+     * </p>
+     *
+     * @param remoteMetadata  metadata of the remote data source
+     * @param remoteTableName name of the table as provided by the source
+     * @return row count estimate or an empty optional if neither the catalog nor the driver provide one
+     * @throws SQLException if reading the statistics fails
+     */
+    public OptionalLong readTableRowCount(final DatabaseMetaData remoteMetadata, final String remoteTableName)
+            throws SQLException {
+        final OptionalLong catalogRowCount = readCatalogRowCount(remoteTableName);
+        if (catalogRowCount.isPresent()) {
+            return catalogRowCount;
+        }
+        long tableCardinality = -1;
+        long uniqueIndexCardinality = -1;
+        try (final ResultSet indexes = remoteMetadata.getIndexInfo(getCatalogNameFilter(), getSchemaNameFilter(),
+                remoteTableName, false, true)) {
+            while (indexes.next()) {
+                final long cardinality = indexes.getLong(INDEX_CARDINALITY_COLUMN);
+                if (indexes.wasNull()) {
+                    continue;
+                }
+                if (indexes.getShort(INDEX_TYPE_COLUMN) == DatabaseMetaData.tableIndexStatistic) {
+                    tableCardinality = cardinality;
+                } else if (!indexes.getBoolean(INDEX_NON_UNIQUE_COLUMN)) {
+                    uniqueIndexCardinality = Math.max(uniqueIndexCardinality, cardinality);
+                }
+            }
+        }
+        final long rowCount = tableCardinality >= 0 ? tableCardinality : uniqueIndexCardinality;
+        return rowCount >= 0 ? OptionalLong.of(rowCount) : OptionalLong.empty();
+    }
+
+    /**
+     * Read the row count of a remote table from the catalog of the remote data source.
+     * <p>
+     * Override this method in dialects whose data source keeps row counts in its catalog, e.g. in the table
+     * statistics maintained by the optimizer. The default implementation does not read a row count.
+     * </p>
+     *
+     * @param remoteTableName name of the table as provided by the source
+     * @return row count or an empty optional to fall back to the index statistics of the JDBC driver
+     * @throws SQLException if reading the catalog fails
+     */
+    protected OptionalLong readCatalogRowCount(final String remoteTableName) throws SQLException {
+        return OptionalLong.empty();
+    }
+
+    private static MetadataScanEvent beginTablesScanEvent() {
+        final MetadataScanEvent event = new MetadataScanEvent();
+        event.begin();
+        return event;
+    }
+
+    private void commitTablesScanEvent(final MetadataScanEvent event, final String tableName, final int tableCount,
+            final IntSupplier columnCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.scan = MetadataScanEvent.TABLES;
+            event.catalogName = getCatalogNameFilter();
+            event.schemaName = getSchemaNameFilter();
+            event.tableName = tableName;
+            event.tableCount = tableCount;
+            event.columnCount = columnCount.getAsInt();
+            event.commit();
+        }
+    }
+
+    private static int countColumns(final List<TableMetadata> tables) {
+        int columns = 0;
+        for (final TableMetadata table : tables) {
+            columns += table.getColumns().size();
+        }
+        return columns;
+    }
+
+    private List<TableMetadata> extractTargetedTableMetadata(final DatabaseMetaData remoteMetadata,
+            final List<String> selectedTables) throws SQLException {
+        final List<String> tableNames = getTargetedTableNames(selectedTables);
+        LOGGER.fine(() -> "Scanning " + tableNames.size() + " filtered table(s) individually.");
+        final WildcardEscaper wildcards = WildcardEscaper.instance(remoteMetadata.getSearchStringEscape());
+        final List<TableMetadata> tables = new ArrayList<>();
+        final List<String> missingTableNames = new ArrayList<>();
+        for (final String tableName : tableNames) {
+            final MetadataScanEvent event = beginTablesScanEvent();
+            try (final ResultSet remoteTables = remoteMetadata.getTables(getCatalogNameFilter(),
+                    getSchemaNameFilter(), wildcards.escape(tableName), getTableTypeFilter())) {
+                final List<TableMetadata> scannedTables = this.tableMetadataReader.mapTables(remoteTables,
+                        selectedTables, false);
+                commitTablesScanEvent(event, tableName, scannedTables.size(), () -> countColumns(scannedTables));
+                if (scannedTables.isEmpty()) {
+                    missingTableNames.add(tableName);
+                }
+                tables.addAll(scannedTables);
+            }
+        }
+        if (!missingTableNames.isEmpty()) {
+            logMissingTargetedTables(missingTableNames);
+        }
+        TableCountLimit.from(this.properties).validateNumberOfTables(tables.size());
+        return tables;
+    }
+
+    private static void logMissingTargetedTables(final List<String> missingTableNames) {
+        LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-64")
+                .message("Targeted table scan did not find the following table(s): {{tables|uq}}.",
+                        String.join(", ", missingTableNames))
+                .mitigation("Please check the spelling and exact case of the table names in "
+                        + AdapterProperties.TABLE_FILTER_PROPERTY + ".")
+                .toString());
+    }
+
+    private List<String> getTargetedTableNames(final List<String> selectedTables) {
+        final List<String> filteredTables = this.properties.getFilteredTables();
+        final Set<String> tableNames = new LinkedHashSet<>();
+        if (isNullOrEmpty(selectedTables)) {
+            tableNames.addAll(filteredTables);
+        } else {
+            for (final String tableName : selectedTables) {
+                if (isSelected(tableName, filteredTables)) {
+                    tableNames.add(tableName);
+                }
+            }
+        }
+        return new ArrayList<>(tableNames);
+    }
+
+    private static boolean isNullOrEmpty(final List<String> tables) {
+        return (tables == null) || tables.isEmpty();
+    }
+
+    private void prefetchColumnsInParallel(final List<String> tableNames, final int parallelism) {
+        final List<Connection> additionalConnections = new ArrayList<>();
+        try {
+            final List<ColumnMetadataReader> readers = new ArrayList<>();
+            readers.add(this.columnMetadataReader);
+            final int maxReaders = Math.min(parallelism, tableNames.size());
+            boolean canAddReader = true;
+            while (canAddReader && (readers.size() < maxReaders)) {
+                canAddReader = addAdditionalColumnMetadataReader(readers, additionalConnections);
+            }
+            if (readers.size() > 1) {
+                this.columnMetadataReader.addPrefetchedColumns(new ParallelColumnMetadataReader(readers)
+                        .mapColumns(tableNames, TableCountLimit.from(this.properties)));
+            }
+        } finally {
+            closeAdditionalConnections(additionalConnections);
+        }
+    }
+
+    /**
+     * List the names of the tables that are candidates for mapping with a cheap scan that does not read any columns.
+     * <p>
+     * This allows enforcing the table count limit before the expensive column mapping starts. The candidates also
+     * include tables that the mapping skips later, e.g. tables without columns or tables rejected by
+     * {@link BaseTableMetadataReader#isTableSupported(List, String)}, so the limit applies to them as well.
+     * </p>
+     */
+    private List<String> listSelectedTableNames(final DatabaseMetaData remoteMetadata,
+            final List<String> selectedTables) throws SQLException {
+        final List<String> tableNames = new ArrayList<>();
+        if (isTargetedTableScanEnabled(selectedTables)) {
+            for (final String tableName : getTargetedTableNames(selectedTables)) {
+                if (this.tableMetadataReader.isTableIncludedByMapping(tableName)) {
+                    tableNames.add(tableName);
+                }
+            }
+            return tableNames;
+        }
+        final MetadataScanEvent event = beginTablesScanEvent();
+        int scannedTables = 0;
+        try (final ResultSet remoteTables = remoteMetadata.getTables(getCatalogNameFilter(), getSchemaNameFilter(),
+                getTableNamePattern(), getTableTypeFilter())) {
+            while (remoteTables.next()) {
+                ++scannedTables;
+                final String tableName = remoteTables.getString(BaseTableMetadataReader.NAME_COLUMN);
+                if (isSelected(tableName, selectedTables)
+                        && getTableFilter().matches(tableName)
+                        && this.tableMetadataReader.isTableIncludedByMapping(tableName)) {
+                    tableNames.add(tableName);
+                }
+            }
+        }
+        commitTablesScanEvent(event, getTableNamePattern(), scannedTables, () -> 0);
+        return tableNames;
+    }
+
+    private static boolean isSelected(final String tableName, final List<String> selectedTables) {
+        return isNullOrEmpty(selectedTables) || selectedTables.contains(tableName);
+    }
+
+    private boolean addAdditionalColumnMetadataReader(final List<ColumnMetadataReader> readers,
+            final List<Connection> additionalConnections) {
+        if (this.connectionFactory == null) {
+            LOGGER.fine("Reading column metadata sequentially since the reader cannot open additional connections.");
+            return false;
+        }
+        try {
+            final Connection connection = this.connectionFactory.createAdditionalConnection();
+            additionalConnections.add(connection);
+            final Optional<ColumnMetadataReader> reader = createAdditionalColumnMetadataReader(connection);
+            if (reader.isPresent()) {
+                readers.add(reader.get());
+                return true;
+            } else {
+                LOGGER.fine("Reading column metadata sequentially since the dialect does not support parallel readers.");
+                return false;
+            }
+        } catch (final SQLException exception) {
+            LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-52")
+                    .message("Unable to open an additional connection for reading column metadata in parallel: "
+                            + "{{cause|uq}}", exception.getMessage())
+                    .mitigation("Continuing with {{readers}} connection(s).", readers.size()).toString());
+            return false;
+        }
+    }
+
+    private static void closeAdditionalConnections(final List<Connection> connections) {
+        for (final Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (final SQLException exception) {
+                LOGGER.log(Level.WARNING, "Error during close of additional connection.", exception);
+            }
+        }
+    }
+
+    /**
+     * Check if the columns of all tables should be read with a single bulk scan.
+     * <p>
+     * The bulk scan only pays off if the whole schema is mapped, so it is skipped if the user selected or filtered
+     * individual tables. Override this method in dialects whose drivers always or never support a schema-wide column
+     * scan.
+     *
+     * @param selectedTables tables selected for mapping
+     * @return {@code true} if the columns should be read with a single bulk scan
+     */
+    protected boolean isBulkColumnScanEnabled(final List<String> selectedTables) {
+        return this.properties.isEnabled(BULK_COLUMN_SCAN_PROPERTY) //
+                && selectedTables.isEmpty() //
+                && getTableFilter().includesAllTables();
+    }
+
+    /**
+     * Check if the tables should be scanned one by one instead of listing all tables of the schema.
+     * <p>
+     * The targeted scan is only used if the user selected or filtered individual tables. Each table is then looked up
+     * with an exact-match pattern, so that the cost of the scan depends on the number of filtered tables rather than
+     * on the size of the remote schema.
+     *
+     * @param selectedTables tables selected for mapping
+     * @return {@code true} if the tables should be scanned individually
+     */
+    protected boolean isTargetedTableScanEnabled(final List<String> selectedTables) {
+        return this.properties.isEnabled(TARGETED_TABLE_SCAN_PROPERTY) //
+                && !getTableFilter().hasIncludePatterns() //
+                && !(isNullOrEmpty(selectedTables) && this.properties.getFilteredTables().isEmpty());
+    }
+
+    /**
+     * Get the table name pattern for listing the remote tables.
+     * <p>
+     * If the tables are included by a single wildcard pattern, the pattern is passed to the JDBC driver. Otherwise all
+     * tables are listed and filtered afterwards.
+     * </p>
+     *
+     * @return table name pattern
+     */
+    protected String getTableNamePattern() {
+        return getTableFilter().getTableNamePattern().orElse(ANY_TABLE);
+    }
+
     /**
      * Get the table type filter.
      * 
@@ -4,8 +4,7 @@ import static com.exasol.adapter.jdbc.RemoteMetadataReaderConstants.*;
 import static com.exasol.adapter.metadata.DataType.ExaCharset.UTF8;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,6 +16,8 @@ import com.exasol.adapter.adapternotes.ColumnAdapterNotesJsonConverter;
 import com.exasol.adapter.dialects.IdentifierConverter;
 import com.exasol.adapter.metadata.ColumnMetadata;
 import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metrics.MetadataScanEvent;
+import com.exasol.adapter.metrics.Metrics;
 import com.exasol.errorreporting.ExaError;
 
 /**
@@ -46,12 +47,15 @@ public class BaseColumnMetadataReader extends AbstractMetadataReader implements
     public static final String AUTOINCREMENT_COLUMN = "IS_AUTOINCREMENT";
     /** Key for is nullable */
     public static final String NULLABLE_COLUMN = "IS_NULLABLE";
+    /** Key for the name of the table a column belongs to */
+    public static final String TABLE_NAME_COLUMN = "TABLE_NAME";
     private static final boolean DEFAULT_NULLABLE = true;
 
     private static final Pattern NUMBER_TYPE_PATTERN = Pattern.compile("\\s*(\\d+)\\s*,\\s*(\\d+)\\s*");
 
     private final IdentifierConverter identifierConverter;
     private final boolean supportsTimestampsWithNanoPrecision;
+    private Map<String, List<ColumnMetadata>> prefetchedColumns = null;
 
     /**
      * Create a new instance of a {@link ColumnMetadataReader}.
@@ -84,7 +88,82 @@ public class BaseColumnMetadataReader extends AbstractMetadataReader implements
      */
     @Override
     public List<ColumnMetadata> mapColumns(final String tableName) {
-        return mapColumns(getCatalogNameFilter(), getSchemaNameFilter(), tableName);
+        if ((this.prefetchedColumns != null) && this.prefetchedColumns.containsKey(tableName)) {
+            return this.prefetchedColumns.get(tableName);
+        } else {
+            final Metrics.Timer timer = Metrics.startTimer(Metrics.COLUMN_READING);
+            final MetadataScanEvent event = new MetadataScanEvent();
+            event.begin();
+            try {
+                final List<ColumnMetadata> columns = mapColumns(getCatalogNameFilter(), getSchemaNameFilter(),
+                        tableName);
+                commitColumnsScanEvent(event, tableName, 1, columns.size());
+                return columns;
+            } finally {
+                timer.stop();
+            }
+        }
+    }
+
+    /**
+     * Read the column metadata of all tables in the configured catalog and schema with a single scan.
+     * <p>
+     * Subsequent calls to {@link #mapColumns(String)} are answered from the result of this scan. Tables that the scan
+     * did not report are still read individually.
+     */
+    @Override
+    public void prefetchColumns() {
+        final MetadataScanEvent event = new MetadataScanEvent();
+        event.begin();
+        final Map<String, List<ColumnMetadata>> columnsByTable = mapColumnsOfAllTables(getCatalogNameFilter(),
+                getSchemaNameFilter());
+        commitColumnsScanEvent(event, null, columnsByTable.size(),
+                columnsByTable.values().stream().mapToInt(List::size).sum());
+        addPrefetchedColumns(columnsByTable);
+    }
+
+    private void commitColumnsScanEvent(final MetadataScanEvent event, final String tableName, final int tableCount,
+            final int columnCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.scan = MetadataScanEvent.COLUMNS;
+            event.catalogName = getCatalogNameFilter();
+            event.schemaName = getSchemaNameFilter();
+            event.tableName = tableName;
+            event.tableCount = tableCount;
+            event.columnCount = columnCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void addPrefetchedColumns(final Map<String, List<ColumnMetadata>> columnsByTable) {
+        if (this.prefetchedColumns == null) {
+            this.prefetchedColumns = new HashMap<>(columnsByTable);
+        } else {
+            this.prefetchedColumns.putAll(columnsByTable);
+        }
+    }
+
+    /**
+     * Read the column metadata of all tables in a catalog and schema with a single scan, grouped by table name.
+     *
+     * @param catalogName catalog name
+     * @param schemaName  schema name
+     * @return map from the remote table name to the list of column metadata, in the order reported by the driver
+     */
+    protected Map<String, List<ColumnMetadata>> mapColumnsOfAllTables(final String catalogName,
+            final String schemaName) {
+        try (final ResultSet remoteColumns = getColumnMetadataOfAllTables(catalogName, schemaName)) {
+            return getColumnsGroupedByTableFromResultSet(remoteColumns);
+        } catch (final SQLException exception) {
+            throw new RemoteMetadataReaderException(ExaError.messageBuilder("E-VSCJDBC-48").message(
+                    "Unable to read column metadata of all tables from remote for catalog \"{{catalogName|uq}}\" and schema \"{{schemaName|uq}}\"",
+                    catalogName, schemaName) //
+                    .mitigation("Please disable the bulk column scan by setting property {{property}} to 'FALSE'.",
+                            AbstractRemoteMetadataReader.BULK_COLUMN_SCAN_PROPERTY)
+                    .toString(), exception);
+        }
     }
 
     /**
@@ -125,6 +204,16 @@ public class BaseColumnMetadataReader extends AbstractMetadataReader implements
                 ANY_COLUMN);
     }
 
+    private ResultSet getColumnMetadataOfAllTables(final String catalogName, final String schemaName)
+            throws SQLException {
+        final DatabaseMetaData metadata = this.connection.getMetaData();
+        final WildcardEscaper wildcards = WildcardEscaper.instance(metadata.getSearchStringEscape());
+        return metadata.getColumns(catalogName, //
+                schemaName == null ? null : wildcards.escape(schemaName), //
+                ANY_TABLE, //
+                ANY_COLUMN);
+    }
+
     /**
      * Read column metadata from JDBC driver without escaping potential SQL wild cards in the names of schema and table.
      *
@@ -155,6 +244,24 @@ public class BaseColumnMetadataReader extends AbstractMetadataReader implements
         return columns;
     }
 
+    /**
+     * Read a columns result set spanning multiple tables in a single pass.
+     *
+     * @param remoteColumns column result set containing the columns of multiple tables
+     * @return map from the remote table name to the list of column metadata
+     * @throws SQLException if read fails
+     */
+    protected Map<String, List<ColumnMetadata>> getColumnsGroupedByTableFromResultSet(final ResultSet remoteColumns)
+            throws SQLException {
+        final Map<String, List<ColumnMetadata>> columnsByTable = new HashMap<>();
+        while (remoteColumns.next()) {
+            final String tableName = remoteColumns.getString(TABLE_NAME_COLUMN);
+            mapOrSkipColumn(remoteColumns, columnsByTable.computeIfAbsent(tableName, name -> new ArrayList<>()));
+        }
+        LOGGER.fine(() -> "Bulk column scan read columns of " + columnsByTable.size() + " tables.");
+        return columnsByTable;
+    }
+
     /**
      * Read the column metadata from result set if supported. Otherwise, skip.
      *
@@ -1,6 +1,7 @@
 package com.exasol.adapter.jdbc;
 
 import java.sql.Connection;
+import java.util.Optional;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterProperties;
@@ -26,6 +27,20 @@ public final class BaseRemoteMetadataReader extends AbstractRemoteMetadataReader
         super(connection, properties, exaMetadata);
     }
 
+    /**
+     * Create a new instance of a {@link BaseTableMetadataReader} that can read column metadata in parallel.
+     *
+     * @param connection        database connection through which the reader retrieves the metadata from the remote
+     *                          source
+     * @param connectionFactory factory for additional connections to the remote source
+     * @param properties        user-defined properties
+     * @param exaMetadata       metadata of the Exasol database
+     */
+    public BaseRemoteMetadataReader(final Connection connection, final ConnectionFactory connectionFactory,
+            final AdapterProperties properties, final ExaMetadata exaMetadata) {
+        super(connection, connectionFactory, properties, exaMetadata);
+    }
+
     /**
      * Create a reader that handles column metadata.
      * <p>
@@ -38,6 +53,12 @@ public final class BaseRemoteMetadataReader extends AbstractRemoteMetadataReader
         return new BaseColumnMetadataReader(this.connection, this.properties, this.exaMetadata, this.identifierConverter);
     }
 
+    @Override
+    protected Optional<ColumnMetadataReader> createAdditionalColumnMetadataReader(final Connection connection) {
+        return Optional.of(new BaseColumnMetadataReader(connection, this.properties, this.exaMetadata,
+                this.identifierConverter));
+    }
+
     /**
      * Create a reader that handles table metadata.
      * <p>
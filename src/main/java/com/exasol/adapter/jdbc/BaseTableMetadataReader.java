@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.adapternotes.*;
 import com.exasol.adapter.dialects.IdentifierConverter;
 import com.exasol.adapter.metadata.ColumnMetadata;
 import com.exasol.adapter.metadata.TableMetadata;
@@ -52,21 +53,33 @@ public class BaseTableMetadataReader extends AbstractMetadataReader implements T
     @Override
     public List<TableMetadata> mapTables(final ResultSet remoteTables, final List<String> filteredTables)
             throws SQLException {
+        return mapTables(remoteTables, filteredTables, true);
+    }
+
+    @Override
+    public List<TableMetadata> mapTables(final ResultSet remoteTables, final List<String> filteredTables,
+            final boolean warnIfEmpty) throws SQLException {
         if (remoteTables.next()) {
             return extractTableMetadata(remoteTables, filteredTables);
         } else {
-            LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-35")
-                    .message("Table scan did not find any tables. This can mean that either" //
-                            + " a) the source does not contain tables (yet)," + " b) the table type is not supported" //
-                            + " c) the table scan filter criteria is incorrect or" //
-                            + " d) the user does not have access permissions.")
-                    .mitigation("Please check that the source actually contains tables. " //
-                            + " Also check the spelling and exact case of any catalog or schema name you provided.")
-                    .toString());
+            if (warnIfEmpty) {
+                logEmptyTableScan();
+            }
             return Collections.emptyList();
         }
     }
 
+    private static void logEmptyTableScan() {
+        LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-35")
+                .message("Table scan did not find any tables. This can mean that either" //
+                        + " a) the source does not contain tables (yet)," + " b) the table type is not supported" //
+                        + " c) the table scan filter criteria is incorrect or" //
+                        + " d) the user does not have access permissions.")
+                .mitigation("Please check that the source actually contains tables. " //
+                        + " Also check the spelling and exact case of any catalog or schema name you provided.")
+                .toString());
+    }
+
     private List<TableMetadata> extractTableMetadata(final ResultSet remoteTables, final List<String> filteredTables)
             throws SQLException {
         final List<TableMetadata> mappedTables = new ArrayList<>();
@@ -121,7 +134,34 @@ public class BaseTableMetadataReader extends AbstractMetadataReader implements T
     protected TableMetadata mapTable(final ResultSet table, final String tableName) throws SQLException {
         final String comment = Optional.ofNullable(readComment(table)).orElse("");
         final List<ColumnMetadata> columns = this.columnMetadataReader.mapColumns(tableName);
-        return new TableMetadata(adjustIdentifierCase(tableName), DEFAULT_TABLE_ADAPTER_NOTES, columns, comment);
+        return new TableMetadata(adjustIdentifierCase(tableName), readTableAdapterNotes(tableName), columns,
+                comment);
+    }
+
+    @Override
+    public String readTableAdapterNotes(final String tableName) throws SQLException {
+        final List<TablePartition> partitions = readPartitions(tableName);
+        if (partitions.isEmpty()) {
+            return DEFAULT_TABLE_ADAPTER_NOTES;
+        }
+        LOGGER.fine(() -> "Found partitions " + partitions + " of table \"" + tableName + "\".");
+        return TableAdapterNotesJsonConverter.getInstance().convertToJson(new TableAdapterNotes(partitions));
+    }
+
+    /**
+     * Read the partitions of a table from the catalog of the remote data source.
+     * <p>
+     * The partitions are stored in the table adapter notes, so that query rewriters can split push-down queries along
+     * the partition boundaries. Dialects whose data source exposes range partitions override this method. The base
+     * implementation does not discover any partitions.
+     * </p>
+     *
+     * @param tableName name of the table as provided by the source
+     * @return range partitions of the table or an empty list if the table is not partitioned
+     * @throws SQLException if reading the partition catalog fails
+     */
+    protected List<TablePartition> readPartitions(final String tableName) throws SQLException {
+        return Collections.emptyList();
     }
 
     /**
@@ -196,7 +236,7 @@ public class BaseTableMetadataReader extends AbstractMetadataReader implements T
     }
 
     private boolean isFilteredByProperties(final String tableName) {
-        return this.isFiltered(tableName, this.properties.getFilteredTables());
+        return getTableFilter().matches(tableName);
     }
 
     /**
@@ -0,0 +1,153 @@
+package com.exasol.adapter.jdbc;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.cache.BoundedCache;
+import com.exasol.adapter.properties.ColumnDescriptionCacheSettings;
+
+/**
+ * Bounded cache for the column descriptions of push-down queries.
+ * <p>
+ * Describing the columns of a push-down query requires preparing the query on the remote data source. Since the same
+ * query shapes are pushed down over and over again, the descriptions are cached per JVM. Entries are evicted in
+ * least-recently-used order and expire after the configured time to live.
+ * </p>
+ */
+public final class ColumnDescriptionCache {
+    private static final Logger LOGGER = Logger.getLogger(ColumnDescriptionCache.class.getName());
+    private static final ColumnDescriptionCache COLUMN_DESCRIPTION_CACHE = //
+            new ColumnDescriptionCache(System::nanoTime);
+    private final BoundedCache<String, String> descriptions;
+
+    /**
+     * Returns instance of {@link ColumnDescriptionCache} singleton class.
+     *
+     * @return {@link ColumnDescriptionCache} instance
+     */
+    public static ColumnDescriptionCache getInstance() {
+        return COLUMN_DESCRIPTION_CACHE;
+    }
+
+    /**
+     * Create a new instance of a {@link ColumnDescriptionCache}.
+     *
+     * @param nanoClock source of the current time in nanoseconds
+     */
+    ColumnDescriptionCache(final LongSupplier nanoClock) {
+        this.descriptions = new BoundedCache<>(Long.MAX_VALUE, (key, description) -> 1, nanoClock);
+    }
+
+    /**
+     * Create the cache key for a push-down query.
+     * <p>
+     * The key combines the connection identity, a fingerprint of the configuration the column types are mapped with
+     * and the push-down query with whitespace outside of literals and quoted identifiers collapsed.
+     * </p>
+     *
+     * @param connectionIdentity identity of the remote connection, e.g. its connection definition
+     * @param mappingFingerprint fingerprint of the configuration that influences the type mapping
+     * @param pushdownQuery      push-down query
+     * @return cache key
+     */
+    public static String createKey(final String connectionIdentity, final String mappingFingerprint,
+            final String pushdownQuery) {
+        final String key = connectionIdentity + "\n" + mappingFingerprint + "\n" + normalizeQuery(pushdownQuery);
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    static String normalizeQuery(final String query) {
+        final StringBuilder builder = new StringBuilder(query.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < query.length(); ++i) {
+            final char character = query.charAt(i);
+            if (quote == 0 && Character.isWhitespace(character)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            if (quote == 0 && (character == '\'' || character == '"')) {
+                quote = character;
+            } else if (character == quote) {
+                quote = 0;
+            }
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Get the cached column description or describe the columns and cache the result.
+     * <p>
+     * The description is computed outside of the cache lock, so that slow remote calls do not block other lookups.
+     * </p>
+     *
+     * @param key       cache key created with {@link #createKey(String, String, String)}
+     * @param settings  cache settings
+     * @param describer describes the columns in case of a cache miss
+     * @return column description
+     * @throws SQLException if describing the columns fails
+     */
+    public String getOrDescribe(final String key, final ColumnDescriptionCacheSettings settings,
+            final ColumnDescriber describer) throws SQLException {
+        final Optional<String> cachedDescription = this.descriptions.get(key);
+        if (cachedDescription.isPresent()) {
+            LOGGER.fine(() -> "Column description cache hit (hits: " + getHitCount() + ", misses: " + getMissCount()
+                    + ").");
+            return cachedDescription.get();
+        }
+        LOGGER.fine(() -> "Column description cache miss (hits: " + getHitCount() + ", misses: " + getMissCount()
+                + ").");
+        final String description = describer.describe();
+        this.descriptions.put(key, description, settings.getTimeToLive(), settings.getMaxEntries());
+        return description;
+    }
+
+    /**
+     * Remove all cached column descriptions.
+     */
+    public void invalidateAll() {
+        this.descriptions.clear();
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return this.descriptions.getHitCount();
+    }
+
+    /**
+     * @return number of lookups that required describing the columns
+     */
+    public long getMissCount() {
+        return this.descriptions.getMissCount();
+    }
+
+    /**
+     * @return number of cached column descriptions
+     */
+    public int size() {
+        return this.descriptions.size();
+    }
+
+    /**
+     * Describes the columns of a push-down query in case of a cache miss.
+     */
+    @FunctionalInterface
+    public interface ColumnDescriber {
+        /**
+         * @return column description
+         * @throws SQLException if describing the columns fails
+         */
+        public String describe() throws SQLException;
+    }
+}
@@ -0,0 +1,50 @@
+package com.exasol.adapter.jdbc;
+
+/**
+ * Strategy for reading the result columns of a push-down query from the remote data source.
+ * <p>
+ * Some JDBC drivers return no metadata for a prepared statement, others execute the query to provide the metadata.
+ * The zero-row strategies wrap the push-down query so that executing it does not read any data. Dialects opt into them
+ * through {@link com.exasol.adapter.dialects.SqlDialect#getColumnDescriptionStrategies()}. The wrapper is a derived
+ * table, so it fails on databases that require unique column names if the select list contains duplicate or unnamed
+ * columns.
+ * </p>
+ */
+public enum ColumnDescriptionStrategy {
+    /** Read the metadata of the prepared push-down query without executing it */
+    PREPARED_STATEMENT {
+        @Override
+        public String createProbeQuery(final String query) {
+            return query;
+        }
+    },
+    /** Execute the push-down query wrapped in a sub-select with the condition {@code 1 = 0} */
+    ZERO_ROW_SUBQUERY {
+        @Override
+        public String createProbeQuery(final String query) {
+            return "SELECT * FROM (" + query + ") ZERO_ROWS WHERE 1 = 0";
+        }
+    },
+    /** Execute the push-down query wrapped in a sub-select with {@code LIMIT 0} */
+    LIMIT_ZERO {
+        @Override
+        public String createProbeQuery(final String query) {
+            return "SELECT * FROM (" + query + ") ZERO_ROWS LIMIT 0";
+        }
+    };
+
+    /**
+     * Create the query that is sent to the remote data source to read the result columns.
+     *
+     * @param query push-down query
+     * @return probe query
+     */
+    public abstract String createProbeQuery(String query);
+
+    /**
+     * @return {@code true} if the probe query is executed, {@code false} if it is only prepared
+     */
+    public boolean executesProbeQuery() {
+        return this != PREPARED_STATEMENT;
+    }
+}
@@ -1,6 +1,7 @@
 package com.exasol.adapter.jdbc;
 
 import java.util.List;
+import java.util.Map;
 
 import com.exasol.adapter.metadata.ColumnMetadata;
 import com.exasol.adapter.metadata.DataType;
@@ -17,6 +18,30 @@ public interface ColumnMetadataReader {
      */
     public List<ColumnMetadata> mapColumns(String tableName);
 
+    /**
+     * Read the column metadata of all tables in the configured catalog and schema with a single remote scan, so that
+     * subsequent calls to {@link #mapColumns(String)} do not need a round trip per table.
+     * <p>
+     * Readers that do not support a bulk scan ignore this call and keep reading the columns table by table.
+     * </p>
+     */
+    public default void prefetchColumns() {
+        // bulk scan not supported by default
+    }
+
+    /**
+     * Register column metadata that was read by other means, e.g. by parallel readers, so that subsequent calls to
+     * {@link #mapColumns(String)} for these tables are answered without a round trip.
+     * <p>
+     * Readers that do not support prefetched columns ignore this call.
+     * </p>
+     *
+     * @param columnsByTable map from the remote table name to the list of column metadata
+     */
+    public default void addPrefetchedColumns(final Map<String, List<ColumnMetadata>> columnsByTable) {
+        // prefetched columns not supported by default
+    }
+
     /**
      * Map type information from JDBC to the Exasol type information.
      * <p>
@@ -1,7 +1,6 @@
 package com.exasol.adapter.jdbc;
 
-import java.sql.Connection;
-import java.sql.SQLException;
+import java.sql.*;
 
 /**
  * Interface for factories creating custom JDBC connections.
@@ -14,4 +13,19 @@ public interface ConnectionFactory {
      * @throws SQLException if the connection to the remote source could not be established
      */
     Connection getConnection() throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * Create an additional JDBC connection to the remote data source that is independent of the one returned by
+     * {@link #getConnection()}.
+     * <p>
+     * The caller owns the connection and is responsible for closing it.
+     * </p>
+     *
+     * @return new JDBC connection to remote data source
+     * @throws SQLException if the connection to the remote source could not be established or if the factory does not
+     *                      support additional connections
+     */
+    default Connection createAdditionalConnection() throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connection factory does not support additional connections.");
+    }
+}
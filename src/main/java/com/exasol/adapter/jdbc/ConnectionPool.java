@@ -0,0 +1,313 @@
+package com.exasol.adapter.jdbc;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.properties.ConnectionPoolSettings;
+
+/**
+ * Pool of idle JDBC connections that survives across adapter requests for the lifetime of the UDF VM.
+ * <p>
+ * Connections are pooled per key, where the key identifies connection name, address and credentials. Before a pooled
+ * connection is handed out it is checked with {@link Connection#isValid(int)}. Connections that were idle for longer
+ * than the idle timeout or that are older than the maximum age are closed instead of being reused.
+ * </p>
+ * <p>
+ * When a connection is handed back, an open transaction is rolled back and auto-commit, read-only mode, transaction
+ * isolation and catalog are reset to the values the connection had when it was opened. Connections whose session
+ * state cannot be reset are closed.
+ * </p>
+ */
+public final class ConnectionPool {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final ConnectionPool CONNECTION_POOL = new ConnectionPool(System::nanoTime);
+    private final Map<String, Deque<IdleConnection>> idleConnections = new HashMap<>();
+    private final Map<Connection, Long> creationTimes = new IdentityHashMap<>();
+    private final Map<Connection, SessionState> initialSessionStates = new IdentityHashMap<>();
+    private final LongSupplier nanoClock;
+
+    /**
+     * Returns instance of {@link ConnectionPool} singleton class.
+     *
+     * @return {@link ConnectionPool} instance
+     */
+    public static ConnectionPool getInstance() {
+        return CONNECTION_POOL;
+    }
+
+    /**
+     * Create a new instance of a {@link ConnectionPool}.
+     *
+     * @param nanoClock source of the current time in nanoseconds
+     */
+    ConnectionPool(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Create the pool key for a remote connection.
+     *
+     * @param connectionName name of the Exasol connection object
+     * @param address        JDBC connection string
+     * @param user           user name
+     * @param password       password or Kerberos credentials
+     * @return pool key that does not reveal the credentials
+     */
+    public static String createKey(final String connectionName, final String address, final String user,
+            final String password) {
+        final String key = connectionName + "\n" + address + "\n" + user + "\n" + password;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Get a valid idle connection from the pool or open a new one.
+     *
+     * @param key      pool key created with {@link #createKey(String, String, String, String)}
+     * @param settings pool settings
+     * @param opener   opens a new connection if no valid idle connection is available
+     * @return JDBC connection that must be handed back with
+     *         {@link #release(String, Connection, ConnectionPoolSettings)}
+     * @throws SQLException if opening a new connection fails
+     */
+    public Connection acquire(final String key, final ConnectionPoolSettings settings, final ConnectionOpener opener)
+            throws SQLException {
+        Optional<Connection> idleConnection = pollIdleConnection(key, settings);
+        while (idleConnection.isPresent()) {
+            final Connection connection = idleConnection.get();
+            if (isValid(connection)) {
+                LOGGER.fine("Reusing pooled remote connection.");
+                return connection;
+            }
+            discard(connection);
+            idleConnection = pollIdleConnection(key, settings);
+        }
+        final Connection connection = opener.open();
+        registerCreation(connection, SessionState.read(connection));
+        return connection;
+    }
+
+    private synchronized Optional<Connection> pollIdleConnection(final String key,
+            final ConnectionPoolSettings settings) {
+        final List<Connection> expired = removeExpired(key, settings);
+        final Deque<IdleConnection> idle = this.idleConnections.get(key);
+        final Optional<Connection> connection = (idle == null) || idle.isEmpty() ? Optional.empty()
+                : Optional.of(idle.pollFirst().connection);
+        close(expired);
+        return connection;
+    }
+
+    private List<Connection> removeExpired(final String key, final ConnectionPoolSettings settings) {
+        final Deque<IdleConnection> idle = this.idleConnections.get(key);
+        final List<Connection> expired = new ArrayList<>();
+        if (idle != null) {
+            final long now = this.nanoClock.getAsLong();
+            final Iterator<IdleConnection> iterator = idle.iterator();
+            while (iterator.hasNext()) {
+                final IdleConnection candidate = iterator.next();
+                if (isExpired(candidate, now, settings)) {
+                    iterator.remove();
+                    expired.add(candidate.connection);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private boolean isExpired(final IdleConnection idleConnection, final long now,
+            final ConnectionPoolSettings settings) {
+        return ((now - idleConnection.idleSince) >= settings.getIdleTimeout().toNanos())
+                || isTooOld(idleConnection.connection, now, settings);
+    }
+
+    private boolean isTooOld(final Connection connection, final long now, final ConnectionPoolSettings settings) {
+        final Long createdAt = this.creationTimes.get(connection);
+        return (createdAt == null) || ((now - createdAt) >= settings.getMaxAge().toNanos());
+    }
+
+    private static boolean isValid(final Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException exception) {
+            return false;
+        }
+    }
+
+    private synchronized void registerCreation(final Connection connection, final Optional<SessionState> state) {
+        this.creationTimes.put(connection, this.nanoClock.getAsLong());
+        state.ifPresent(initialState -> this.initialSessionStates.put(connection, initialState));
+    }
+
+    /**
+     * Hand a connection back to the pool.
+     * <p>
+     * The connection is closed instead if it is closed already, too old, if its session state cannot be reset or if
+     * the pool for the key is full.
+     * </p>
+     *
+     * @param key        pool key the connection was acquired with
+     * @param connection connection to hand back
+     * @param settings   pool settings
+     */
+    public void release(final String key, final Connection connection, final ConnectionPoolSettings settings) {
+        if (!resetSessionState(connection) || !offer(key, connection, settings)) {
+            discard(connection);
+        }
+    }
+
+    private boolean resetSessionState(final Connection connection) {
+        final SessionState initialState;
+        synchronized (this) {
+            initialState = this.initialSessionStates.get(connection);
+        }
+        if (initialState == null) {
+            return false;
+        }
+        try {
+            initialState.restore(connection);
+            return true;
+        } catch (final SQLException exception) {
+            LOGGER.fine(() -> "Unable to reset the session state of a remote connection: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized boolean offer(final String key, final Connection connection,
+            final ConnectionPoolSettings settings) {
+        final long now = this.nanoClock.getAsLong();
+        close(removeExpired(key, settings));
+        final Deque<IdleConnection> idle = this.idleConnections.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (isClosed(connection) || isTooOld(connection, now, settings)
+                || (idle.size() >= settings.getMaxIdleConnections())) {
+            return false;
+        }
+        idle.addFirst(new IdleConnection(connection, now));
+        LOGGER.fine(() -> "Returned remote connection to pool (" + idle.size() + " idle).");
+        return true;
+    }
+
+    private static boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException exception) {
+            return true;
+        }
+    }
+
+    private void discard(final Connection connection) {
+        close(List.of(connection));
+    }
+
+    private void close(final List<Connection> connections) {
+        for (final Connection connection : connections) {
+            synchronized (this) {
+                this.creationTimes.remove(connection);
+                this.initialSessionStates.remove(connection);
+            }
+            try {
+                LOGGER.fine("Closing pooled remote connection.");
+                connection.close();
+            } catch (final SQLException exception) {
+                LOGGER.log(Level.WARNING, "Error during close of pooled connection.", exception);
+            }
+        }
+    }
+
+    /**
+     * Close all idle connections.
+     */
+    public void closeAll() {
+        final List<Connection> connections = new ArrayList<>();
+        synchronized (this) {
+            for (final Deque<IdleConnection> idle : this.idleConnections.values()) {
+                for (final IdleConnection idleConnection : idle) {
+                    connections.add(idleConnection.connection);
+                }
+            }
+            this.idleConnections.clear();
+        }
+        close(connections);
+    }
+
+    /**
+     * @param key pool key
+     * @return number of idle connections for the given key
+     */
+    public synchronized int getIdleCount(final String key) {
+        final Deque<IdleConnection> idle = this.idleConnections.get(key);
+        return idle == null ? 0 : idle.size();
+    }
+
+    /**
+     * Opens a new JDBC connection in case the pool has no valid idle connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionOpener {
+        /**
+         * @return new JDBC connection
+         * @throws SQLException if the connection could not be established
+         */
+        public Connection open() throws SQLException;
+    }
+
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSince;
+
+        private IdleConnection(final Connection connection, final long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    /**
+     * Session settings of a connection that a request can change and that must not leak into the next request.
+     */
+    private static final class SessionState {
+        private final boolean autoCommit;
+        private final boolean readOnly;
+        private final int transactionIsolation;
+        private final String catalog;
+
+        private SessionState(final Connection connection) throws SQLException {
+            this.autoCommit = connection.getAutoCommit();
+            this.readOnly = connection.isReadOnly();
+            this.transactionIsolation = connection.getTransactionIsolation();
+            this.catalog = connection.getCatalog();
+        }
+
+        private static Optional<SessionState> read(final Connection connection) {
+            try {
+                return Optional.of(new SessionState(connection));
+            } catch (final SQLException exception) {
+                LOGGER.fine(() -> "Not pooling remote connection since its session state cannot be read: "
+                        + exception.getMessage());
+                return Optional.empty();
+            }
+        }
+
+        private void restore(final Connection connection) throws SQLException {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            if (connection.getAutoCommit() != this.autoCommit) {
+                connection.setAutoCommit(this.autoCommit);
+            }
+            if (connection.isReadOnly() != this.readOnly) {
+                connection.setReadOnly(this.readOnly);
+            }
+            if (connection.getTransactionIsolation() != this.transactionIsolation) {
+                connection.setTransactionIsolation(this.transactionIsolation);
+            }
+            if ((this.catalog != null) && !this.catalog.equals(connection.getCatalog())) {
+                connection.setCatalog(this.catalog);
+            }
+            connection.clearWarnings();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.exasol.adapter.jdbc;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class stores {@link MetadataSnapshot}s as compressed JSON files in a local directory.
+ * <p>
+ * The file name is derived from a name-based UUID of the snapshot key, so that arbitrary connection, catalog and
+ * schema names result in valid file names. Files are replaced atomically, so that concurrent readers never see a
+ * partially written snapshot.
+ * </p>
+ */
+public class FileMetadataSnapshotStore implements MetadataSnapshotStore {
+    private static final Logger LOGGER = Logger.getLogger(FileMetadataSnapshotStore.class.getName());
+    private static final String FILE_SUFFIX = ".json.gz";
+    private final Path directory;
+
+    /**
+     * Create a new instance of a {@link FileMetadataSnapshotStore}.
+     *
+     * @param directory directory the snapshot files are stored in
+     */
+    public FileMetadataSnapshotStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Optional<MetadataSnapshot> load(final String key) {
+        final Path file = getSnapshotFile(key);
+        if (!Files.exists(file)) {
+            LOGGER.fine(() -> "No metadata snapshot found in \"" + file + "\".");
+            return Optional.empty();
+        }
+        try (final Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)),
+                StandardCharsets.UTF_8)) {
+            return Optional.of(MetadataSnapshotJsonConverter.getInstance().read(reader));
+        } catch (final IOException exception) {
+            LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-53")
+                    .message("Unable to read metadata snapshot {{file}}: {{cause|uq}}", file, exception.getMessage())
+                    .mitigation("Reading the complete remote metadata instead.").toString());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(final String key, final MetadataSnapshot snapshot) {
+        final Path file = getSnapshotFile(key);
+        try {
+            Files.createDirectories(this.directory);
+            final Path temporaryFile = Files.createTempFile(this.directory, "snapshot", ".tmp");
+            try {
+                try (final Writer writer = new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(temporaryFile)), StandardCharsets.UTF_8)) {
+                    MetadataSnapshotJsonConverter.getInstance().write(snapshot, writer);
+                }
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            LOGGER.fine(() -> "Stored metadata snapshot with " + snapshot.getEntries().size() + " tables in \"" + file
+                    + "\".");
+        } catch (final IOException exception) {
+            LOGGER.warning(() -> ExaError.messageBuilder("W-VSCJDBC-54")
+                    .message("Unable to write metadata snapshot {{file}}: {{cause|uq}}", file, exception.getMessage())
+                    .mitigation("Please check that directory {{directory}} is writable.", this.directory)
+                    .toString());
+        }
+    }
+
+    /**
+     * Get the file a snapshot is stored in.
+     *
+     * @param key snapshot key
+     * @return path of the snapshot file
+     */
+    Path getSnapshotFile(final String key) {
+        return this.directory.resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + FILE_SUFFIX);
+    }
+}
@@ -8,12 +8,15 @@ import java.util.logging.Logger;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.*;
+import com.exasol.adapter.cache.BoundedCache;
 import com.exasol.adapter.capabilities.*;
 import com.exasol.adapter.dialects.*;
 import com.exasol.adapter.metadata.SchemaMetadata;
 import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.metrics.Metrics;
 import com.exasol.adapter.properties.PropertyValidationException;
 import com.exasol.adapter.properties.TableCountLimit;
+import com.exasol.adapter.properties.TableFilter;
 import com.exasol.adapter.request.*;
 import com.exasol.adapter.response.*;
 import com.exasol.errorreporting.ExaError;
@@ -28,6 +31,14 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
     private static final String AGGREGATE_FUNCTION_PREFIX = "FN_AGG_";
     private static final String LITERAL_PREFIX = "LITERAL_";
     private static final String TABLES_PROPERTY = "TABLE_FILTER";
+    private static final String CREATE_VIRTUAL_SCHEMA_REQUEST = "CREATE_VIRTUAL_SCHEMA";
+    private static final String REFRESH_REQUEST = "REFRESH";
+    private static final String SET_PROPERTIES_REQUEST = "SET_PROPERTIES";
+    private static final String GET_CAPABILITIES_REQUEST = "GET_CAPABILITIES";
+    private static final String PUSHDOWN_REQUEST = "PUSHDOWN";
+    private static final int MAX_CACHED_CAPABILITIES = 256;
+    private static final BoundedCache<String, Capabilities> CAPABILITIES_CACHE = //
+            new BoundedCache<>(MAX_CACHED_CAPABILITIES);
     private final SqlDialectFactory sqlDialectFactory;
     private final AdapterContext adapterContext;
 
@@ -52,9 +63,10 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
             final CreateVirtualSchemaRequest request) throws AdapterException {
         logCreateVirtualSchemaRequestReceived(request);
         final AdapterProperties properties = getPropertiesFromRequest(request);
+        Metrics.getSink().requestStarted(CREATE_VIRTUAL_SCHEMA_REQUEST);
         try {
             final SqlDialect dialect = createDialectAndValidateProperties(exasolMetadata, properties);
-            final SchemaMetadata remoteMeta = getRemoteMetadata(dialect, properties.getFilteredTables());
+            final SchemaMetadata remoteMeta = getRemoteMetadata(dialect, properties);
             return CreateVirtualSchemaResponse.builder().schemaMetadata(remoteMeta).build();
         } catch (final SQLException exception) {
             this.connectionFactory.clean();
@@ -62,6 +74,8 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
                     .message("Unable create Virtual Schema \"{{virtualSchemaName|uq}}\". Cause: {{cause|uq}}",
                             request.getVirtualSchemaName(), exception.getMessage())
                     .toString(), exception);
+        } finally {
+            Metrics.getSink().requestFinished(CREATE_VIRTUAL_SCHEMA_REQUEST);
         }
     }
 
@@ -102,12 +116,13 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
 
     @Override
     public RefreshResponse refresh(final ExaMetadata metadata, final RefreshRequest request) throws AdapterException {
+        Metrics.getSink().requestStarted(REFRESH_REQUEST);
         try {
             final AdapterProperties properties = getPropertiesFromRequest(request);
             final SqlDialect dialect = createDialectAndValidateProperties(metadata, properties);
             final SchemaMetadata remoteMetadata = request.refreshesOnlySelectedTables() //
                     ? dialect.readSchemaMetadata(request.getTables())
-                    : getRemoteMetadata(dialect, properties.getFilteredTables());
+                    : getRemoteMetadata(dialect, properties);
             return RefreshResponse.builder().schemaMetadata(remoteMetadata).build();
         } catch (final SQLException | PropertyValidationException exception) {
             throw new AdapterException(ExaError.messageBuilder("E-VSCJDBC-26").message(
@@ -115,12 +130,14 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
                     request.getSchemaMetadataInfo().getSchemaName(), exception.getMessage()).toString(), exception);
         } finally {
             this.connectionFactory.clean();
+            Metrics.getSink().requestFinished(REFRESH_REQUEST);
         }
     }
 
-    private SchemaMetadata getRemoteMetadata(final SqlDialect sqlDialect, final List<String> tables)
+    private SchemaMetadata getRemoteMetadata(final SqlDialect sqlDialect, final AdapterProperties properties)
             throws SQLException {
-        if (tables.isEmpty()) {
+        final List<String> tables = properties.getFilteredTables();
+        if (tables.isEmpty() || TableFilter.from(properties).hasIncludePatterns()) {
             return sqlDialect.readSchemaMetadata();
         } else {
             return sqlDialect.readSchemaMetadata(tables);
@@ -130,24 +147,35 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
     @Override
     public SetPropertiesResponse setProperties(final ExaMetadata metadata, final SetPropertiesRequest request)
             throws AdapterException {
-        final SchemaMetadataInfo schemaMetadataInfo = request.getSchemaMetadataInfo();
-        final Map<String, String> requestRawProperties = request.getProperties();
-        final Map<String, String> mergedRawProperties = mergeProperties(schemaMetadataInfo.getProperties(),
-                requestRawProperties);
-        final AdapterProperties mergedProperties = new AdapterProperties(mergedRawProperties);
-        final SqlDialect dialect = createDialectAndValidateProperties(metadata, mergedProperties);
+        Metrics.getSink().requestStarted(SET_PROPERTIES_REQUEST);
+        try {
+            final SchemaMetadataInfo schemaMetadataInfo = request.getSchemaMetadataInfo();
+            final Map<String, String> requestRawProperties = request.getProperties();
+            final Map<String, String> mergedRawProperties = mergeProperties(schemaMetadataInfo.getProperties(),
+                    requestRawProperties);
+            final AdapterProperties mergedProperties = new AdapterProperties(mergedRawProperties);
+            final SqlDialect dialect = createDialectAndValidateProperties(metadata, mergedProperties);
 
-        if (requiresRefreshOfVirtualSchema(requestRawProperties)) {
-            final List<String> tableFilter = getTableFilter(mergedRawProperties);
-            final SchemaMetadata remoteMeta = dialect.readSchemaMetadata(tableFilter);
-            return SetPropertiesResponse.builder().schemaMetadata(remoteMeta).build();
-        } else {
-            return SetPropertiesResponse.builder().schemaMetadata(null).build();
+            if (requiresRefreshOfVirtualSchema(requestRawProperties)) {
+                final List<String> tableFilter = getTableFilter(mergedRawProperties);
+                final SchemaMetadata remoteMeta = TableFilter.from(mergedProperties).hasIncludePatterns()
+                        ? dialect.readSchemaMetadata()
+                        : dialect.readSchemaMetadata(tableFilter);
+                return SetPropertiesResponse.builder().schemaMetadata(remoteMeta).build();
+            } else {
+                return SetPropertiesResponse.builder().schemaMetadata(null).build();
+            }
+        } finally {
+            Metrics.getSink().requestFinished(SET_PROPERTIES_REQUEST);
         }
     }
 
     private boolean requiresRefreshOfVirtualSchema(final Map<String, String> properties) {
         return properties.containsKey(TableCountLimit.MAXTABLES_PROPERTY)
+                || properties.containsKey(TableFilter.INCLUDE_PATTERN_PROPERTY)
+                || properties.containsKey(TableFilter.INCLUDE_REGEX_PROPERTY)
+                || properties.containsKey(TableFilter.EXCLUDE_PATTERN_PROPERTY)
+                || properties.containsKey(TableFilter.EXCLUDE_REGEX_PROPERTY)
                 || AdapterProperties.isRefreshingVirtualSchemaRequired(properties);
     }
 
@@ -215,15 +243,64 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
     public GetCapabilitiesResponse getCapabilities(final ExaMetadata exaMetadata, final GetCapabilitiesRequest request)
             throws AdapterException {
         LOGGER.fine(() -> "Received request to list the adapter's capabilites.");
-        final AdapterProperties properties = getPropertiesFromRequest(request);
+        Metrics.getSink().requestStarted(GET_CAPABILITIES_REQUEST);
+        try {
+            final AdapterProperties properties = getPropertiesFromRequest(request);
+            final String cacheKey = getCapabilitiesCacheKey(exaMetadata, properties);
+            final Optional<Capabilities> cachedCapabilities = CAPABILITIES_CACHE.get(cacheKey);
+            final Capabilities capabilities;
+            if (cachedCapabilities.isPresent()) {
+                LOGGER.fine("Reusing capabilities computed for an earlier request.");
+                capabilities = copyCapabilities(cachedCapabilities.get());
+            } else {
+                capabilities = createCapabilities(exaMetadata, properties);
+                CAPABILITIES_CACHE.put(cacheKey, copyCapabilities(capabilities));
+            }
+            return GetCapabilitiesResponse //
+                    .builder()//
+                    .capabilities(capabilities)//
+                    .build();
+        } finally {
+            Metrics.getSink().requestFinished(GET_CAPABILITIES_REQUEST);
+        }
+    }
+
+    /**
+     * Capabilities are cached per dialect, Exasol version and adapter properties, since Exasol requests them for every
+     * query compilation. Changing any property with {@code ALTER VIRTUAL SCHEMA ... SET} therefore computes the
+     * capabilities again.
+     */
+    private String getCapabilitiesCacheKey(final ExaMetadata exaMetadata, final AdapterProperties properties) {
+        final StringBuilder key = new StringBuilder(this.sqlDialectFactory.getClass().getName()) //
+                .append('\n').append(this.sqlDialectFactory.getSqlDialectName()) //
+                .append('\n').append(exaMetadata.getDatabaseVersion());
+        for (final String property : new TreeSet<>(properties.keySet())) {
+            key.append('\n').append(property).append('=').append(properties.get(property));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Copy capabilities, so that callers that modify the capabilities of a response do not change the cached ones.
+     */
+    private static Capabilities copyCapabilities(final Capabilities capabilities) {
+        return Capabilities.builder() //
+                .addMain(capabilities.getMainCapabilities().toArray(new MainCapability[0])) //
+                .addLiteral(capabilities.getLiteralCapabilities().toArray(new LiteralCapability[0])) //
+                .addPredicate(capabilities.getPredicateCapabilities().toArray(new PredicateCapability[0])) //
+                .addScalarFunction(
+                        capabilities.getScalarFunctionCapabilities().toArray(new ScalarFunctionCapability[0])) //
+                .addAggregateFunction(
+                        capabilities.getAggregateFunctionCapabilities().toArray(new AggregateFunctionCapability[0])) //
+                .build();
+    }
+
+    private Capabilities createCapabilities(final ExaMetadata exaMetadata, final AdapterProperties properties) {
         final SqlDialect dialect = createDialect(exaMetadata, properties);
         final Capabilities capabilities = dialect.getCapabilities();
         final Capabilities excludedCapabilities = getExcludedCapabilities(properties);
         capabilities.subtractCapabilities(excludedCapabilities);
-        return GetCapabilitiesResponse //
-                .builder()//
-                .capabilities(capabilities)//
-                .build();
+        return capabilities;
     }
 
     private Capabilities getExcludedCapabilities(final AdapterProperties properties) {
@@ -268,11 +345,16 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
     @Override
     public PushDownResponse pushdown(final ExaMetadata exaMetadata, final PushDownRequest request)
             throws AdapterException {
+        Metrics.getSink().requestStarted(PUSHDOWN_REQUEST);
         try {
             final AdapterProperties properties = getPropertiesFromRequest(request);
             final SqlDialect dialect = createDialect(exaMetadata, properties);
+            final int openedConnectionsBefore = this.connectionFactory.getOpenedConnectionCount();
             final String importFromPushdownQuery = dialect.rewriteQuery(request.getSelect(),
                     request.getSelectListDataTypes(), exaMetadata);
+            LOGGER.fine(() -> "Push-down opened "
+                    + (this.connectionFactory.getOpenedConnectionCount() - openedConnectionsBefore)
+                    + " remote connection(s).");
             return PushDownResponse.builder().pushDownSql(importFromPushdownQuery).build();
         } catch (final SQLException exception) {
             throw new AdapterException(ExaError.messageBuilder("E-VSCJDBC-27")
@@ -280,6 +362,7 @@ public class JDBCAdapter implements VirtualSchemaAdapter {
                     .toString(), exception);
         } finally {
             this.connectionFactory.clean();
+            Metrics.getSink().requestFinished(PUSHDOWN_REQUEST);
         }
     }
 }
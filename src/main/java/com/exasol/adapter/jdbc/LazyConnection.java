@@ -0,0 +1,122 @@
+package com.exasol.adapter.jdbc;
+
+import java.lang.reflect.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Handle for a JDBC connection that is only established when it is used for the first time.
+ * <p>
+ * Push-down requests that do not need to talk to the remote data source therefore never open a connection, even if
+ * dialect and metadata reader are constructed with one. Closing a handle that was never used is a no-op.
+ * </p>
+ * <p>
+ * When the connection factory is cleaned, the handle is released. Since the actual connection may then be used by
+ * another request, a released handle neither forwards calls to it nor opens a new connection.
+ * </p>
+ */
+final class LazyConnection implements InvocationHandler {
+    private final ConnectionPool.ConnectionOpener opener;
+    private Connection delegate = null;
+    private boolean released = false;
+
+    private LazyConnection(final ConnectionPool.ConnectionOpener opener) {
+        this.opener = opener;
+    }
+
+    /**
+     * Create a connection handle that opens the actual connection on first use.
+     *
+     * @param opener opens the actual connection
+     * @return connection handle
+     */
+    static Connection create(final ConnectionPool.ConnectionOpener opener) {
+        return (Connection) Proxy.newProxyInstance(LazyConnection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new LazyConnection(opener));
+    }
+
+    /**
+     * Release a connection handle, so that it can no longer be used.
+     *
+     * @param handle connection handle created with {@link #create(ConnectionPool.ConnectionOpener)}
+     */
+    static void release(final Connection handle) {
+        ((LazyConnection) Proxy.getInvocationHandler(handle)).release();
+    }
+
+    private synchronized void release() {
+        this.released = true;
+        this.delegate = null;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+        if (isReleased()) {
+            return invokeReleased(method);
+        }
+        final Connection connection = getDelegateIfOpened();
+        if (connection == null) {
+            if ("close".equals(method.getName())) {
+                return null;
+            } else if ("isClosed".equals(method.getName())) {
+                return false;
+            }
+        }
+        try {
+            return method.invoke(connection == null ? getOrOpenDelegate() : connection, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private static Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args) {
+        switch (method.getName()) {
+        case "equals":
+            return proxy == args[0];
+        case "hashCode":
+            return System.identityHashCode(proxy);
+        default:
+            return "LazyConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+    }
+
+    private static Object invokeReleased(final Method method) throws SQLException {
+        switch (method.getName()) {
+        case "close":
+            return null;
+        case "isClosed":
+            return true;
+        default:
+            throw createReleasedException();
+        }
+    }
+
+    private static SQLException createReleasedException() {
+        return new SQLException(ExaError.messageBuilder("E-VSCJDBC-63")
+                .message("The connection was released at the end of the adapter request.")
+                .mitigation("Get a new connection from the connection factory.").toString());
+    }
+
+    private synchronized boolean isReleased() {
+        return this.released;
+    }
+
+    private synchronized Connection getDelegateIfOpened() {
+        return this.delegate;
+    }
+
+    private synchronized Connection getOrOpenDelegate() throws SQLException {
+        if (this.released) {
+            throw createReleasedException();
+        }
+        if (this.delegate == null) {
+            this.delegate = this.opener.open();
+        }
+        return this.delegate;
+    }
+}
@@ -0,0 +1,110 @@
+package com.exasol.adapter.jdbc;
+
+import java.util.*;
+
+import com.exasol.adapter.metadata.TableMetadata;
+
+/**
+ * Snapshot of the table metadata of a remote schema as read during the last {@code CREATE} or {@code REFRESH}.
+ * <p>
+ * Each table is stored together with a signature that changes whenever the table structure on the remote data source
+ * changes. This allows reading only the metadata of the tables that changed since the snapshot was taken.
+ * </p>
+ */
+public final class MetadataSnapshot {
+    private final String propertiesFingerprint;
+    private final List<Entry> entries;
+    private final Map<String, Entry> entriesByRemoteName;
+
+    /**
+     * Create a new instance of a {@link MetadataSnapshot}.
+     *
+     * @param propertiesFingerprint fingerprint of the adapter properties the metadata was mapped with
+     * @param entries               snapshot entries in mapping order
+     */
+    public MetadataSnapshot(final String propertiesFingerprint, final List<Entry> entries) {
+        this.propertiesFingerprint = propertiesFingerprint;
+        this.entries = List.copyOf(entries);
+        this.entriesByRemoteName = new HashMap<>();
+        for (final Entry entry : entries) {
+            this.entriesByRemoteName.put(entry.getRemoteTableName(), entry);
+        }
+    }
+
+    /**
+     * Get the fingerprint of the adapter properties the metadata was mapped with.
+     *
+     * @return properties fingerprint
+     */
+    public String getPropertiesFingerprint() {
+        return this.propertiesFingerprint;
+    }
+
+    /**
+     * Get the snapshot entries.
+     *
+     * @return entries in mapping order
+     */
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Get the table metadata of a remote table if the table did not change since the snapshot was taken.
+     *
+     * @param remoteTableName name of the table on the remote data source
+     * @param signature       current signature of the remote table
+     * @return table metadata or an empty optional if the table is unknown or its signature changed
+     */
+    public Optional<TableMetadata> getUnchangedTable(final String remoteTableName, final String signature) {
+        final Entry entry = this.entriesByRemoteName.get(remoteTableName);
+        if ((entry != null) && entry.getSignature().equals(signature)) {
+            return Optional.of(entry.getTable());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Single table in a {@link MetadataSnapshot}.
+     */
+    public static final class Entry {
+        private final String remoteTableName;
+        private final String signature;
+        private final TableMetadata table;
+
+        /**
+         * Create a new snapshot entry.
+         *
+         * @param remoteTableName name of the table on the remote data source
+         * @param signature       signature of the remote table at the time of the snapshot
+         * @param table           mapped table metadata
+         */
+        public Entry(final String remoteTableName, final String signature, final TableMetadata table) {
+            this.remoteTableName = remoteTableName;
+            this.signature = signature;
+            this.table = table;
+        }
+
+        /**
+         * @return name of the table on the remote data source
+         */
+        public String getRemoteTableName() {
+            return this.remoteTableName;
+        }
+
+        /**
+         * @return signature of the remote table at the time of the snapshot
+         */
+        public String getSignature() {
+            return this.signature;
+        }
+
+        /**
+         * @return mapped table metadata
+         */
+        public TableMetadata getTable() {
+            return this.table;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.exasol.adapter.jdbc;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+import com.exasol.adapter.metadata.DataType.ExaDataType;
+import com.exasol.adapter.metadata.DataType.IntervalType;
+
+import jakarta.json.*;
+
+/**
+ * Converts {@link MetadataSnapshot}s into JSON format and back.
+ */
+public final class MetadataSnapshotJsonConverter {
+    private static final int FORMAT_VERSION = 1;
+    private static final String VERSION = "version";
+    private static final String PROPERTIES_FINGERPRINT = "propertiesFingerprint";
+    private static final String TABLES = "tables";
+    private static final String REMOTE_NAME = "remoteName";
+    private static final String SIGNATURE = "signature";
+    private static final String NAME = "name";
+    private static final String ADAPTER_NOTES = "adapterNotes";
+    private static final String COMMENT = "comment";
+    private static final String COLUMNS = "columns";
+    private static final String TYPE = "type";
+    private static final String NULLABLE = "nullable";
+    private static final String IDENTITY = "identity";
+    private static final String DEFAULT_VALUE = "default";
+    private static final String ORIGINAL_TYPE_NAME = "originalTypeName";
+    private static final String PRECISION = "precision";
+    private static final String SCALE = "scale";
+    private static final String SIZE = "size";
+    private static final String CHARACTER_SET = "characterSet";
+    private static final String WITH_LOCAL_TIME_ZONE = "withLocalTimeZone";
+    private static final String SRID = "srid";
+    private static final String INTERVAL_TYPE = "intervalType";
+    private static final String FRACTION = "fraction";
+    private static final String BYTE_SIZE = "byteSize";
+    private static final MetadataSnapshotJsonConverter METADATA_SNAPSHOT_JSON_CONVERTER = new MetadataSnapshotJsonConverter();
+    private final JsonBuilderFactory factory = Json.createBuilderFactory(Collections.emptyMap());
+
+    /**
+     * Returns instance of {@link MetadataSnapshotJsonConverter} singleton class.
+     *
+     * @return {@link MetadataSnapshotJsonConverter} instance
+     */
+    public static MetadataSnapshotJsonConverter getInstance() {
+        return METADATA_SNAPSHOT_JSON_CONVERTER;
+    }
+
+    private MetadataSnapshotJsonConverter() {
+        // intentionally left blank
+    }
+
+    /**
+     * Write a metadata snapshot in JSON format.
+     *
+     * @param snapshot snapshot to be converted
+     * @param writer   writer the JSON representation is written to
+     */
+    public void write(final MetadataSnapshot snapshot, final Writer writer) {
+        final JsonArrayBuilder tables = this.factory.createArrayBuilder();
+        for (final MetadataSnapshot.Entry entry : snapshot.getEntries()) {
+            tables.add(convertEntry(entry));
+        }
+        final JsonObject root = this.factory.createObjectBuilder() //
+                .add(VERSION, FORMAT_VERSION) //
+                .add(PROPERTIES_FINGERPRINT, snapshot.getPropertiesFingerprint()) //
+                .add(TABLES, tables) //
+                .build();
+        try (final JsonWriter jsonWriter = Json.createWriter(writer)) {
+            jsonWriter.writeObject(root);
+        }
+    }
+
+    private JsonObjectBuilder convertEntry(final MetadataSnapshot.Entry entry) {
+        final TableMetadata table = entry.getTable();
+        final JsonArrayBuilder columns = this.factory.createArrayBuilder();
+        for (final ColumnMetadata column : table.getColumns()) {
+            columns.add(convertColumn(column));
+        }
+        final JsonObjectBuilder builder = this.factory.createObjectBuilder() //
+                .add(REMOTE_NAME, entry.getRemoteTableName()) //
+                .add(SIGNATURE, entry.getSignature()) //
+                .add(NAME, table.getName()) //
+                .add(COLUMNS, columns);
+        addIfNotNull(builder, ADAPTER_NOTES, table.getAdapterNotes());
+        addIfNotNull(builder, COMMENT, table.getComment());
+        return builder;
+    }
+
+    private JsonObjectBuilder convertColumn(final ColumnMetadata column) {
+        final JsonObjectBuilder builder = this.factory.createObjectBuilder() //
+                .add(NAME, column.getName()) //
+                .add(TYPE, convertDataType(column.getType())) //
+                .add(NULLABLE, column.isNullable()) //
+                .add(IDENTITY, column.isIdentity());
+        addIfNotNull(builder, ADAPTER_NOTES, column.getAdapterNotes());
+        addIfNotNull(builder, DEFAULT_VALUE, column.getDefaultValue());
+        addIfNotNull(builder, COMMENT, column.getComment());
+        addIfNotNull(builder, ORIGINAL_TYPE_NAME, column.getOriginalTypeName());
+        return builder;
+    }
+
+    private static void addIfNotNull(final JsonObjectBuilder builder, final String key, final String value) {
+        if (value != null) {
+            builder.add(key, value);
+        }
+    }
+
+    private JsonObjectBuilder convertDataType(final DataType type) {
+        final JsonObjectBuilder builder = this.factory.createObjectBuilder() //
+                .add(TYPE, type.getExaDataType().name());
+        switch (type.getExaDataType()) {
+        case DECIMAL:
+            return builder.add(PRECISION, type.getPrecision()).add(SCALE, type.getScale());
+        case VARCHAR:
+        case CHAR:
+            return builder.add(SIZE, type.getSize()).add(CHARACTER_SET, type.getCharset().name());
+        case TIMESTAMP:
+            return builder.add(WITH_LOCAL_TIME_ZONE, type.isWithLocalTimezone()).add(PRECISION,
+                    type.getPrecision());
+        case GEOMETRY:
+            return builder.add(SRID, type.getGeometrySrid());
+        case INTERVAL:
+            return builder.add(INTERVAL_TYPE, type.getIntervalType().name()).add(PRECISION, type.getPrecision())
+                    .add(FRACTION, type.getIntervalFraction());
+        case HASHTYPE:
+            return builder.add(BYTE_SIZE, type.getByteSize());
+        default:
+            return builder;
+        }
+    }
+
+    /**
+     * Read a metadata snapshot from its JSON representation.
+     *
+     * @param reader reader providing the JSON representation
+     * @return metadata snapshot
+     * @throws IOException if the JSON representation is invalid or has an unsupported format version
+     */
+    public MetadataSnapshot read(final Reader reader) throws IOException {
+        final JsonObject root;
+        try (final JsonReader jsonReader = Json.createReader(reader)) {
+            root = jsonReader.readObject();
+            if (root.getInt(VERSION) != FORMAT_VERSION) {
+                throw new IOException("Unsupported metadata snapshot format version " + root.getInt(VERSION) + ".");
+            }
+            final List<MetadataSnapshot.Entry> entries = new ArrayList<>();
+            for (final JsonObject table : root.getJsonArray(TABLES).getValuesAs(JsonObject.class)) {
+                entries.add(parseEntry(table));
+            }
+            return new MetadataSnapshot(root.getString(PROPERTIES_FINGERPRINT), entries);
+        } catch (final RuntimeException exception) {
+            throw new IOException("Unable to parse metadata snapshot.", exception);
+        }
+    }
+
+    private static MetadataSnapshot.Entry parseEntry(final JsonObject table) {
+        final List<ColumnMetadata> columns = new ArrayList<>();
+        for (final JsonObject column : table.getJsonArray(COLUMNS).getValuesAs(JsonObject.class)) {
+            columns.add(parseColumn(column));
+        }
+        final TableMetadata tableMetadata = new TableMetadata(table.getString(NAME),
+                table.getString(ADAPTER_NOTES, null), columns, table.getString(COMMENT, null));
+        return new MetadataSnapshot.Entry(table.getString(REMOTE_NAME), table.getString(SIGNATURE), tableMetadata);
+    }
+
+    private static ColumnMetadata parseColumn(final JsonObject column) {
+        return ColumnMetadata.builder() //
+                .name(column.getString(NAME)) //
+                .adapterNotes(column.getString(ADAPTER_NOTES, null)) //
+                .type(parseDataType(column.getJsonObject(TYPE))) //
+                .nullable(column.getBoolean(NULLABLE)) //
+                .identity(column.getBoolean(IDENTITY)) //
+                .defaultValue(column.getString(DEFAULT_VALUE, null)) //
+                .comment(column.getString(COMMENT, null)) //
+                .originalTypeName(column.getString(ORIGINAL_TYPE_NAME, null)) //
+                .build();
+    }
+
+    private static DataType parseDataType(final JsonObject type) {
+        switch (ExaDataType.valueOf(type.getString(TYPE))) {
+        case DECIMAL:
+            return DataType.createDecimal(type.getInt(PRECISION), type.getInt(SCALE));
+        case DOUBLE:
+            return DataType.createDouble();
+        case VARCHAR:
+            return DataType.createVarChar(type.getInt(SIZE), ExaCharset.valueOf(type.getString(CHARACTER_SET)));
+        case CHAR:
+            return DataType.createChar(type.getInt(SIZE), ExaCharset.valueOf(type.getString(CHARACTER_SET)));
+        case DATE:
+            return DataType.createDate();
+        case TIMESTAMP:
+            return DataType.createTimestamp(type.getBoolean(WITH_LOCAL_TIME_ZONE), type.getInt(PRECISION));
+        case BOOLEAN:
+            return DataType.createBool();
+        case GEOMETRY:
+            return DataType.createGeometry(type.getInt(SRID));
+        case INTERVAL:
+            return parseIntervalType(type);
+        case HASHTYPE:
+            return DataType.createHashtype(type.getInt(BYTE_SIZE));
+        default:
+            return DataType.createUnsupported();
+        }
+    }
+
+    private static DataType parseIntervalType(final JsonObject type) {
+        if (IntervalType.valueOf(type.getString(INTERVAL_TYPE)) == IntervalType.DAY_TO_SECOND) {
+            return DataType.createIntervalDaySecond(type.getInt(PRECISION), type.getInt(FRACTION));
+        } else {
+            return DataType.createIntervalYearMonth(type.getInt(PRECISION));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.exasol.adapter.jdbc;
+
+import java.util.Optional;
+
+/**
+ * Common interface for stores that persist {@link MetadataSnapshot}s between adapter calls.
+ */
+public interface MetadataSnapshotStore {
+    /**
+     * Load the snapshot stored under the given key.
+     *
+     * @param key key identifying connection, catalog and schema
+     * @return snapshot or an empty optional if no snapshot was stored under the key or it could not be read
+     */
+    public Optional<MetadataSnapshot> load(String key);
+
+    /**
+     * Store a snapshot under the given key, replacing any previous snapshot.
+     *
+     * @param key      key identifying connection, catalog and schema
+     * @param snapshot snapshot to store
+     */
+    public void save(String key, MetadataSnapshot snapshot);
+}
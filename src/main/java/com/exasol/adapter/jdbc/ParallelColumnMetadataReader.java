@@ -0,0 +1,108 @@
+package com.exasol.adapter.jdbc;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.properties.TableCountLimit;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class reads the column metadata of multiple tables concurrently.
+ * <p>
+ * Each of the given column metadata readers must use its own JDBC connection. The number of readers therefore bounds
+ * the number of tables read at the same time.
+ * </p>
+ */
+final class ParallelColumnMetadataReader {
+    private static final Logger LOGGER = Logger.getLogger(ParallelColumnMetadataReader.class.getName());
+    private final BlockingQueue<ColumnMetadataReader> idleReaders;
+    private final int parallelism;
+
+    /**
+     * Create a new instance of a {@link ParallelColumnMetadataReader}.
+     *
+     * @param readers column metadata readers, each with a JDBC connection of its own
+     */
+    ParallelColumnMetadataReader(final List<ColumnMetadataReader> readers) {
+        this.idleReaders = new ArrayBlockingQueue<>(readers.size(), false, readers);
+        this.parallelism = readers.size();
+    }
+
+    /**
+     * Read the column metadata of the given tables.
+     * <p>
+     * The tables are checked against the table count limit in the given order, so that reading stops as soon as the
+     * limit is exceeded.
+     * </p>
+     *
+     * @param tableNames      names of the tables to read
+     * @param tableCountLimit limit for the number of tables with columns
+     * @return map from the remote table name to the list of column metadata
+     */
+    Map<String, List<ColumnMetadata>> mapColumns(final List<String> tableNames,
+            final TableCountLimit tableCountLimit) {
+        LOGGER.fine(() -> "Reading columns of " + tableNames.size() + " tables with " + this.parallelism
+                + " parallel connections.");
+        final ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, this::createDaemonThread);
+        try {
+            final List<Future<List<ColumnMetadata>>> futures = new ArrayList<>(tableNames.size());
+            for (final String tableName : tableNames) {
+                futures.add(executor.submit(() -> mapColumnsWithIdleReader(tableName)));
+            }
+            return collectResults(tableNames, futures, tableCountLimit);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Thread createDaemonThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, "column-metadata-reader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private List<ColumnMetadata> mapColumnsWithIdleReader(final String tableName) throws InterruptedException {
+        final ColumnMetadataReader reader = this.idleReaders.take();
+        try {
+            return reader.mapColumns(tableName);
+        } finally {
+            this.idleReaders.put(reader);
+        }
+    }
+
+    private static Map<String, List<ColumnMetadata>> collectResults(final List<String> tableNames,
+            final List<Future<List<ColumnMetadata>>> futures, final TableCountLimit tableCountLimit) {
+        final Map<String, List<ColumnMetadata>> columnsByTable = new HashMap<>();
+        int tablesWithColumns = 0;
+        for (int i = 0; i < tableNames.size(); ++i) {
+            final List<ColumnMetadata> columns = waitForResult(futures.get(i));
+            columnsByTable.put(tableNames.get(i), columns);
+            if (!columns.isEmpty()) {
+                ++tablesWithColumns;
+                tableCountLimit.validateNumberOfTables(tablesWithColumns);
+            }
+        }
+        return columnsByTable;
+    }
+
+    private static List<ColumnMetadata> waitForResult(final Future<List<ColumnMetadata>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RemoteMetadataReaderException(ExaError.messageBuilder("E-VSCJDBC-50")
+                    .message("Interrupted while reading column metadata in parallel.").toString(), exception);
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RemoteMetadataReaderException(ExaError.messageBuilder("E-VSCJDBC-51")
+                        .message("Unable to read column metadata in parallel: {{cause|uq}}", cause.getMessage())
+                        .toString(), cause);
+            }
+        }
+    }
+}
@@ -2,24 +2,42 @@ package com.exasol.adapter.jdbc;
 
 import static com.exasol.adapter.AdapterProperties.CONNECTION_NAME_PROPERTY;
 
+import java.nio.file.Path;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
 import java.sql.*;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.security.auth.Subject;
+import javax.security.auth.login.LoginException;
+
 import com.exasol.*;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.metrics.Metrics;
+import com.exasol.adapter.metrics.RemoteConnectionEvent;
+import com.exasol.adapter.properties.ConnectionPoolSettings;
 import com.exasol.auth.kerberos.KerberosConfigurationCreator;
+import com.exasol.auth.kerberos.KerberosSubjectCache;
 import com.exasol.errorreporting.ExaError;
 
 /**
  * Factory that produces JDBC connections to remote data sources.
  */
 public final class RemoteConnectionFactory implements ConnectionFactory {
+    /**
+     * Property that enables reusing a Kerberos login across connections instead of logging in for each connection.
+     */
+    public static final String KERBEROS_SUBJECT_REUSE_PROPERTY = "KERBEROS_SUBJECT_REUSE";
     private static final Logger LOGGER = Logger.getLogger(RemoteConnectionFactory.class.getName());
     private final ExaMetadata exaMetadata;
     private final AdapterProperties properties;
     private Connection cachedConnection = null;
+    private Connection openedConnection = null;
+    private String poolKey = null;
+    private final AtomicInteger openedConnectionCount = new AtomicInteger();
 
     /**
      * Create a new instance of {@link RemoteConnectionFactory}.
@@ -33,7 +51,11 @@ public final class RemoteConnectionFactory implements ConnectionFactory {
     }
 
     /**
-     * Create a JDBC connection to the remote data source.
+     * Get the JDBC connection to the remote data source.
+     * <p>
+     * The returned connection is only established when it is used for the first time, so that requests that do not
+     * access the remote data source never connect to it.
+     * </p>
      *
      * @return JDBC connection to remote data source
      * @throws SQLException if the connection to the remote source could not be established
@@ -41,35 +63,93 @@ public final class RemoteConnectionFactory implements ConnectionFactory {
     @Override
     public synchronized Connection getConnection() throws SQLException {
         if (this.cachedConnection == null) {
-            final String connectionName = this.properties.getConnectionName();
-            if ((connectionName != null) && !connectionName.isEmpty()) {
-                this.cachedConnection = createConnection(connectionName, this.exaMetadata);
+            this.cachedConnection = LazyConnection.create(this::openConnection);
+        }
+        return this.cachedConnection;
+    }
+
+    private synchronized Connection openConnection() throws SQLException {
+        if (this.openedConnection == null) {
+            final ConnectionPoolSettings poolSettings = ConnectionPoolSettings.from(this.properties);
+            final RemoteConnectionEvent event = new RemoteConnectionEvent();
+            event.begin();
+            if (poolSettings.isEnabled()) {
+                this.openedConnection = acquirePooledConnection(poolSettings);
             } else {
-                throw new RemoteConnectionException(ExaError.messageBuilder("E-VSCJDBC-28")
-                        .message("{{connectionNameProperty}} property is missing or empty.")
-                        .parameter("connectionNameProperty", CONNECTION_NAME_PROPERTY)
-                        .mitigation("Please, check the property and try to connect again.").toString());
+                this.openedConnection = createConnection();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.connectionName = getConnectionName();
+                event.pooled = poolSettings.isEnabled();
+                event.commit();
             }
         }
-        return this.cachedConnection;
+        return this.openedConnection;
     }
 
-    private Connection createConnection(final String connectionName, final ExaMetadata exaMetadata)
-            throws SQLException {
+    private Connection acquirePooledConnection(final ConnectionPoolSettings poolSettings) throws SQLException {
+        final String connectionName = getConnectionName();
+        final ExaConnectionInformation exaConnection = getConnectionInformation(connectionName);
+        final String key = ConnectionPool.createKey(connectionName, exaConnection.getAddress(),
+                exaConnection.getUser(), exaConnection.getPassword());
+        final Connection connection = ConnectionPool.getInstance().acquire(key, poolSettings,
+                () -> createConnection(exaConnection));
+        this.poolKey = key;
+        return connection;
+    }
+
+    /**
+     * Create an additional JDBC connection to the remote data source that is not cached by this factory.
+     *
+     * @return new JDBC connection to remote data source, to be closed by the caller
+     * @throws SQLException if the connection to the remote source could not be established
+     */
+    @Override
+    public Connection createAdditionalConnection() throws SQLException {
+        return createConnection();
+    }
+
+    private Connection createConnection() throws SQLException {
+        return createConnection(getConnectionInformation(getConnectionName()));
+    }
+
+    private String getConnectionName() {
+        final String connectionName = this.properties.getConnectionName();
+        if ((connectionName != null) && !connectionName.isEmpty()) {
+            return connectionName;
+        } else {
+            throw new RemoteConnectionException(ExaError.messageBuilder("E-VSCJDBC-28")
+                    .message("{{connectionNameProperty}} property is missing or empty.")
+                    .parameter("connectionNameProperty", CONNECTION_NAME_PROPERTY)
+                    .mitigation("Please, check the property and try to connect again.").toString());
+        }
+    }
+
+    private ExaConnectionInformation getConnectionInformation(final String connectionName) {
+        try {
+            return this.exaMetadata.getConnection(connectionName);
+        } catch (final ExaConnectionAccessException exception) {
+            throw new RemoteConnectionException(ExaError.messageBuilder("E-VSCJDBC-29")
+                    .message("Could not access the connection information of connection {{connectionName}}.")
+                    .parameter("connectionName", connectionName).toString(), exception);
+        }
+    }
+
+    private Connection createConnection(final ExaConnectionInformation exaConnection) throws SQLException {
+        this.openedConnectionCount.incrementAndGet();
+        final String password = exaConnection.getPassword();
+        final String username = exaConnection.getUser();
+        final String address = exaConnection.getAddress();
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.CONNECT);
         try {
-            final ExaConnectionInformation exaConnection = exaMetadata.getConnection(connectionName);
-            final String password = exaConnection.getPassword();
-            final String username = exaConnection.getUser();
-            final String address = exaConnection.getAddress();
             if (KerberosConfigurationCreator.isKerberosAuthentication(password)) {
                 return establishConnectionWithKerberos(password, username, address);
             } else {
                 return establishConnectionWithRegularCredentials(password, username, address);
             }
-        } catch (final ExaConnectionAccessException exception) {
-            throw new RemoteConnectionException(ExaError.messageBuilder("E-VSCJDBC-29")
-                    .message("Could not access the connection information of connection {{connectionName}}.")
-                    .parameter("connectionName", connectionName).toString(), exception);
+        } finally {
+            timer.stop();
         }
     }
 
@@ -80,13 +160,38 @@ public final class RemoteConnectionFactory implements ConnectionFactory {
         jdbcProperties.put("user", username);
         jdbcProperties.put("password", password);
         final KerberosConfigurationCreator kerberosConfigurationCreator = new KerberosConfigurationCreator();
-        kerberosConfigurationCreator.writeKerberosConfigurationFiles(username, password);
+        final Path jaasConfigPath = kerberosConfigurationCreator
+                .writeKerberosConfigurationFilesAndGetJaasConfigPath(username, password);
         final long start = System.currentTimeMillis();
-        final Connection connection = DriverManager.getConnection(address, jdbcProperties);
+        final Connection connection = this.properties.isEnabled(KERBEROS_SUBJECT_REUSE_PROPERTY)
+                ? establishConnectionAsSubject(getKerberosSubject(jaasConfigPath), address, jdbcProperties)
+                : DriverManager.getConnection(address, jdbcProperties);
         logRemoteDatabaseDetails(connection, System.currentTimeMillis() - start);
         return connection;
     }
 
+    private static Subject getKerberosSubject(final Path jaasConfigPath) {
+        try {
+            return KerberosSubjectCache.getInstance().getSubject(jaasConfigPath);
+        } catch (final LoginException exception) {
+            throw new RemoteConnectionException(ExaError.messageBuilder("E-VSCJDBC-59")
+                    .message("Unable to log in with Kerberos: {{cause|uq}}", exception.getMessage())
+                    .mitigation("Please check the Kerberos configuration and key tab of the connection"
+                            + " or disable property {{property}}.", KERBEROS_SUBJECT_REUSE_PROPERTY)
+                    .toString(), exception);
+        }
+    }
+
+    private static Connection establishConnectionAsSubject(final Subject subject, final String address,
+            final Properties jdbcProperties) throws SQLException {
+        try {
+            return Subject.doAs(subject,
+                    (PrivilegedExceptionAction<Connection>) () -> DriverManager.getConnection(address, jdbcProperties));
+        } catch (final PrivilegedActionException exception) {
+            throw (SQLException) exception.getCause();
+        }
+    }
+
     private void logConnectionAttemptWithKerberos(final String address, final String username) {
         LOGGER.fine(
                 () -> "Connecting to \"" + address + "\" as user \"" + username + "\" using Kerberos authentication.");
@@ -135,18 +240,54 @@ public final class RemoteConnectionFactory implements ConnectionFactory {
         return this.cachedConnection != null;
     }
 
+    /**
+     * Get the number of physical connections this factory opened to the remote data source.
+     * <p>
+     * Connections taken from the {@link ConnectionPool} are not counted.
+     * </p>
+     *
+     * @return number of opened connections
+     */
+    public int getOpenedConnectionCount() {
+        return this.openedConnectionCount.get();
+    }
+
     /**
      * Closes cached connection if any.
+     * <p>
+     * If connection pooling is enabled, the connection is handed back to the {@link ConnectionPool} instead. A cached
+     * connection that was never used does not need to be closed. Connections returned by {@link #getConnection()}
+     * before can no longer be used afterwards.
+     * </p>
      */
-    public synchronized void clean() {
-        if (this.cachedConnection != null) {
+    public void clean() {
+        // Release the handle outside of the factory lock, since the handle locks itself before opening a connection.
+        final Connection handle = detachCachedConnection();
+        if (handle != null) {
+            LazyConnection.release(handle);
+        }
+        releaseOpenedConnection();
+    }
+
+    private synchronized Connection detachCachedConnection() {
+        final Connection handle = this.cachedConnection;
+        this.cachedConnection = null;
+        return handle;
+    }
+
+    private synchronized void releaseOpenedConnection() {
+        if ((this.openedConnection != null) && (this.poolKey != null)) {
+            ConnectionPool.getInstance().release(this.poolKey, this.openedConnection,
+                    ConnectionPoolSettings.from(this.properties));
+        } else if (this.openedConnection != null) {
             LOGGER.fine("Closing cached connection...");
             try {
-                this.cachedConnection.close();
+                this.openedConnection.close();
             } catch (final SQLException exception) {
                 LOGGER.log(Level.WARNING, "Error during connection close.", exception);
             }
-            this.cachedConnection = null;
         }
+        this.openedConnection = null;
+        this.poolKey = null;
     }
 }
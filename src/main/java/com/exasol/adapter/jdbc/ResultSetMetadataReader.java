@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 import com.exasol.adapter.dialects.rewriting.SqlGenerationHelper;
 import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metrics.DescribeColumnsEvent;
+import com.exasol.adapter.metrics.Metrics;
 import com.exasol.errorreporting.ExaError;
 
 /**
@@ -21,20 +23,39 @@ public class ResultSetMetadataReader {
     private static final Logger LOGGER = Logger.getLogger(ResultSetMetadataReader.class.getName());
     private final Connection connection;
     private final ColumnMetadataReader columnMetadataReader;
+    private final List<ColumnDescriptionStrategy> strategies;
 
     /**
-     * Create a new instance of a {@link ResultSetMetadataReader}.
+     * Create a new instance of a {@link ResultSetMetadataReader} that reads the metadata of the prepared push-down
+     * query.
      *
      * @param connection           connection to the remote data source
      * @param columnMetadataReader column metadata reader used to translate the column types
      */
     public ResultSetMetadataReader(final Connection connection, final ColumnMetadataReader columnMetadataReader) {
+        this(connection, columnMetadataReader, List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT));
+    }
+
+    /**
+     * Create a new instance of a {@link ResultSetMetadataReader}.
+     *
+     * @param connection           connection to the remote data source
+     * @param columnMetadataReader column metadata reader used to translate the column types
+     * @param strategies           strategies for reading the result columns in order of preference
+     */
+    public ResultSetMetadataReader(final Connection connection, final ColumnMetadataReader columnMetadataReader,
+            final List<ColumnDescriptionStrategy> strategies) {
         this.connection = connection;
         this.columnMetadataReader = columnMetadataReader;
+        this.strategies = strategies;
     }
 
     /**
      * Generate a textual description of the result columns of the push-down query.
+     * <p>
+     * The strategies are tried in order until one provides the metadata. The duration of each attempt is recorded
+     * with the name of the strategy appended to {@value Metrics#REMOTE_DESCRIBE}.
+     * </p>
      *
      * @param query push-down query
      * @return string describing the columns (names and types)
@@ -42,9 +63,9 @@ public class ResultSetMetadataReader {
     public String describeColumns(final String query) {
         LOGGER.fine(() -> "Generating columns description for push-down query using "
                 + this.columnMetadataReader.getClass().getSimpleName() + ":\n" + query);
-        try (final PreparedStatement statement = this.connection.prepareStatement(query)) {
-            final ResultSetMetaData metadata = statement.getMetaData();
-            final List<DataType> types = mapResultMetadataToExasolDataTypes(metadata);
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.REMOTE_DESCRIBE);
+        try {
+            final List<DataType> types = readColumnTypes(query);
             validateColumnTypes(types, query);
             final String columnsDescription = SqlGenerationHelper.createColumnsDescriptionFromDataTypes(types);
             LOGGER.fine(() -> "Columns description: " + columnsDescription);
@@ -55,6 +76,59 @@ public class ResultSetMetadataReader {
                     .mitigation("Please, make sure that you provided valid CATALOG_NAME "
                             + "and SCHEMA_NAME properties if required. Caused by: {{cause}}")
                     .parameter("cause", exception.getMessage()).toString(), exception);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    private List<DataType> readColumnTypes(final String query) throws SQLException {
+        SQLException firstException = null;
+        for (final ColumnDescriptionStrategy strategy : this.strategies) {
+            try {
+                final List<DataType> types = readColumnTypes(query, strategy);
+                if (types != null) {
+                    return types;
+                }
+                LOGGER.fine(() -> "Strategy " + strategy + " did not provide the result columns.");
+            } catch (final SQLException exception) {
+                LOGGER.fine(() -> "Strategy " + strategy + " failed: " + exception.getMessage());
+                firstException = (firstException == null) ? exception : firstException;
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+        throw createMissingMetadataException();
+    }
+
+    /**
+     * @return column types or {@code null} if the strategy does not provide metadata
+     */
+    private List<DataType> readColumnTypes(final String query, final ColumnDescriptionStrategy strategy)
+            throws SQLException {
+        final String probeQuery = strategy.createProbeQuery(query);
+        final Metrics.Timer timer = Metrics.startTimer(Metrics.REMOTE_DESCRIBE + "." + strategy);
+        final DescribeColumnsEvent event = new DescribeColumnsEvent();
+        event.begin();
+        try (final PreparedStatement statement = this.connection.prepareStatement(probeQuery)) {
+            final List<DataType> types = strategy.executesProbeQuery() ? readColumnTypesFromResult(statement)
+                    : mapResultMetadataToExasolDataTypes(statement.getMetaData());
+            event.end();
+            if ((types != null) && event.shouldCommit()) {
+                event.strategy = strategy.name();
+                event.sqlLength = probeQuery.length();
+                event.columnCount = types.size();
+                event.commit();
+            }
+            return types;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    private List<DataType> readColumnTypesFromResult(final PreparedStatement statement) throws SQLException {
+        try (final ResultSet result = statement.executeQuery()) {
+            return mapResultMetadataToExasolDataTypes(result.getMetaData());
         }
     }
 
@@ -76,7 +150,9 @@ public class ResultSetMetadataReader {
     }
 
     private List<DataType> mapResultMetadataToExasolDataTypes(final ResultSetMetaData metadata) throws SQLException {
-        validateMetadata(metadata);
+        if (metadata == null) {
+            return null;
+        }
         final int columnCount = metadata.getColumnCount();
         final List<DataType> types = new ArrayList<>(columnCount);
         for (int columnNumber = 1; columnNumber <= columnCount; ++columnNumber) {
@@ -87,14 +163,11 @@ public class ResultSetMetadataReader {
         return types;
     }
 
-    private void validateMetadata(final ResultSetMetaData metadata) {
-        if (metadata == null) {
-            throw new RemoteMetadataReaderException(ExaError.messageBuilder("F-VSCJDBC-34") //
-                    .message(
-                            "Metadata is missing in the ResultSet. This can happen if the generated query was incorrect,"
-                                    + " but the JDBC driver didn't throw an exception.")
-                    .ticketMitigation().toString());
-        }
+    private static RemoteMetadataReaderException createMissingMetadataException() {
+        return new RemoteMetadataReaderException(ExaError.messageBuilder("F-VSCJDBC-34") //
+                .message("Metadata is missing in the ResultSet. This can happen if the generated query was incorrect,"
+                        + " but the JDBC driver didn't throw an exception.")
+                .ticketMitigation().toString());
     }
 
     /**
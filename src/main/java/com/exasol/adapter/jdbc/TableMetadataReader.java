@@ -20,6 +20,24 @@ public interface TableMetadataReader {
      */
     public List<TableMetadata> mapTables(ResultSet remoteTables, List<String> filteredTables) throws SQLException;
 
+    /**
+     * Map a list of tables found in a JDBC result set to a list of {@link TableMetadata}.
+     * <p>
+     * The default implementation ignores {@code warnIfEmpty} and delegates to
+     * {@link #mapTables(ResultSet, List)}.
+     * </p>
+     *
+     * @param remoteTables   result set containing the tables to be mapped
+     * @param filteredTables list of tables name that is used to narrow down the mapping
+     * @param warnIfEmpty    <code>true</code> if an empty result set should be reported as a warning
+     * @return list of {@link TableMetadata}
+     * @throws SQLException if either mapping the table or its columns produces an SQL error
+     */
+    public default List<TableMetadata> mapTables(final ResultSet remoteTables, final List<String> filteredTables,
+            final boolean warnIfEmpty) throws SQLException {
+        return mapTables(remoteTables, filteredTables);
+    }
+
     /**
      * Returns true if the metadata reader includes the table with the given name when the remote metadata gets mapped
      * table name.
@@ -28,4 +46,19 @@ public interface TableMetadataReader {
      * @return <code>true</code> if the reader includes the the mapping, <code>false</code> if it is ignored
      */
     public boolean isTableIncludedByMapping(final String tableName);
-}
\ No newline at end of file
+
+    /**
+     * Read the adapter notes of a single table, e.g. its partitions.
+     * <p>
+     * This is used to refresh the notes of tables whose columns did not change since the last metadata snapshot. The
+     * default implementation returns empty notes.
+     * </p>
+     *
+     * @param tableName name of the table as provided by the source
+     * @return table adapter notes
+     * @throws SQLException if reading the notes fails
+     */
+    public default String readTableAdapterNotes(final String tableName) throws SQLException {
+        return "";
+    }
+}
@@ -0,0 +1,40 @@
+package com.exasol.adapter.metrics;
+
+/**
+ * Sink for timings and counters recorded while the adapter handles a request.
+ * <p>
+ * Install a custom sink with {@link Metrics#setSink(AdapterMetrics)}, e.g. to assert on the recorded values in tests
+ * or benchmarks. Implementations must be thread-safe, since column metadata can be read in parallel.
+ * </p>
+ */
+public interface AdapterMetrics {
+    /**
+     * Called when the adapter starts handling a request.
+     *
+     * @param requestType type of the request, e.g. {@code PUSHDOWN}
+     */
+    public void requestStarted(String requestType);
+
+    /**
+     * Record the duration of an operation.
+     *
+     * @param name  name of the operation
+     * @param nanos duration in nanoseconds
+     */
+    public void recordDuration(String name, long nanos);
+
+    /**
+     * Increment a counter.
+     *
+     * @param name  name of the counter
+     * @param delta value to add
+     */
+    public void incrementCounter(String name, long delta);
+
+    /**
+     * Called when the adapter finished handling a request.
+     *
+     * @param requestType type of the request, e.g. {@code PUSHDOWN}
+     */
+    public void requestFinished(String requestType);
+}
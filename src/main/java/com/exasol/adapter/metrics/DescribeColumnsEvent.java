@@ -0,0 +1,24 @@
+package com.exasol.adapter.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for describing the result columns of a push-down query on the remote data source.
+ */
+@Name("com.exasol.adapter.DescribeColumns")
+@Label("Describe Columns")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Preparing the push-down query on the remote data source to read its result columns")
+public final class DescribeColumnsEvent extends Event {
+    /** Strategy used for reading the result columns */
+    @Label("Strategy")
+    public String strategy;
+
+    /** Length of the query sent to the remote data source */
+    @Label("SQL Length")
+    public int sqlLength;
+
+    /** Number of result columns */
+    @Label("Column Count")
+    public int columnCount;
+}
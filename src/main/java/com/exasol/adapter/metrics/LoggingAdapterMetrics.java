@@ -0,0 +1,66 @@
+package com.exasol.adapter.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Default {@link AdapterMetrics} sink that collects the values of a request and logs them as a single summary line.
+ */
+public class LoggingAdapterMetrics implements AdapterMetrics {
+    private static final Logger LOGGER = Logger.getLogger(LoggingAdapterMetrics.class.getName());
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final Map<String, AtomicLong[]> durations = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestStarted(final String requestType) {
+        reset();
+    }
+
+    @Override
+    public void recordDuration(final String name, final long nanos) {
+        final AtomicLong[] countAndTotal = this.durations.computeIfAbsent(name,
+                key -> new AtomicLong[] { new AtomicLong(), new AtomicLong() });
+        countAndTotal[0].incrementAndGet();
+        countAndTotal[1].addAndGet(nanos);
+    }
+
+    @Override
+    public void incrementCounter(final String name, final long delta) {
+        this.counters.computeIfAbsent(name, key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    @Override
+    public void requestFinished(final String requestType) {
+        LOGGER.fine(() -> createSummary(requestType));
+        reset();
+    }
+
+    /**
+     * Create a summary of all values recorded since the request started.
+     * <p>
+     * Durations are reported as number of operations and total milliseconds, e.g. {@code connect=1/12.5ms}.
+     * </p>
+     *
+     * @param requestType type of the request
+     * @return summary line
+     */
+    public String createSummary(final String requestType) {
+        final StringBuilder builder = new StringBuilder("Metrics for ").append(requestType).append(" request:");
+        new TreeMap<>(this.durations).forEach((name, countAndTotal) -> builder.append(' ').append(name).append('=')
+                .append(countAndTotal[0].get()).append('/')
+                .append(String.format(Locale.ROOT, "%.1f", countAndTotal[1].get() / NANOS_PER_MILLI)).append("ms"));
+        new TreeMap<>(this.counters)
+                .forEach((name, value) -> builder.append(' ').append(name).append('=').append(value.get()));
+        return builder.toString();
+    }
+
+    private void reset() {
+        this.durations.clear();
+        this.counters.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package com.exasol.adapter.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for a {@code DatabaseMetaData.getTables} or {@code DatabaseMetaData.getColumns} scan,
+ * including reading its result set.
+ */
+@Name("com.exasol.adapter.MetadataScan")
+@Label("Metadata Scan")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Scan of the remote metadata with getTables or getColumns")
+public final class MetadataScanEvent extends Event {
+    /** Scan of the remote tables */
+    public static final String TABLES = "getTables";
+    /** Scan of the remote columns */
+    public static final String COLUMNS = "getColumns";
+
+    /** Scanned metadata, either {@value #TABLES} or {@value #COLUMNS} */
+    @Label("Scan")
+    public String scan;
+
+    /** Catalog name filter of the scan */
+    @Label("Catalog")
+    public String catalogName;
+
+    /** Schema name filter of the scan */
+    @Label("Schema")
+    public String schemaName;
+
+    /** Table name or table name pattern of the scan, {@code null} for all tables */
+    @Label("Table")
+    public String tableName;
+
+    /** Number of tables returned by the scan */
+    @Label("Table Count")
+    public int tableCount;
+
+    /** Number of columns returned by the scan */
+    @Label("Column Count")
+    public int columnCount;
+}
@@ -0,0 +1,97 @@
+package com.exasol.adapter.metrics;
+
+/**
+ * Entry point for recording timings and counters.
+ * <p>
+ * By default the values are collected by a {@link LoggingAdapterMetrics} sink, which logs a summary line after each
+ * request.
+ * </p>
+ */
+public final class Metrics {
+    /** Establishing a connection to the remote data source */
+    public static final String CONNECT = "connect";
+    /** Listing the tables of the remote schema */
+    public static final String TABLE_LISTING = "tableListing";
+    /** Reading the columns of a single remote table */
+    public static final String COLUMN_READING = "columnReading";
+    /** Reading row count estimates of the remote tables */
+    public static final String TABLE_STATISTICS = "tableStatistics";
+    /** Generating the SQL of a push-down query */
+    public static final String SQL_GENERATION = "sqlGeneration";
+    /** Simplifying the filter predicates of a push-down query */
+    public static final String PREDICATE_NORMALIZATION = "predicateNormalization";
+    /** Describing the result columns of a push-down query on the remote data source */
+    public static final String REMOTE_DESCRIBE = "remoteDescribe";
+    /** Parsing column adapter notes that are not cached yet */
+    public static final String ADAPTER_NOTES_CONVERSION = "adapterNotesConversion";
+    /** Counter of push-down requests answered from the push-down cache */
+    public static final String PUSHDOWN_CACHE_HIT = "pushdownCacheHit";
+    /** Counter of push-down requests that missed the push-down cache */
+    public static final String PUSHDOWN_CACHE_MISS = "pushdownCacheMiss";
+    private static final AdapterMetrics DEFAULT_SINK = new LoggingAdapterMetrics();
+    private static volatile AdapterMetrics sink = DEFAULT_SINK;
+
+    private Metrics() {
+        // prevent instantiation
+    }
+
+    /**
+     * @return sink that currently receives all timings and counters
+     */
+    public static AdapterMetrics getSink() {
+        return sink;
+    }
+
+    /**
+     * Replace the sink that receives all timings and counters.
+     *
+     * @param newSink new sink or {@code null} to restore the default sink
+     */
+    public static void setSink(final AdapterMetrics newSink) {
+        sink = (newSink == null) ? DEFAULT_SINK : newSink;
+    }
+
+    /**
+     * Start timing an operation.
+     * <p>
+     * Stop the returned timer in a {@code finally} block; the duration is recorded when the timer is stopped.
+     * </p>
+     *
+     * @param name name of the operation
+     * @return running timer
+     */
+    public static Timer startTimer(final String name) {
+        return new Timer(sink, name);
+    }
+
+    /**
+     * Increment a counter by one.
+     *
+     * @param name name of the counter
+     */
+    public static void increment(final String name) {
+        sink.incrementCounter(name, 1);
+    }
+
+    /**
+     * Running timer for a single operation.
+     */
+    public static final class Timer {
+        private final AdapterMetrics target;
+        private final String name;
+        private final long start;
+
+        private Timer(final AdapterMetrics target, final String name) {
+            this.target = target;
+            this.name = name;
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Stop the timer and record the duration.
+         */
+        public void stop() {
+            this.target.recordDuration(this.name, System.nanoTime() - this.start);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.exasol.adapter.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for rewriting a push-down request into the statement Exasol executes.
+ */
+@Name("com.exasol.adapter.QueryRewrite")
+@Label("Query Rewrite")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Rewriting a push-down request into an IMPORT statement")
+public final class QueryRewriteEvent extends Event {
+    /** Class name of the query rewriter */
+    @Label("Rewriter")
+    public String rewriter;
+
+    /** Number of columns in the select list */
+    @Label("Column Count")
+    public int columnCount;
+
+    /** Length of the generated push-down query */
+    @Label("Push-down SQL Length")
+    public int pushdownSqlLength;
+
+    /** Length of the resulting statement */
+    @Label("SQL Length")
+    public int sqlLength;
+}
@@ -0,0 +1,20 @@
+package com.exasol.adapter.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for acquiring the connection to the remote data source.
+ */
+@Name("com.exasol.adapter.RemoteConnection")
+@Label("Remote Connection")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Acquiring a JDBC connection to the remote data source")
+public final class RemoteConnectionEvent extends Event {
+    /** Name of the Exasol connection object */
+    @Label("Connection Name")
+    public String connectionName;
+
+    /** {@code true} if the connection was taken from the connection pool */
+    @Label("Pooled")
+    public boolean pooled;
+}
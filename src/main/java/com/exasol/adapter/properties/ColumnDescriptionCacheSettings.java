@@ -0,0 +1,75 @@
+package com.exasol.adapter.properties;
+
+import java.time.Duration;
+
+import com.exasol.adapter.AdapterProperties;
+
+/**
+ * Class to handle the properties controlling the cache for column descriptions of push-down queries.
+ */
+public final class ColumnDescriptionCacheSettings {
+
+    /**
+     * Property for the maximum number of cached column descriptions; default 0 disables the cache.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "COLUMN_DESCRIPTION_CACHE_SIZE";
+    /**
+     * Property for the number of seconds a cached column description stays valid.
+     */
+    public static final String CACHE_TTL_PROPERTY = "COLUMN_DESCRIPTION_CACHE_TTL";
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    private static final int DEFAULT_CACHE_TTL_SECONDS = 300;
+
+    /**
+     * @return validator for the properties controlling the column description cache
+     */
+    public static PropertyValidator getValidator() {
+        return PropertyValidator.chain() //
+                .add(NonNegativeIntegerProperty.validator(CACHE_SIZE_PROPERTY)) //
+                .add(NonNegativeIntegerProperty.validator(CACHE_TTL_PROPERTY));
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link ColumnDescriptionCacheSettings} based on the properties
+     */
+    public static ColumnDescriptionCacheSettings from(final AdapterProperties properties) {
+        final int size = NonNegativeIntegerProperty.getValue(properties, CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+        final int ttlSeconds = NonNegativeIntegerProperty.getValue(properties, CACHE_TTL_PROPERTY,
+                DEFAULT_CACHE_TTL_SECONDS);
+        return new ColumnDescriptionCacheSettings(size, Duration.ofSeconds(ttlSeconds));
+    }
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+
+    /**
+     * @param maxEntries maximum number of cached column descriptions
+     * @param timeToLive time a cached column description stays valid
+     */
+    public ColumnDescriptionCacheSettings(final int maxEntries, final Duration timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return maximum number of cached column descriptions
+     */
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    /**
+     * @return time a cached column description stays valid
+     */
+    public Duration getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * @return {@code true} if column descriptions should be cached
+     */
+    public boolean isEnabled() {
+        return (this.maxEntries > 0) && !this.timeToLive.isZero();
+    }
+}
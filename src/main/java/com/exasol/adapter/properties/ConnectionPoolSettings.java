@@ -0,0 +1,93 @@
+package com.exasol.adapter.properties;
+
+import java.time.Duration;
+
+import com.exasol.adapter.AdapterProperties;
+
+/**
+ * Class to handle the properties controlling the pool of remote connections kept across adapter requests.
+ */
+public final class ConnectionPoolSettings {
+
+    /**
+     * Property for the maximum number of idle connections kept per remote connection; default 0 disables pooling.
+     */
+    public static final String POOL_SIZE_PROPERTY = "CONNECTION_POOL_SIZE";
+    /**
+     * Property for the number of seconds an idle connection stays in the pool.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "CONNECTION_POOL_IDLE_TIMEOUT";
+    /**
+     * Property for the number of seconds after which a connection is closed regardless of its use.
+     */
+    public static final String MAX_AGE_PROPERTY = "CONNECTION_POOL_MAX_AGE";
+    private static final int DEFAULT_POOL_SIZE = 0;
+    private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+    private static final int DEFAULT_MAX_AGE_SECONDS = 1800;
+
+    /**
+     * @return validator for the properties controlling the connection pool
+     */
+    public static PropertyValidator getValidator() {
+        return PropertyValidator.chain() //
+                .add(NonNegativeIntegerProperty.validator(POOL_SIZE_PROPERTY)) //
+                .add(NonNegativeIntegerProperty.validator(IDLE_TIMEOUT_PROPERTY)) //
+                .add(NonNegativeIntegerProperty.validator(MAX_AGE_PROPERTY));
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link ConnectionPoolSettings} based on the properties
+     */
+    public static ConnectionPoolSettings from(final AdapterProperties properties) {
+        return new ConnectionPoolSettings(
+                NonNegativeIntegerProperty.getValue(properties, POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                Duration.ofSeconds(NonNegativeIntegerProperty.getValue(properties, IDLE_TIMEOUT_PROPERTY,
+                        DEFAULT_IDLE_TIMEOUT_SECONDS)),
+                Duration.ofSeconds(NonNegativeIntegerProperty.getValue(properties, MAX_AGE_PROPERTY,
+                        DEFAULT_MAX_AGE_SECONDS)));
+    }
+
+    private final int maxIdleConnections;
+    private final Duration idleTimeout;
+    private final Duration maxAge;
+
+    /**
+     * @param maxIdleConnections maximum number of idle connections kept per remote connection
+     * @param idleTimeout        time an idle connection stays in the pool
+     * @param maxAge             time after which a connection is closed regardless of its use
+     */
+    public ConnectionPoolSettings(final int maxIdleConnections, final Duration idleTimeout, final Duration maxAge) {
+        this.maxIdleConnections = maxIdleConnections;
+        this.idleTimeout = idleTimeout;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * @return maximum number of idle connections kept per remote connection
+     */
+    public int getMaxIdleConnections() {
+        return this.maxIdleConnections;
+    }
+
+    /**
+     * @return time an idle connection stays in the pool
+     */
+    public Duration getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * @return time after which a connection is closed regardless of its use
+     */
+    public Duration getMaxAge() {
+        return this.maxAge;
+    }
+
+    /**
+     * @return {@code true} if connections should be kept in a pool across adapter requests
+     */
+    public boolean isEnabled() {
+        return this.maxIdleConnections > 0;
+    }
+}
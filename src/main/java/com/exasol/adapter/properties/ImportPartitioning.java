@@ -0,0 +1,106 @@
+package com.exasol.adapter.properties;
+
+import java.util.*;
+
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Class to handle the properties that split push-down queries into multiple range-filtered {@code IMPORT} statements.
+ */
+public final class ImportPartitioning {
+
+    /**
+     * Property for the number of {@code IMPORT} statements a push-down query is split into; default 1 disables
+     * partitioning.
+     */
+    public static final String PARTITION_COUNT_PROPERTY = "IMPORT_PARTITIONS";
+    /**
+     * Property for a comma-separated list of partition columns in the form {@code <table>.<column>}.
+     */
+    public static final String PARTITION_COLUMNS_PROPERTY = "IMPORT_PARTITION_COLUMNS";
+    private static final int DEFAULT_PARTITION_COUNT = 1;
+    private static final ImportPartitioning DISABLED = new ImportPartitioning(DEFAULT_PARTITION_COUNT, Map.of());
+
+    /**
+     * @return validator for the properties controlling partitioned push-down
+     */
+    public static PropertyValidator getValidator() {
+        return PropertyValidator.chain() //
+                .add(NonNegativeIntegerProperty.validator(PARTITION_COUNT_PROPERTY, 1)) //
+                .add(PropertyValidator.optional(PARTITION_COLUMNS_PROPERTY,
+                        ImportPartitioning::validatePartitionColumns));
+    }
+
+    private static void validatePartitionColumns(final String value) throws PropertyValidationException {
+        for (final String entry : value.split(",")) {
+            final String trimmed = entry.trim();
+            final int separator = trimmed.lastIndexOf('.');
+            if ((separator <= 0) || (separator == (trimmed.length() - 1))) {
+                throw new PropertyValidationException(ExaError.messageBuilder("E-VSCJDBC-61") //
+                        .message("Invalid partition column {{entry}}.", trimmed) //
+                        .mitigation("The adapter property {{property}} if present, must be a comma-separated list"
+                                + " of entries in the form <table>.<column>.", PARTITION_COLUMNS_PROPERTY) //
+                        .toString());
+            }
+        }
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link ImportPartitioning} based on the properties
+     */
+    public static ImportPartitioning from(final AdapterProperties properties) {
+        if (!properties.containsKey(PARTITION_COUNT_PROPERTY)) {
+            return DISABLED;
+        }
+        final Map<String, String> columns = new HashMap<>();
+        final String columnList = properties.get(PARTITION_COLUMNS_PROPERTY);
+        if ((columnList != null) && !columnList.isEmpty()) {
+            for (final String entry : columnList.split(",")) {
+                final String trimmed = entry.trim();
+                final int separator = trimmed.lastIndexOf('.');
+                if (separator > 0) {
+                    columns.put(trimmed.substring(0, separator), trimmed.substring(separator + 1));
+                }
+            }
+        }
+        return new ImportPartitioning(
+                NonNegativeIntegerProperty.getValue(properties, PARTITION_COUNT_PROPERTY, DEFAULT_PARTITION_COUNT),
+                columns);
+    }
+
+    private final int partitionCount;
+    private final Map<String, String> partitionColumns;
+
+    /**
+     * @param partitionCount   number of {@code IMPORT} statements a push-down query is split into
+     * @param partitionColumns partition column names by table name
+     */
+    public ImportPartitioning(final int partitionCount, final Map<String, String> partitionColumns) {
+        this.partitionCount = partitionCount;
+        this.partitionColumns = partitionColumns;
+    }
+
+    /**
+     * @return {@code true} if push-down queries should be split into multiple {@code IMPORT} statements
+     */
+    public boolean isEnabled() {
+        return this.partitionCount > 1;
+    }
+
+    /**
+     * @return number of {@code IMPORT} statements a push-down query is split into
+     */
+    public int getPartitionCount() {
+        return this.partitionCount;
+    }
+
+    /**
+     * @param tableName name of the remote table
+     * @return configured partition column or an empty optional if the column should be detected automatically
+     */
+    public Optional<String> getPartitionColumn(final String tableName) {
+        return Optional.ofNullable(this.partitionColumns.get(tableName));
+    }
+}
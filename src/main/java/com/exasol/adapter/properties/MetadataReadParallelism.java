@@ -0,0 +1,55 @@
+package com.exasol.adapter.properties;
+
+import com.exasol.adapter.AdapterProperties;
+
+/**
+ * Class to handle the property for the number of tables whose column metadata is read in parallel.
+ */
+public final class MetadataReadParallelism {
+
+    /**
+     * Property for the maximum number of JDBC connections used to read the column metadata of multiple tables in
+     * parallel; default 1 reads the tables one after another.
+     */
+    public static final String PARALLELISM_PROPERTY = "METADATA_READ_PARALLELISM";
+    private static final int DEFAULT_PARALLELISM = 1;
+
+    /**
+     * @return validator for the property controlling the parallelism of reading column metadata
+     */
+    public static PropertyValidator getValidator() {
+        return NonNegativeIntegerProperty.validator(PARALLELISM_PROPERTY, 1);
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link MetadataReadParallelism} based on the properties
+     */
+    public static MetadataReadParallelism from(final AdapterProperties properties) {
+        return new MetadataReadParallelism(
+                NonNegativeIntegerProperty.getValue(properties, PARALLELISM_PROPERTY, DEFAULT_PARALLELISM));
+    }
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism maximum number of tables read in parallel
+     */
+    public MetadataReadParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return maximum number of tables read in parallel
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * @return {@code true} if column metadata should be read in parallel
+     */
+    public boolean isParallel() {
+        return this.parallelism > 1;
+    }
+}
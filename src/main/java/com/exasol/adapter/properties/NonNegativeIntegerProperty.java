@@ -0,0 +1,67 @@
+package com.exasol.adapter.properties;
+
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.properties.PropertyValidator.PropertyValueValidator;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class validates and reads adapter properties with non-negative integer values like sizes and durations.
+ * <p>
+ * Values are parsed as signed {@code int}, so values above {@link Integer#MAX_VALUE} are rejected instead of
+ * overflowing. A validator can require a higher minimum, e.g. 1 for counts.
+ * </p>
+ */
+final class NonNegativeIntegerProperty implements PropertyValueValidator {
+
+    /**
+     * @param propertyName name of the property
+     * @return validator for the specified non-negative integer adapter property
+     */
+    static PropertyValidator validator(final String propertyName) {
+        return validator(propertyName, 0);
+    }
+
+    /**
+     * @param propertyName name of the property
+     * @param minimum      smallest valid value, must not be negative
+     * @return validator for the specified integer adapter property with a lower bound
+     */
+    static PropertyValidator validator(final String propertyName, final int minimum) {
+        return PropertyValidator.optional(propertyName, new NonNegativeIntegerProperty(propertyName, minimum));
+    }
+
+    /**
+     * Get the value of a validated non-negative integer property.
+     *
+     * @param properties   adapter properties
+     * @param propertyName name of the property
+     * @param defaultValue value used if the property is not set
+     * @return value of the property
+     */
+    static int getValue(final AdapterProperties properties, final String propertyName, final int defaultValue) {
+        return properties.containsKey(propertyName) ? Integer.parseInt(properties.get(propertyName)) : defaultValue;
+    }
+
+    private final String propertyName;
+    private final int minimum;
+
+    private NonNegativeIntegerProperty(final String propertyName, final int minimum) {
+        this.propertyName = propertyName;
+        this.minimum = minimum;
+    }
+
+    @Override
+    public void validate(final String propertyValue) throws PropertyValidationException {
+        try {
+            if (Integer.parseInt(propertyValue) < this.minimum) {
+                throw new NumberFormatException();
+            }
+        } catch (final NumberFormatException exception) {
+            throw new PropertyValidationException(ExaError.messageBuilder("E-VSCJDBC-56") //
+                    .message("Invalid parameter value {{value}}.", propertyValue) //
+                    .mitigation("The adapter property {{property}} if present, must be an integer between"
+                            + " {{minimum}} and {{maximum}}.", this.propertyName, this.minimum, Integer.MAX_VALUE) //
+                    .toString());
+        }
+    }
+}
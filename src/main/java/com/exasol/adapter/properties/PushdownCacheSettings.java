@@ -0,0 +1,77 @@
+package com.exasol.adapter.properties;
+
+import java.time.Duration;
+
+import com.exasol.adapter.AdapterProperties;
+
+/**
+ * Class to handle the properties controlling the cache for the generated SQL of push-down queries.
+ */
+public final class PushdownCacheSettings {
+
+    /**
+     * Property for the maximum memory of the cache in kilobytes; default 0 disables the cache.
+     */
+    public static final String CACHE_MEMORY_PROPERTY = "PUSHDOWN_CACHE_MEMORY";
+    /**
+     * Property for the number of seconds a cached push-down statement stays valid.
+     */
+    public static final String CACHE_TTL_PROPERTY = "PUSHDOWN_CACHE_TTL";
+    private static final int DEFAULT_CACHE_MEMORY_KILOBYTES = 0;
+    private static final int DEFAULT_CACHE_TTL_SECONDS = 300;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * @return validator for the properties controlling the push-down cache
+     */
+    public static PropertyValidator getValidator() {
+        return PropertyValidator.chain() //
+                .add(NonNegativeIntegerProperty.validator(CACHE_MEMORY_PROPERTY)) //
+                .add(NonNegativeIntegerProperty.validator(CACHE_TTL_PROPERTY));
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link PushdownCacheSettings} based on the properties
+     */
+    public static PushdownCacheSettings from(final AdapterProperties properties) {
+        final long kilobytes = NonNegativeIntegerProperty.getValue(properties, CACHE_MEMORY_PROPERTY,
+                DEFAULT_CACHE_MEMORY_KILOBYTES);
+        final int ttlSeconds = NonNegativeIntegerProperty.getValue(properties, CACHE_TTL_PROPERTY,
+                DEFAULT_CACHE_TTL_SECONDS);
+        return new PushdownCacheSettings(kilobytes * BYTES_PER_KILOBYTE, Duration.ofSeconds(ttlSeconds));
+    }
+
+    private final long maxBytes;
+    private final Duration timeToLive;
+
+    /**
+     * @param maxBytes   maximum estimated memory of the cached push-down statements in bytes
+     * @param timeToLive time a cached push-down statement stays valid
+     */
+    public PushdownCacheSettings(final long maxBytes, final Duration timeToLive) {
+        this.maxBytes = maxBytes;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return maximum estimated memory of the cached push-down statements in bytes
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * @return time a cached push-down statement stays valid
+     */
+    public Duration getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * @return {@code true} if push-down statements should be cached
+     */
+    public boolean isEnabled() {
+        return (this.maxBytes > 0) && !this.timeToLive.isZero();
+    }
+}
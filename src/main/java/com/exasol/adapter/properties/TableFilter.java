@@ -0,0 +1,190 @@
+package com.exasol.adapter.properties;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Class to handle the properties that select the remote tables mapped by the virtual schema.
+ * <p>
+ * Table names from property {@value AdapterProperties#TABLE_FILTER_PROPERTY} are matched exactly with a hash lookup.
+ * Wildcard patterns use the syntax of SQL {@code LIKE} ({@code %} matches any sequence of characters, {@code _} a
+ * single character). All include and all exclude patterns are each compiled into a single regular expression, so that
+ * checking a table does not depend on the number of patterns.
+ * </p>
+ */
+public final class TableFilter {
+
+    /**
+     * Property for a comma-separated list of wildcard patterns of tables to include.
+     */
+    public static final String INCLUDE_PATTERN_PROPERTY = "TABLE_FILTER_PATTERN";
+    /**
+     * Property for a regular expression of tables to include.
+     */
+    public static final String INCLUDE_REGEX_PROPERTY = "TABLE_FILTER_REGEX";
+    /**
+     * Property for a comma-separated list of wildcard patterns of tables to exclude.
+     */
+    public static final String EXCLUDE_PATTERN_PROPERTY = "TABLE_EXCLUDE_PATTERN";
+    /**
+     * Property for a regular expression of tables to exclude.
+     */
+    public static final String EXCLUDE_REGEX_PROPERTY = "TABLE_EXCLUDE_REGEX";
+    private static final TableFilter INCLUDE_ALL = new TableFilter(Set.of(), List.of(), null, null, null);
+
+    /**
+     * @return validator for the properties defining table filter patterns
+     */
+    public static PropertyValidator getValidator() {
+        return PropertyValidator.chain() //
+                .add(PropertyValidator.optional(INCLUDE_REGEX_PROPERTY,
+                        value -> validateRegex(INCLUDE_REGEX_PROPERTY, value))) //
+                .add(PropertyValidator.optional(EXCLUDE_REGEX_PROPERTY,
+                        value -> validateRegex(EXCLUDE_REGEX_PROPERTY, value)));
+    }
+
+    private static void validateRegex(final String property, final String value) throws PropertyValidationException {
+        try {
+            Pattern.compile(value);
+        } catch (final PatternSyntaxException exception) {
+            throw new PropertyValidationException(ExaError.messageBuilder("E-VSCJDBC-58") //
+                    .message("Invalid regular expression {{value}}: {{cause|uq}}.", value, exception.getDescription()) //
+                    .mitigation("The adapter property {{property}} if present, must be a valid Java regular expression.",
+                            property) //
+                    .toString());
+        }
+    }
+
+    /**
+     * @param properties Adapter Properties passed to {@code CREATE VIRTUAL SCHEMA}
+     * @return new instance of {@link TableFilter} based on the properties
+     */
+    public static TableFilter from(final AdapterProperties properties) {
+        final List<String> includePatterns = splitPatterns(properties.get(INCLUDE_PATTERN_PROPERTY));
+        final List<String> excludePatterns = splitPatterns(properties.get(EXCLUDE_PATTERN_PROPERTY));
+        final String includeRegex = properties.get(INCLUDE_REGEX_PROPERTY);
+        final String excludeRegex = properties.get(EXCLUDE_REGEX_PROPERTY);
+        final List<String> tableNames = properties.getFilteredTables();
+        if (tableNames.isEmpty() && includePatterns.isEmpty() && excludePatterns.isEmpty() && isEmpty(includeRegex)
+                && isEmpty(excludeRegex)) {
+            return INCLUDE_ALL;
+        }
+        return new TableFilter(new HashSet<>(tableNames), includePatterns, includeRegex,
+                combine(includePatterns, includeRegex).orElse(null),
+                combine(excludePatterns, excludeRegex).orElse(null));
+    }
+
+    private static List<String> splitPatterns(final String patterns) {
+        if (isEmpty(patterns)) {
+            return List.of();
+        }
+        final List<String> result = new ArrayList<>();
+        for (final String pattern : patterns.split(",")) {
+            final String trimmed = pattern.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isEmpty(final String value) {
+        return (value == null) || value.isEmpty();
+    }
+
+    private static Optional<Pattern> combine(final List<String> wildcardPatterns, final String regex) {
+        final StringJoiner alternatives = new StringJoiner("|");
+        for (final String wildcardPattern : wildcardPatterns) {
+            alternatives.add("(?:" + convertWildcardPatternToRegex(wildcardPattern) + ")");
+        }
+        if (!isEmpty(regex)) {
+            alternatives.add("(?:" + regex + ")");
+        }
+        return alternatives.length() == 0 ? Optional.empty() : Optional.of(Pattern.compile(alternatives.toString()));
+    }
+
+    private static String convertWildcardPatternToRegex(final String wildcardPattern) {
+        final StringBuilder regex = new StringBuilder();
+        final StringBuilder literal = new StringBuilder();
+        for (final char character : wildcardPattern.toCharArray()) {
+            if ((character == '%') || (character == '_')) {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    private final Set<String> tableNames;
+    private final List<String> includePatterns;
+    private final String includeRegex;
+    private final Pattern include;
+    private final Pattern exclude;
+
+    private TableFilter(final Set<String> tableNames, final List<String> includePatterns, final String includeRegex,
+            final Pattern include, final Pattern exclude) {
+        this.tableNames = tableNames;
+        this.includePatterns = includePatterns;
+        this.includeRegex = includeRegex;
+        this.include = include;
+        this.exclude = exclude;
+    }
+
+    /**
+     * @param tableName name of the remote table
+     * @return {@code true} if the table is selected by the filter
+     */
+    public boolean matches(final String tableName) {
+        return isIncluded(tableName) && ((this.exclude == null) || !this.exclude.matcher(tableName).matches());
+    }
+
+    private boolean isIncluded(final String tableName) {
+        if (this.tableNames.isEmpty() && (this.include == null)) {
+            return true;
+        }
+        return this.tableNames.contains(tableName)
+                || ((this.include != null) && this.include.matcher(tableName).matches());
+    }
+
+    /**
+     * @return {@code true} if the filter selects all tables
+     */
+    public boolean includesAllTables() {
+        return this.tableNames.isEmpty() && (this.include == null) && (this.exclude == null);
+    }
+
+    /**
+     * @return {@code true} if tables are included by wildcard patterns or a regular expression
+     */
+    public boolean hasIncludePatterns() {
+        return this.include != null;
+    }
+
+    /**
+     * Get a table name pattern for {@link java.sql.DatabaseMetaData#getTables} that narrows the table scan.
+     * <p>
+     * This is only possible if the tables are included by a single wildcard pattern. Exclusions are always applied
+     * after the scan.
+     * </p>
+     *
+     * @return table name pattern or an empty optional if the scan must list all tables
+     */
+    public Optional<String> getTableNamePattern() {
+        if (this.tableNames.isEmpty() && (this.includePatterns.size() == 1) && isEmpty(this.includeRegex)) {
+            return Optional.of(this.includePatterns.get(0));
+        }
+        return Optional.empty();
+    }
+}
@@ -1,15 +1,26 @@
 package com.exasol.auth.kerberos;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Base64;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.exasol.errorreporting.ExaError;
 
 /**
  * This class generates the necessary configuration for a successful Kerberos authentication.
+ * <p>
+ * The generated files are stored in a temporary directory that only the owner of the process can access. Identical
+ * credentials reuse the files this JVM wrote before. The files of the least recently used configurations are deleted
+ * when more than {@value #MAX_WRITTEN_CONFIGURATIONS} configurations were written, the remaining ones when the JVM
+ * shuts down.
+ * </p>
  *
  * @see <a href="https://docs.exasol.com/sql/import.htm?Highlight=kerberos">Kerberos authentication for
  *      <code>IMPORT</code> (Exasol online documentation)</a>
@@ -24,6 +35,24 @@ public class KerberosConfigurationCreator {
     /** Kerberos authentication preamble */
     public static final String KERBEROS_AUTHENTICATION_PREAMBLE = "ExaAuthType=Kerberos";
     private static final Logger LOGGER = Logger.getLogger(KerberosConfigurationCreator.class.getName());
+    /** Maximum number of distinct Kerberos configurations kept on disk */
+    static final int MAX_WRITTEN_CONFIGURATIONS = 8;
+    private static final Map<String, KerberosFiles> WRITTEN_CONFIGURATIONS = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, KerberosFiles> eldest) {
+            if (size() > MAX_WRITTEN_CONFIGURATIONS) {
+                delete(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(KerberosConfigurationCreator::deleteAll));
+    }
 
     /**
      * Check whether the given password contains Kerberos credentials.
@@ -42,12 +71,23 @@ public class KerberosConfigurationCreator {
      * @param password connection password containing kerberos configuration and key tab
      */
     public void writeKerberosConfigurationFiles(final String user, final String password) {
+        writeKerberosConfigurationFilesAndGetJaasConfigPath(user, password);
+    }
+
+    /**
+     * Create Kerberos configuration and system properties.
+     *
+     * @param user     Kerberos principal
+     * @param password connection password containing kerberos configuration and key tab
+     * @return path of the JAAS configuration file, which can be used for an explicit login
+     */
+    public Path writeKerberosConfigurationFilesAndGetJaasConfigPath(final String user, final String password) {
         final String[] tokens = password.split(";");
         final String preamble = tokens[0];
         if ((tokens.length == 3) && KERBEROS_AUTHENTICATION_PREAMBLE.equals(preamble)) {
             final String base64EncodedKerberosConfig = tokens[1];
             final String base64EncodedKeyTab = tokens[2];
-            createKerberosConfiguration(user, base64EncodedKerberosConfig, base64EncodedKeyTab);
+            return createKerberosConfiguration(user, base64EncodedKerberosConfig, base64EncodedKeyTab);
         } else {
             throw new KerberosConfigurationCreatorException(ExaError.messageBuilder("E-VSCJDBC-32")
                     .message("Syntax error in Kerberos password."
@@ -56,46 +96,89 @@ public class KerberosConfigurationCreator {
         }
     }
 
-    private void createKerberosConfiguration(final String user, final String base64EncodedKerberosConfig,
+    private Path createKerberosConfiguration(final String user, final String base64EncodedKerberosConfig,
             final String base64EncodedKeyTab) {
-        try {
-            final Path temporaryDirectory = createCommonDirectoryForKerberosConfigurationFiles();
-            final Path kerberosConfigPath = createTemporaryKerberosConfigFile(base64EncodedKerberosConfig,
-                    temporaryDirectory);
-            final Path keyTabPath = createTemporaryKeyTabFile(base64EncodedKeyTab, temporaryDirectory);
-            final Path jaasConfigPath = createTemporaryJaasConfig(temporaryDirectory, user, keyTabPath);
-            setKerberosSystemProperties(kerberosConfigPath, jaasConfigPath);
-        } catch (final IOException exception) {
-            throw new KerberosConfigurationCreatorException(ExaError.messageBuilder("E-VSCJDBC-33")
-                    .message("Unable to create temporary Kerberos configuration file.").toString(), exception);
+        final String key = createKey(user, base64EncodedKerberosConfig, base64EncodedKeyTab);
+        synchronized (WRITTEN_CONFIGURATIONS) {
+            try {
+                final KerberosFiles writtenFiles = WRITTEN_CONFIGURATIONS.get(key);
+                final KerberosFiles files;
+                if ((writtenFiles != null) && writtenFiles.exist()) {
+                    LOGGER.finer(() -> "Reusing Kerberos authentication files in \"" + writtenFiles.directory + "\".");
+                    files = writtenFiles;
+                } else {
+                    if (writtenFiles != null) {
+                        delete(writtenFiles);
+                    }
+                    files = writeKerberosFiles(user, base64EncodedKerberosConfig, base64EncodedKeyTab);
+                    WRITTEN_CONFIGURATIONS.put(key, files);
+                }
+                setKerberosSystemProperties(files.kerberosConfigPath, files.jaasConfigPath);
+                return files.jaasConfigPath;
+            } catch (final IOException exception) {
+                throw new KerberosConfigurationCreatorException(ExaError.messageBuilder("E-VSCJDBC-33")
+                        .message("Unable to create temporary Kerberos configuration file.").toString(), exception);
+            }
         }
     }
 
+    /**
+     * The key is a hash of the principal and the encoded configuration and key tab, so that the map of written files
+     * does not keep the credentials in memory.
+     */
+    private static String createKey(final String user, final String base64EncodedKerberosConfig,
+            final String base64EncodedKeyTab) {
+        final String key = user + "\n" + base64EncodedKerberosConfig + "\n" + base64EncodedKeyTab;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private KerberosFiles writeKerberosFiles(final String user, final String base64EncodedKerberosConfig,
+            final String base64EncodedKeyTab) throws IOException {
+        final Path directory = createCommonDirectoryForKerberosConfigurationFiles();
+        final Path kerberosConfigPath = createTemporaryKerberosConfigFile(base64EncodedKerberosConfig, directory);
+        final Path keyTabPath = createTemporaryKeyTabFile(base64EncodedKeyTab, directory);
+        final Path jaasConfigPath = createTemporaryJaasConfig(directory, user, keyTabPath);
+        return new KerberosFiles(directory, kerberosConfigPath, keyTabPath, jaasConfigPath);
+    }
+
     private Path createCommonDirectoryForKerberosConfigurationFiles() throws IOException {
-        final Path temporaryDirectory = Files.createTempDirectory("kerberos_");
-        temporaryDirectory.toFile().deleteOnExit();
+        final Path temporaryDirectory = Files.createTempDirectory("kerberos_", getOwnerOnlyPermissions());
         LOGGER.finer(() -> "Created temporary directory \"" + temporaryDirectory
                 + "\" to contain Kerberos authentication files.");
         return temporaryDirectory;
     }
 
+    private static FileAttribute<?>[] getOwnerOnlyPermissions() {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[] {
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")) };
+        } else {
+            return new FileAttribute<?>[0];
+        }
+    }
+
     private Path createTemporaryKerberosConfigFile(final String base64EncodedKerberosConfig,
             final Path temporaryDirectory) throws IOException {
-        return createTemporaryFile(temporaryDirectory, "krb_", ".conf",
+        return createTemporaryFile(temporaryDirectory, "krb_client.conf",
                 Base64.getDecoder().decode(base64EncodedKerberosConfig.getBytes()));
     }
 
     private Path createTemporaryKeyTabFile(final String base64EncodedKeyTab, final Path temporaryDirectory)
             throws IOException {
-        return createTemporaryFile(temporaryDirectory, "kt_", ".keytab",
+        return createTemporaryFile(temporaryDirectory, "kt_client.keytab",
                 Base64.getDecoder().decode(base64EncodedKeyTab.getBytes()));
     }
 
-    private Path createTemporaryFile(final Path temporaryDirectory, final String prefix, final String suffix,
-            final byte[] content) throws IOException {
-        final Path temporaryFile = Files.createTempFile(temporaryDirectory, prefix, suffix);
-        temporaryFile.toFile().deleteOnExit();
-        Files.write(temporaryFile, content);
+    /**
+     * The content is written to a temporary file first and then moved into place, so that a concurrent login never
+     * reads a partially written file.
+     */
+    private Path createTemporaryFile(final Path temporaryDirectory, final String fileName, final byte[] content)
+            throws IOException {
+        final Path temporaryFile = temporaryDirectory.resolve(fileName);
+        final Path partialFile = Files.createTempFile(temporaryDirectory, fileName, ".tmp");
+        Files.write(partialFile, content);
+        Files.move(partialFile, temporaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         LOGGER.finer(
                 () -> "Wrote " + content.length + " bytes to Kerberos configuration file \"" + temporaryFile + "\".");
         return temporaryFile;
@@ -119,12 +202,63 @@ public class KerberosConfigurationCreator {
                 + "doNotPrompt=true\n" //
                 + "useTicketCache=false;\n" //
                 + "};\n").getBytes();
-        return createTemporaryFile(temporaryDirectory, "jaas_", ".conf", content);
+        return createTemporaryFile(temporaryDirectory, "jaas_client.conf", content);
     }
 
     private void setKerberosSystemProperties(final Path kerberosConfigPath, final Path jaasConfigPath) {
-        System.setProperty(KERBEROS_CONFIG_PROPERTY, kerberosConfigPath.toString());
-        System.setProperty(LOGIN_CONFIG_PROPERTY, jaasConfigPath.toString());
-        System.setProperty(USE_SUBJECT_CREDENTIALS_ONLY_PROPERTY, "false");
+        setSystemPropertyIfChanged(KERBEROS_CONFIG_PROPERTY, kerberosConfigPath.toString());
+        setSystemPropertyIfChanged(LOGIN_CONFIG_PROPERTY, jaasConfigPath.toString());
+        setSystemPropertyIfChanged(USE_SUBJECT_CREDENTIALS_ONLY_PROPERTY, "false");
+    }
+
+    private static void setSystemPropertyIfChanged(final String key, final String value) {
+        if (!value.equals(System.getProperty(key))) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static void delete(final KerberosFiles files) {
+        LOGGER.finer(() -> "Deleting stale Kerberos authentication files in \"" + files.directory + "\".");
+        try {
+            if (Files.exists(files.directory)) {
+                final List<Path> writtenFiles;
+                try (final Stream<Path> directoryEntries = Files.list(files.directory)) {
+                    writtenFiles = directoryEntries.collect(Collectors.toList());
+                }
+                for (final Path file : writtenFiles) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(files.directory);
+            }
+        } catch (final IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to delete stale Kerberos authentication files.", exception);
+        }
+    }
+
+    private static void deleteAll() {
+        synchronized (WRITTEN_CONFIGURATIONS) {
+            WRITTEN_CONFIGURATIONS.values().forEach(KerberosConfigurationCreator::delete);
+            WRITTEN_CONFIGURATIONS.clear();
+        }
+    }
+
+    private static final class KerberosFiles {
+        private final Path directory;
+        private final Path kerberosConfigPath;
+        private final Path keyTabPath;
+        private final Path jaasConfigPath;
+
+        private KerberosFiles(final Path directory, final Path kerberosConfigPath, final Path keyTabPath,
+                final Path jaasConfigPath) {
+            this.directory = directory;
+            this.kerberosConfigPath = kerberosConfigPath;
+            this.keyTabPath = keyTabPath;
+            this.jaasConfigPath = jaasConfigPath;
+        }
+
+        private boolean exist() {
+            return Files.exists(this.kerberosConfigPath) && Files.exists(this.keyTabPath)
+                    && Files.exists(this.jaasConfigPath);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.exasol.auth.kerberos;
+
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.URIParameter;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosTicket;
+import javax.security.auth.login.*;
+
+/**
+ * Cache of Kerberos-authenticated subjects that survives across adapter requests for the lifetime of the UDF VM.
+ * <p>
+ * The login with the key tab happens once per JAAS configuration. The subject is reused until its ticket granting
+ * ticket reaches 80% of its lifetime. From then on the subject is still handed out while
+ * a new login runs in the background, so that requests do not wait for the KDC. A failed background login is retried
+ * at most once per minute. Only a subject that expires within the next minute causes a blocking login.
+ * </p>
+ */
+public final class KerberosSubjectCache {
+    /** Name of the login entry in the JAAS configuration */
+    public static final String LOGIN_ENTRY = "com.sun.security.jgss.initiate";
+    static final int RENEWAL_RATIO_PERCENT = 80;
+    static final long EXPIRY_MARGIN_MILLIS = 60_000;
+    private static final Logger LOGGER = Logger.getLogger(KerberosSubjectCache.class.getName());
+    private static final KerberosSubjectCache SUBJECT_CACHE = new KerberosSubjectCache(System::currentTimeMillis,
+            KerberosSubjectCache::login, KerberosSubjectCache::renewInBackground);
+    private final Map<Path, CachedSubject> subjects = new HashMap<>();
+    private final Set<Path> renewals = new HashSet<>();
+    private final Map<Path, Long> failedRenewals = new HashMap<>();
+    private final Object loginLock = new Object();
+    private final LongSupplier clock;
+    private final SubjectLogin subjectLogin;
+    private final Executor renewalExecutor;
+
+    /**
+     * Returns instance of {@link KerberosSubjectCache} singleton class.
+     *
+     * @return {@link KerberosSubjectCache} instance
+     */
+    public static KerberosSubjectCache getInstance() {
+        return SUBJECT_CACHE;
+    }
+
+    /**
+     * Create a new instance of a {@link KerberosSubjectCache}.
+     *
+     * @param clock           source of the current time in milliseconds
+     * @param subjectLogin    performs the login
+     * @param renewalExecutor executes logins that renew a subject before it expires
+     */
+    KerberosSubjectCache(final LongSupplier clock, final SubjectLogin subjectLogin, final Executor renewalExecutor) {
+        this.clock = clock;
+        this.subjectLogin = subjectLogin;
+        this.renewalExecutor = renewalExecutor;
+    }
+
+    /**
+     * Get an authenticated subject for a JAAS configuration, logging in only if no valid subject is cached.
+     *
+     * @param jaasConfigPath path of the JAAS configuration, see
+     *                       {@link KerberosConfigurationCreator#writeKerberosConfigurationFilesAndGetJaasConfigPath}
+     * @return authenticated subject
+     * @throws LoginException if the login fails
+     */
+    public Subject getSubject(final Path jaasConfigPath) throws LoginException {
+        final CachedSubject cachedSubject;
+        synchronized (this) {
+            cachedSubject = getUsableSubject(jaasConfigPath);
+            if ((cachedSubject != null) && !startRenewal(jaasConfigPath, cachedSubject)) {
+                return cachedSubject.subject;
+            }
+        }
+        if (cachedSubject == null) {
+            return loginAndCache(jaasConfigPath).subject;
+        }
+        LOGGER.fine("Renewing Kerberos ticket in the background.");
+        this.renewalExecutor.execute(() -> renew(jaasConfigPath));
+        return cachedSubject.subject;
+    }
+
+    private CachedSubject getUsableSubject(final Path jaasConfigPath) {
+        final CachedSubject cachedSubject = this.subjects.get(jaasConfigPath);
+        if ((cachedSubject != null) && (this.clock.getAsLong() < (cachedSubject.expiresAt - EXPIRY_MARGIN_MILLIS))) {
+            return cachedSubject;
+        }
+        return null;
+    }
+
+    private boolean startRenewal(final Path jaasConfigPath, final CachedSubject cachedSubject) {
+        final long now = this.clock.getAsLong();
+        return (now >= cachedSubject.renewAt) && !isBackingOffAfterFailure(jaasConfigPath, now)
+                && this.renewals.add(jaasConfigPath);
+    }
+
+    private boolean isBackingOffAfterFailure(final Path jaasConfigPath, final long now) {
+        final Long failedAt = this.failedRenewals.get(jaasConfigPath);
+        return (failedAt != null) && ((now - failedAt) < EXPIRY_MARGIN_MILLIS);
+    }
+
+    private void renew(final Path jaasConfigPath) {
+        try {
+            loginAndCache(jaasConfigPath);
+            synchronized (this) {
+                this.failedRenewals.remove(jaasConfigPath);
+            }
+        } catch (final LoginException | RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "Unable to renew Kerberos ticket. Retrying in " + (EXPIRY_MARGIN_MILLIS / 1000)
+                    + " s at the earliest.", exception);
+            synchronized (this) {
+                this.failedRenewals.put(jaasConfigPath, this.clock.getAsLong());
+            }
+        } finally {
+            synchronized (this) {
+                this.renewals.remove(jaasConfigPath);
+            }
+        }
+    }
+
+    private CachedSubject loginAndCache(final Path jaasConfigPath) throws LoginException {
+        synchronized (this.loginLock) {
+            synchronized (this) {
+                final CachedSubject cachedSubject = getUsableSubject(jaasConfigPath);
+                if ((cachedSubject != null) && !this.renewals.contains(jaasConfigPath)) {
+                    return cachedSubject;
+                }
+            }
+            final Subject subject = this.subjectLogin.login(jaasConfigPath);
+            final CachedSubject loggedIn = createCachedSubject(subject);
+            synchronized (this) {
+                this.subjects.put(jaasConfigPath, loggedIn);
+            }
+            LOGGER.fine(() -> "Logged in with Kerberos. Ticket expires in "
+                    + ((loggedIn.expiresAt - this.clock.getAsLong()) / 1000) + " s.");
+            return loggedIn;
+        }
+    }
+
+    private CachedSubject createCachedSubject(final Subject subject) {
+        long startTime = this.clock.getAsLong();
+        long endTime = Long.MAX_VALUE;
+        for (final KerberosTicket ticket : subject.getPrivateCredentials(KerberosTicket.class)) {
+            if (ticket.getEndTime().getTime() < endTime) {
+                endTime = ticket.getEndTime().getTime();
+                final Date ticketStart = (ticket.getStartTime() == null) ? ticket.getAuthTime() : ticket.getStartTime();
+                startTime = (ticketStart == null) ? startTime : ticketStart.getTime();
+            }
+        }
+        if (endTime == Long.MAX_VALUE) {
+            // Without a ticket the lifetime is unknown, so the subject must not be reused.
+            return new CachedSubject(subject, startTime, startTime);
+        }
+        final long renewAt = startTime + (((endTime - startTime) * RENEWAL_RATIO_PERCENT) / 100);
+        return new CachedSubject(subject, renewAt, endTime);
+    }
+
+    private static Subject login(final Path jaasConfigPath) throws LoginException {
+        final Configuration configuration;
+        try {
+            configuration = Configuration.getInstance("JavaLoginConfig", new URIParameter(jaasConfigPath.toUri()));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw (LoginException) new LoginException(exception.getMessage()).initCause(exception);
+        }
+        final LoginContext loginContext = new LoginContext(LOGIN_ENTRY, null, null, configuration);
+        loginContext.login();
+        return loginContext.getSubject();
+    }
+
+    private static void renewInBackground(final Runnable renewal) {
+        final Thread thread = new Thread(renewal, "kerberos-ticket-renewal");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Performs the Kerberos login for a JAAS configuration.
+     */
+    @FunctionalInterface
+    interface SubjectLogin {
+        /**
+         * @param jaasConfigPath path of the JAAS configuration
+         * @return authenticated subject
+         * @throws LoginException if the login fails
+         */
+        Subject login(Path jaasConfigPath) throws LoginException;
+    }
+
+    private static final class CachedSubject {
+        private final Subject subject;
+        private final long renewAt;
+        private final long expiresAt;
+
+        private CachedSubject(final Subject subject, final long renewAt, final long expiresAt) {
+            this.subject = subject;
+            this.renewAt = renewAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
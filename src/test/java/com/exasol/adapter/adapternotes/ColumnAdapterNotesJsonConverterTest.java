@@ -3,6 +3,7 @@ package com.exasol.adapter.adapternotes;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.Types;
@@ -52,6 +53,15 @@ class ColumnAdapterNotesJsonConverterTest {
                 equalTo(expectedAdapterNotes));
     }
 
+    @Test
+    void testConvertFromJsonToColumnAdapterNotesReusesParsedNotes() throws AdapterException {
+        final String adapterNotesAsJson = "{\"" + ColumnAdapterNotesJsonConverter.JDBC_DATA_TYPE + "\":4,\""
+                + ColumnAdapterNotesJsonConverter.TYPE_NAME + "\":\"INTEGER\"}";
+        final ColumnAdapterNotes first = this.converter.convertFromJsonToColumnAdapterNotes(adapterNotesAsJson, "C1");
+        assertThat(this.converter.convertFromJsonToColumnAdapterNotes(new String(adapterNotesAsJson), "C2"),
+                sameInstance(first));
+    }
+
     @Test
     void testConvertFromJsonToColumnAdapterNotesThrowsExceptionWhenAdapterNotesAreNull() {
         final AdapterException exception = assertThrows(AdapterException.class,
@@ -0,0 +1,64 @@
+package com.exasol.adapter.adapternotes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import com.exasol.adapter.AdapterException;
+
+class TableAdapterNotesJsonConverterTest {
+    private final TableAdapterNotesJsonConverter converter = TableAdapterNotesJsonConverter.getInstance();
+
+    @Test
+    void testConvertToJson() throws JSONException {
+        final TableAdapterNotes adapterNotes = new TableAdapterNotes(List.of( //
+                TablePartition.builder().name("P0").columnName("ID").upperBound("100").build(), //
+                TablePartition.builder().name("P1").columnName("ID").lowerBound("100").build()));
+        JSONAssert.assertEquals("{\"partitions\":[" //
+                + "{\"name\":\"P0\",\"column\":\"ID\",\"upperBound\":\"100\"}," //
+                + "{\"name\":\"P1\",\"column\":\"ID\",\"lowerBound\":\"100\"}" //
+                + "]}", this.converter.convertToJson(adapterNotes), true);
+    }
+
+    @Test
+    void testConvertToJsonWithoutPartitions() {
+        assertThat(this.converter.convertToJson(TableAdapterNotes.empty()), equalTo(""));
+    }
+
+    @Test
+    void testConvertFromJsonToTableAdapterNotes() throws AdapterException {
+        final TableAdapterNotes expectedAdapterNotes = new TableAdapterNotes(List.of(TablePartition.builder()
+                .name("P2024").columnName("D").lowerBound("2024-01-01").upperBound("2025-01-01").build()));
+        assertThat(this.converter.convertFromJsonToTableAdapterNotes(
+                "{\"partitions\":[{\"name\":\"P2024\",\"column\":\"D\",\"lowerBound\":\"2024-01-01\","
+                        + "\"upperBound\":\"2025-01-01\"}]}",
+                "T"), equalTo(expectedAdapterNotes));
+    }
+
+    @Test
+    void testConvertRowCountToJsonAndBack() throws AdapterException {
+        final TableAdapterNotes adapterNotes = TableAdapterNotes.empty().withRowCount(5_000_000_000L);
+        final String json = this.converter.convertToJson(adapterNotes);
+        assertThat(json, equalTo("{\"rowCount\":5000000000}"));
+        assertThat(this.converter.convertFromJsonToTableAdapterNotes(json, "T"), equalTo(adapterNotes));
+    }
+
+    @Test
+    void testConvertFromEmptyJsonToTableAdapterNotes() throws AdapterException {
+        assertThat(this.converter.convertFromJsonToTableAdapterNotes("", "T"), equalTo(TableAdapterNotes.empty()));
+    }
+
+    @Test
+    void testConvertFromInvalidJsonToTableAdapterNotesThrowsException() {
+        final AdapterException exception = assertThrows(AdapterException.class,
+                () -> this.converter.convertFromJsonToTableAdapterNotes("{\"partitions\":42}", "T"));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-62"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.exasol.adapter.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final BoundedCache<String, String> weightedCache = new BoundedCache<>(Long.MAX_VALUE,
+            (key, value) -> value.length(), this.clock::get);
+
+    @Test
+    void testGetCachedValue() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("a", 1);
+        assertAll(() -> assertThat(cache.get("a"), equalTo(Optional.of(1))),
+                () -> assertThat(cache.get("b"), equalTo(Optional.empty())));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        assertAll(() -> assertThat(cache.size(), equalTo(2)),
+                () -> assertThat(cache.get("a"), equalTo(Optional.of(1))),
+                () -> assertThat(cache.get("b"), equalTo(Optional.empty())),
+                () -> assertThat(cache.get("c"), equalTo(Optional.of(3))));
+    }
+
+    @Test
+    void testClear() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("a", 1);
+        cache.clear();
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    void testCountsHitsAndMisses() {
+        this.weightedCache.put("a", "value", Duration.ofSeconds(10), 100);
+        this.weightedCache.get("a");
+        this.weightedCache.get("b");
+        this.weightedCache.get("a");
+        assertAll(() -> assertThat(this.weightedCache.getHitCount(), equalTo(2L)),
+                () -> assertThat(this.weightedCache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testEntryExpiresAfterTimeToLive() {
+        this.weightedCache.put("a", "value", Duration.ofSeconds(10), 100);
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertAll(() -> assertThat(this.weightedCache.get("a"), equalTo(Optional.empty())),
+                () -> assertThat(this.weightedCache.size(), equalTo(0)),
+                () -> assertThat(this.weightedCache.getWeight(), equalTo(0L)));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntriesWhenWeightIsExceeded() {
+        this.weightedCache.put("a", "aaaa", Duration.ofSeconds(10), 10);
+        this.weightedCache.put("b", "bbbb", Duration.ofSeconds(10), 10);
+        this.weightedCache.get("a");
+        this.weightedCache.put("c", "cccc", Duration.ofSeconds(10), 10);
+        assertAll(() -> assertThat(this.weightedCache.getWeight(), equalTo(8L)),
+                () -> assertThat(this.weightedCache.get("a"), equalTo(Optional.of("aaaa"))),
+                () -> assertThat(this.weightedCache.get("b"), equalTo(Optional.empty())));
+    }
+
+    @Test
+    void testEntryHeavierThanMaximumWeightIsNotCached() {
+        this.weightedCache.put("a", "value", Duration.ofSeconds(10), 4);
+        assertThat(this.weightedCache.size(), equalTo(0));
+    }
+}
@@ -5,9 +5,14 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.*;
@@ -15,12 +20,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import com.exasol.ExaMetadata;
+import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.AdapterProperties;
 import com.exasol.adapter.dialects.dummy.DummySqlDialect;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationContext;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationVisitor;
+import com.exasol.adapter.jdbc.ColumnDescriptionStrategy;
 import com.exasol.adapter.properties.*;
 import com.exasol.adapter.sql.ScalarFunction;
+import com.exasol.adapter.sql.TestSqlStatementFactory;
 import com.exasol.logging.CapturingLogHandler;
 
 class AbstractSqlDialectTest {
@@ -77,6 +86,50 @@ class AbstractSqlDialectTest {
         sqlDialect.validateProperties();
     }
 
+    @Test
+    void testPropertiesAreValidatedOnEveryCall() throws PropertyValidationException {
+        final CountingValidator validator = new CountingValidator();
+        final SqlDialect sqlDialect = buildDummySqlDialect(minimumPlus(DEBUG_ADDRESS_PROPERTY, "bla:123"), validator);
+        sqlDialect.validateProperties();
+        sqlDialect.validateProperties();
+        assertThat(validator.count.get(), equalTo(2));
+    }
+
+    @Test
+    void testPushdownCacheHitDoesNotGenerateSql() throws AdapterException, SQLException {
+        final AtomicInteger generatorCalls = new AtomicInteger();
+        final JDBCAdapterContext context = JDBCAdapterContext.builder()
+                .properties(minimumPlus(PushdownCacheSettings.CACHE_MEMORY_PROPERTY, "64"))
+                .build();
+        final DummySqlDialect dialect = new DummySqlDialect(context) {
+            @Override
+            public SqlGenerator getSqlGenerator(final SqlGenerationContext generationContext) {
+                generatorCalls.incrementAndGet();
+                return super.getSqlGenerator(generationContext);
+            }
+
+            @Override
+            protected QueryRewriter createQueryRewriter() {
+                return (statement, selectListDataTypes, exaMetadata, properties) -> getSqlGenerator(
+                        new SqlGenerationContext("", "", false)).generateSqlFor(statement);
+            }
+        };
+        final ExaMetadata exaMetadataMock = mock(ExaMetadata.class);
+        when(exaMetadataMock.getDatabaseVersion()).thenReturn("8.34.0");
+        final String first = dialect.rewriteQuery(TestSqlStatementFactory.createSelectOneFromDual(), List.of(),
+                exaMetadataMock);
+        final String second = dialect.rewriteQuery(TestSqlStatementFactory.createSelectOneFromDual(), List.of(),
+                exaMetadataMock);
+        assertAll(() -> assertThat(second, equalTo(first)), //
+                () -> assertThat(generatorCalls.get(), equalTo(1)));
+    }
+
+    @Test
+    void testDefaultColumnDescriptionStrategyOnlyReadsPreparedStatement() {
+        assertThat(buildDummySqlDialect(minimumPlus(DEBUG_ADDRESS_PROPERTY, "strategies:0"))
+                .getColumnDescriptionStrategies(), equalTo(List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT)));
+    }
+
     @Test
     void testSchemaAndCatalogOptional() throws PropertyValidationException {
         final SqlDialect sqlDialect = buildDummySqlDialect(adapterProperties(CONNECTION_NAME_PROPERTY, "MY_CONN"));
@@ -225,6 +278,23 @@ class AbstractSqlDialectTest {
         return new DummySqlDialect(context);
     }
 
+    private static DummySqlDialect buildDummySqlDialect(final AdapterProperties adapterProperties,
+            final PropertyValidator validator) {
+        final JDBCAdapterContext context = JDBCAdapterContext.builder()
+                .properties(adapterProperties)
+                .build();
+        return new DummySqlDialect(context, List.of(validator));
+    }
+
+    private static final class CountingValidator implements PropertyValidator {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void validate(final AdapterProperties properties) {
+            this.count.incrementAndGet();
+        }
+    }
+
     private AdapterProperties minimumPlus(final String key, final String value) {
         return adapterProperties(CONNECTION_NAME_PROPERTY, "MY_CONN", key, value);
     }
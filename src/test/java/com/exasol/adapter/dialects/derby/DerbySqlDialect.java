@@ -93,7 +93,8 @@ public class DerbySqlDialect extends AbstractSqlDialect {
     @Override
     protected RemoteMetadataReader createRemoteMetadataReader() {
         try {
-            return new BaseRemoteMetadataReader(this.connectionFactory.getConnection(), this.properties, this.exaMetadata);
+            return new BaseRemoteMetadataReader(this.connectionFactory.getConnection(), this.connectionFactory,
+                    this.properties, this.exaMetadata);
         } catch (final SQLException exception) {
             throw new RemoteMetadataReaderException("Unable to create a metadata reader for Derby.", exception);
         }
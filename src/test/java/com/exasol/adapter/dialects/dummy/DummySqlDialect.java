@@ -4,6 +4,7 @@ import static com.exasol.adapter.AdapterProperties.CATALOG_NAME_PROPERTY;
 import static com.exasol.adapter.AdapterProperties.SCHEMA_NAME_PROPERTY;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Set;
 
 import com.exasol.ExaMetadata;
@@ -13,6 +14,7 @@ import com.exasol.adapter.dialects.*;
 import com.exasol.adapter.dialects.rewriting.ImportIntoTemporaryTableQueryRewriter;
 import com.exasol.adapter.dialects.rewriting.SqlGenerationContext;
 import com.exasol.adapter.jdbc.*;
+import com.exasol.adapter.properties.PropertyValidator;
 
 public class DummySqlDialect extends AbstractSqlDialect {
     static final String NAME = "DUMMYDIALECT";
@@ -21,6 +23,10 @@ public class DummySqlDialect extends AbstractSqlDialect {
         super(context, Set.of(SCHEMA_NAME_PROPERTY, CATALOG_NAME_PROPERTY));
     }
 
+    public DummySqlDialect(final JDBCAdapterContext context, final Collection<PropertyValidator> validators) {
+        super(context, Set.of(SCHEMA_NAME_PROPERTY, CATALOG_NAME_PROPERTY), validators);
+    }
+
     public DummySqlDialect(final ConnectionFactory connectionFactoryMock, final AdapterProperties properties, final ExaMetadata exaMetadataMock) {
         this(JDBCAdapterContext.builder()
                 .connectionFactory(connectionFactoryMock)
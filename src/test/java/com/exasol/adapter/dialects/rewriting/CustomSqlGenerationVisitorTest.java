@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.dialects.JDBCAdapterContext;
 import com.exasol.adapter.dialects.SqlDialect;
+import com.exasol.adapter.dialects.SqlGenerator;
 import com.exasol.adapter.dialects.derby.DerbySqlDialect;
 import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.sql.*;
@@ -34,6 +35,23 @@ class CustomSqlGenerationVisitorTest {
         assertEquals(SqlNormalizer.normalizeSql(expectedSql), SqlNormalizer.normalizeSql(actualSql));
     }
 
+    @Test
+    void testOverriddenVisitMethodIsUsedWhenAppending() throws AdapterException {
+        final TableMetadata tableMetadata = getTestTableMetadata();
+        final ColumnMetadata columnMetadata = tableMetadata.getColumns().get(0);
+        final SqlSelectList selectList = SqlSelectList
+                .createRegularSelectList(List.of(new SqlColumn(1, columnMetadata)));
+        final SqlNode where = new SqlPredicateAnd(List.of(new SqlPredicateNot(new SqlColumn(1, columnMetadata)),
+                new SqlPredicateIsNull(new SqlColumn(1, columnMetadata))));
+        final SqlNode node = SqlStatementSelect.builder().selectList(selectList)
+                .fromClause(new SqlTable("TEST", tableMetadata)).whereClause(where).build();
+        final SqlGenerationContext context = new SqlGenerationContext("", "SCHEMA", false);
+        final SqlGenerator generator = new TestSqlGenerationVisitor(
+                new DerbySqlDialect(JDBCAdapterContext.builder().build()), context);
+        assertEquals("SELECT \"C1\" FROM \"SCHEMA\".\"TEST\" WHERE (NOT_CUSTOM (\"C1\") AND (\"C1\") IS NULL)",
+                generator.generateSqlFor(node));
+    }
+
     private SqlNode getTestSqlNode() {
         final TableMetadata clicksMeta = getTestTableMetadata();
         final SqlTable fromClause = new SqlTable("TEST", clicksMeta);
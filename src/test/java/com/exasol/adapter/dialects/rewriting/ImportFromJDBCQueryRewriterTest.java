@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.*;
 
@@ -19,8 +20,9 @@ import com.exasol.adapter.dialects.dummy.DummyConnectionDefinitionBuilder;
 import com.exasol.adapter.dialects.dummy.DummySqlDialect;
 import com.exasol.adapter.jdbc.BaseRemoteMetadataReader;
 import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.TableMetadata;
 import com.exasol.adapter.properties.DataTypeDetection;
-import com.exasol.adapter.sql.TestSqlStatementFactory;
+import com.exasol.adapter.sql.*;
 import org.mockito.Mockito;
 
 class ImportFromJDBCQueryRewriterTest extends AbstractQueryRewriterTestBase {
@@ -41,6 +43,29 @@ class ImportFromJDBCQueryRewriterTest extends AbstractQueryRewriterTestBase {
                                                 + " STATEMENT 'SELECT 1 FROM \"DUAL\"'"));
         }
 
+        @Test
+        void rewriteWithPredicateNormalizationRemovesConstantFilter() throws AdapterException, SQLException {
+                final AdapterProperties properties = new AdapterProperties(Map.of("CONNECTION_NAME", CONNECTION_NAME,
+                                AbstractQueryRewriter.PREDICATE_NORMALIZATION_PROPERTY, "TRUE"));
+                final SqlDialect dialect = new DummySqlDialect(null, properties, null);
+                final ExaMetadata exaMetadataMock = Mockito.mock(ExaMetadata.class);
+                when(exaMetadataMock.getDatabaseVersion()).thenReturn("8.34.0");
+                final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(mockConnection(),
+                                properties, exaMetadataMock);
+                final QueryRewriter queryRewriter = new ImportFromJDBCQueryRewriter(dialect, metadataReader);
+                final SqlStatement statement = SqlStatementSelect.builder() //
+                                .selectList(SqlSelectList.createRegularSelectList(
+                                                List.of(new SqlLiteralExactnumeric(BigDecimal.ONE)))) //
+                                .fromClause(new SqlTable("DUAL",
+                                                new TableMetadata("DUAL", "", Collections.emptyList(), ""))) //
+                                .whereClause(new SqlPredicateAnd(
+                                                List.of(new SqlLiteralBool(true), new SqlLiteralBool(true)))) //
+                                .build();
+                assertThat(queryRewriter.rewrite(statement, EMPTY_SELECT_LIST_DATA_TYPES, EXA_METADATA, properties),
+                                equalTo("IMPORT FROM JDBC AT " + CONNECTION_NAME
+                                                + " STATEMENT 'SELECT 1 FROM \"DUAL\"'"));
+        }
+
         @Test
         void rewriteWithCustomConnectionDefinitionBuilder() throws AdapterException, SQLException {
                 final SqlDialect dialect = new DummySqlDialect(null, AdapterProperties.emptyProperties(), null);
@@ -2,10 +2,11 @@ package com.exasol.adapter.dialects.rewriting;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
-import java.sql.Connection;
-import java.sql.SQLException;
+import java.math.BigDecimal;
+import java.sql.*;
 import java.util.*;
 
 import com.exasol.ExaMetadata;
@@ -22,9 +23,10 @@ import com.exasol.adapter.dialects.SqlDialect;
 import com.exasol.adapter.dialects.dummy.DummyConnectionDefinitionBuilder;
 import com.exasol.adapter.dialects.dummy.DummySqlDialect;
 import com.exasol.adapter.jdbc.BaseRemoteMetadataReader;
+import com.exasol.adapter.jdbc.ColumnDescriptionCache;
 import com.exasol.adapter.jdbc.ConnectionFactory;
-import com.exasol.adapter.metadata.DataType;
-import com.exasol.adapter.sql.TestSqlStatementFactory;
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.sql.*;
 
 @ExtendWith(MockitoExtension.class)
 class ImportIntoTemporaryTableQueryRewriterTest extends AbstractQueryRewriterTestBase {
@@ -71,4 +73,158 @@ class ImportIntoTemporaryTableQueryRewriterTest extends AbstractQueryRewriterTes
                 equalTo("IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC MY DUMMY DEFINITION BUILDER"
                         + " STATEMENT 'SELECT 1 FROM \"DUAL\"'"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRewriteWithColumnDescriptionCachePreparesQueryOnce() throws AdapterException, SQLException {
+        ColumnDescriptionCache.getInstance().invalidateAll();
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "COLUMN_DESCRIPTION_CACHE_SIZE", "10"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        final String expected = "IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                + " STATEMENT 'SELECT 1 FROM \"DUAL\"'";
+        for (int i = 0; i < 3; ++i) {
+            assertThat(queryRewriter.rewrite(TestSqlStatementFactory.createSelectOneFromDual(), //
+                    EMPTY_SELECT_LIST_DATA_TYPES, EXA_METADATA, properties), equalTo(expected));
+        }
+        verify(this.connectionMock, times(1)).prepareStatement(any());
+    }
+
+    @Test
+    void testRewriteWithPartitionsSplitsImportByValueRange() throws AdapterException, SQLException {
+        final Statement statementMock = mock(Statement.class);
+        final ResultSet rangeMock = mock(ResultSet.class);
+        when(this.connectionMock.createStatement()).thenReturn(statementMock);
+        when(statementMock.executeQuery("SELECT MIN(\"FACTS\".\"ID\"), MAX(\"FACTS\".\"ID\") FROM \"FACTS\""))
+                .thenReturn(rangeMock);
+        when(rangeMock.next()).thenReturn(true);
+        when(rangeMock.getBigDecimal(1)).thenReturn(BigDecimal.ZERO);
+        when(rangeMock.getBigDecimal(2)).thenReturn(BigDecimal.valueOf(100));
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "IMPORT_PARTITIONS", "3"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        final String importPrefix = "SELECT * FROM (IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                + " STATEMENT 'SELECT \"NAME\" FROM \"FACTS\" WHERE ";
+        assertThat(queryRewriter.rewrite(createSelectFromFacts(), List.of(DataType.createDecimal(18, 0)),
+                EXA_METADATA, properties),
+                equalTo(importPrefix + "(\"FACTS\".\"ID\" < 34 OR (\"FACTS\".\"ID\") IS NULL)')" //
+                        + " UNION ALL " + importPrefix + "(34 <= \"FACTS\".\"ID\" AND \"FACTS\".\"ID\" < 67)')" //
+                        + " UNION ALL " + importPrefix + "67 <= \"FACTS\".\"ID\"')"));
+    }
+
+    @Test
+    void testRewriteWithPartitionsReadsValueRangeOfFilteredRows() throws AdapterException, SQLException {
+        final Statement statementMock = mock(Statement.class);
+        final ResultSet rangeMock = mock(ResultSet.class);
+        when(this.connectionMock.createStatement()).thenReturn(statementMock);
+        when(statementMock.executeQuery("SELECT MIN(\"FACTS\".\"ID\"), MAX(\"FACTS\".\"ID\") FROM \"FACTS\""
+                + " WHERE 150 <= \"FACTS\".\"ID\"")).thenReturn(rangeMock);
+        when(rangeMock.next()).thenReturn(true);
+        when(rangeMock.getBigDecimal(1)).thenReturn(BigDecimal.valueOf(150));
+        when(rangeMock.getBigDecimal(2)).thenReturn(BigDecimal.valueOf(250));
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "IMPORT_PARTITIONS", "2"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        final SqlStatementSelect select = (SqlStatementSelect) createSelectFromFacts();
+        final SqlTable table = (SqlTable) select.getFromClause();
+        final SqlColumn id = new SqlColumn(1, table.getMetadata().getColumns().get(1), "FACTS");
+        final SqlStatement statement = SqlStatementSelect.builder().selectList(select.getSelectList())
+                .fromClause(table)
+                .whereClause(new SqlPredicateLessEqual(new SqlLiteralExactnumeric(BigDecimal.valueOf(150)), id))
+                .build();
+        final String importPrefix = "SELECT * FROM (IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                + " STATEMENT 'SELECT \"NAME\" FROM \"FACTS\" WHERE (150 <= \"FACTS\".\"ID\" AND ";
+        assertThat(queryRewriter.rewrite(statement, List.of(DataType.createDecimal(18, 0)), EXA_METADATA, properties),
+                equalTo(importPrefix + "(\"FACTS\".\"ID\" < 200 OR (\"FACTS\".\"ID\") IS NULL))')" //
+                        + " UNION ALL " + importPrefix + "200 <= \"FACTS\".\"ID\")')"));
+    }
+
+    @Test
+    void testRewriteWithPartitionsKeepsSingleImportForLimit() throws AdapterException, SQLException {
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "IMPORT_PARTITIONS", "3"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        final SqlStatementSelect select = (SqlStatementSelect) createSelectFromFacts();
+        final SqlStatement statement = SqlStatementSelect.builder().selectList(select.getSelectList())
+                .fromClause(select.getFromClause()).limit(new SqlLimit(10, 0)).build();
+        assertThat(queryRewriter.rewrite(statement, EMPTY_SELECT_LIST_DATA_TYPES, EXA_METADATA, properties),
+                equalTo("IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                        + " STATEMENT 'SELECT \"NAME\" FROM \"FACTS\" LIMIT 10'"));
+        verify(this.connectionMock, never()).createStatement();
+    }
+
+    @Test
+    void testRewriteWithPartitionsKeepsSingleImportForSmallTable() throws AdapterException, SQLException {
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "IMPORT_PARTITIONS", "3"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        assertThat(queryRewriter.rewrite(createSelectFromFacts("{\"rowCount\":5000}"), EMPTY_SELECT_LIST_DATA_TYPES,
+                EXA_METADATA, properties),
+                equalTo("IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                        + " STATEMENT 'SELECT \"NAME\" FROM \"FACTS\"'"));
+        verify(this.connectionMock, never()).createStatement();
+    }
+
+    @Test
+    void testRewriteWithCatalogPartitionsSplitsImportAlongRemainingPartitions() throws AdapterException, SQLException {
+        final AdapterProperties properties = new AdapterProperties(
+                Map.of("CONNECTION_NAME", CONNECTION_NAME, "IMPORT_PARTITIONS", "3"));
+        final SqlDialect dialect = new DummySqlDialect(this.connectionFactoryMock, properties, exaMetadataMock);
+        final BaseRemoteMetadataReader metadataReader = new BaseRemoteMetadataReader(this.connectionMock, properties,
+                exaMetadataMock);
+        final QueryRewriter queryRewriter = new ImportIntoTemporaryTableQueryRewriter(dialect, metadataReader,
+                this.connectionFactoryMock);
+        final String adapterNotes = "{\"partitions\":[" //
+                + "{\"name\":\"P0\",\"column\":\"ID\",\"upperBound\":\"100\"}," //
+                + "{\"name\":\"P1\",\"column\":\"ID\",\"lowerBound\":\"100\",\"upperBound\":\"200\"}," //
+                + "{\"name\":\"P2\",\"column\":\"ID\",\"lowerBound\":\"200\",\"upperBound\":\"300\"}," //
+                + "{\"name\":\"P3\",\"column\":\"ID\",\"lowerBound\":\"300\"}]}";
+        final SqlStatementSelect select = (SqlStatementSelect) createSelectFromFacts(adapterNotes);
+        final SqlColumn id = new SqlColumn(1, ((SqlTable) select.getFromClause()).getMetadata().getColumns().get(1),
+                "FACTS");
+        final SqlStatement statement = SqlStatementSelect.builder().selectList(select.getSelectList())
+                .fromClause(select.getFromClause())
+                .whereClause(new SqlPredicateLessEqual(new SqlLiteralExactnumeric(BigDecimal.valueOf(150)), id))
+                .build();
+        final String importPrefix = "SELECT * FROM (IMPORT INTO (c1 DECIMAL(18, 0)) FROM JDBC AT " + CONNECTION_NAME
+                + " STATEMENT 'SELECT \"NAME\" FROM \"FACTS\" WHERE (150 <= \"FACTS\".\"ID\" AND ";
+        assertThat(queryRewriter.rewrite(statement, EMPTY_SELECT_LIST_DATA_TYPES, EXA_METADATA, properties),
+                equalTo(importPrefix + "(\"FACTS\".\"ID\" < 200 OR (\"FACTS\".\"ID\") IS NULL))')" //
+                        + " UNION ALL " + importPrefix + "(200 <= \"FACTS\".\"ID\" AND \"FACTS\".\"ID\" < 300))')" //
+                        + " UNION ALL " + importPrefix + "300 <= \"FACTS\".\"ID\")')"));
+        verify(this.connectionMock, never()).createStatement();
+    }
+
+    private static SqlStatement createSelectFromFacts() {
+        return createSelectFromFacts("");
+    }
+
+    private static SqlStatement createSelectFromFacts(final String adapterNotes) {
+        final ColumnMetadata name = ColumnMetadata.builder().name("NAME")
+                .type(DataType.createVarChar(20, DataType.ExaCharset.UTF8)).build();
+        final ColumnMetadata id = ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).build();
+        final TableMetadata table = new TableMetadata("FACTS", adapterNotes, List.of(name, id), "");
+        return SqlStatementSelect.builder()
+                .selectList(SqlSelectList.createRegularSelectList(List.of(new SqlColumn(0, name))))
+                .fromClause(new SqlTable("FACTS", table)).build();
+    }
+}
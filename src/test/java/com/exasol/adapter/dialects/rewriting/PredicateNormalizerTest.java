@@ -0,0 +1,179 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.dialects.SqlGenerator;
+import com.exasol.adapter.dialects.dummy.DummySqlDialect;
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.sql.*;
+
+class PredicateNormalizerTest {
+    private SqlGenerator generator;
+    private PredicateNormalizer normalizer;
+
+    @BeforeEach
+    void beforeEach() {
+        this.generator = new SqlGenerationVisitor(
+                new DummySqlDialect(null, AdapterProperties.emptyProperties(), null),
+                new SqlGenerationContext("", "SCHEMA", false));
+        this.normalizer = new PredicateNormalizer(this.generator, true);
+    }
+
+    @Test
+    void testStatementWithoutFilterIsUnchanged() throws AdapterException {
+        final SqlStatement statement = TestSqlStatementFactory.createSelectOneFromDual();
+        assertThat(this.normalizer.normalize(statement), sameInstance(statement));
+    }
+
+    @Test
+    void testFlattenNestedAnd() throws AdapterException {
+        assertNormalized(and(and(equal("A", "1"), equal("B", "2")), equal("C", "3")),
+                and(equal("A", "1"), equal("B", "2"), equal("C", "3")));
+    }
+
+    @Test
+    void testRemoveDuplicateConjuncts() throws AdapterException {
+        assertNormalized(and(equal("A", "1"), equal("B", "2"), equal("A", "1")), and(equal("A", "1"), equal("B", "2")));
+    }
+
+    @Test
+    void testKeepRepeatedNonDeterministicOperands() throws AdapterException {
+        assertNormalized(and(lessThanRandom(), lessThanRandom(), equal("A", "1"), equal("A", "1")),
+                and(lessThanRandom(), lessThanRandom(), equal("A", "1")));
+    }
+
+    @Test
+    void testRemoveTrueConjunct() throws AdapterException {
+        assertNormalized(and(equal("A", "1"), new SqlLiteralBool(true)), equal("A", "1"));
+    }
+
+    @Test
+    void testFoldFalseConjunct() throws AdapterException {
+        assertNormalized(and(equal("A", "1"), new SqlPredicateNot(new SqlLiteralBool(true))),
+                new SqlLiteralBool(false));
+    }
+
+    @Test
+    void testRemoveFilterThatIsAlwaysTrue() throws AdapterException {
+        assertNormalized(or(equal("A", "1"), and(new SqlLiteralBool(true))), null);
+    }
+
+    @Test
+    void testMergeEqualitiesIntoInList() throws AdapterException {
+        assertNormalized(or(equal("A", "1"), equal("B", "2"), equal("A", "3"), equal("A", "1")),
+                or(in("A", "1", "3"), equal("B", "2")));
+    }
+
+    @Test
+    void testMergeEqualityWithLiteralOnTheLeftAndExistingInList() throws AdapterException {
+        assertNormalized(or(in("A", "1", "2"), new SqlPredicateEqual(literal("3"), column("A"))),
+                in("A", "1", "2", "3"));
+    }
+
+    @Test
+    void testKeepSingleEqualityOnColumn() throws AdapterException {
+        assertNormalized(or(equal("A", "1"), equal("B", "2")), or(equal("A", "1"), equal("B", "2")));
+    }
+
+    @Test
+    void testKeepEqualitiesIfInListIsNotSupported() throws AdapterException {
+        this.normalizer = new PredicateNormalizer(this.generator, false);
+        assertNormalized(or(equal("A", "1"), equal("A", "2")), or(equal("A", "1"), equal("A", "2")));
+    }
+
+    @Test
+    void testRemoveDuplicateInListValues() throws AdapterException {
+        assertNormalized(in("A", "1", "2", "1"), in("A", "1", "2"));
+    }
+
+    @Test
+    void testNormalizeHaving() throws AdapterException {
+        final SqlStatement statement = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table()) //
+                .groupBy(new SqlGroupBy(List.of(column("A")))) //
+                .having(and(equal("A", "1"), equal("A", "1"))) //
+                .build();
+        final SqlStatement expected = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table()) //
+                .groupBy(new SqlGroupBy(List.of(column("A")))) //
+                .having(equal("A", "1")) //
+                .build();
+        assertThat(render(this.normalizer.normalize(statement)), equalTo(render(expected)));
+    }
+
+    @Test
+    void testRedundantPredicateGeneratesShorterSql() throws AdapterException {
+        final SqlStatement statement = TestSqlStatementFactory.createRedundantPredicate(100);
+        final int originalLength = render(statement).length();
+        assertThat(render(this.normalizer.normalize(statement)).length(), lessThan(originalLength / 4));
+    }
+
+    private void assertNormalized(final SqlNode filter, final SqlNode expectedFilter) throws AdapterException {
+        assertThat(render(this.normalizer.normalize(select(filter))), equalTo(render(select(expectedFilter))));
+    }
+
+    private String render(final SqlStatement statement) throws AdapterException {
+        return this.generator.generateSqlFor(statement);
+    }
+
+    private static SqlStatement select(final SqlNode filter) {
+        final SqlStatementSelect.Builder builder = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table());
+        if (filter != null) {
+            builder.whereClause(filter);
+        }
+        return builder.build();
+    }
+
+    private static SqlNode and(final SqlNode... operands) {
+        return new SqlPredicateAnd(List.of(operands));
+    }
+
+    private static SqlNode or(final SqlNode... operands) {
+        return new SqlPredicateOr(List.of(operands));
+    }
+
+    private static SqlNode equal(final String columnName, final String value) {
+        return new SqlPredicateEqual(column(columnName), literal(value));
+    }
+
+    private static SqlNode lessThanRandom() {
+        return new SqlPredicateLess(new SqlFunctionScalar(ScalarFunction.RAND, List.of()), literal("0.5"));
+    }
+
+    private static SqlNode in(final String columnName, final String... values) {
+        final SqlNode[] literals = new SqlNode[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            literals[i] = literal(values[i]);
+        }
+        return new SqlPredicateInConstList(column(columnName), List.of(literals));
+    }
+
+    private static SqlNode literal(final String value) {
+        return new SqlLiteralExactnumeric(new BigDecimal(value));
+    }
+
+    private static SqlColumn column(final String name) {
+        return new SqlColumn(name.charAt(0) - 'A',
+                ColumnMetadata.builder().name(name).type(DataType.createDecimal(18, 0)).build());
+    }
+
+    private static SqlTable table() {
+        return new SqlTable("FACTS", new TableMetadata("FACTS", "", Collections.emptyList(), ""));
+    }
+}
@@ -0,0 +1,107 @@
+package com.exasol.adapter.dialects.rewriting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.properties.PushdownCacheSettings;
+import com.exasol.adapter.sql.*;
+
+class PushdownSqlCacheTest {
+    private static final PushdownCacheSettings SETTINGS = new PushdownCacheSettings(1024, Duration.ofSeconds(10));
+    private static final AdapterProperties PROPERTIES = new AdapterProperties(Map.of("CONNECTION_NAME", "CON"));
+    private final AtomicLong clock = new AtomicLong();
+    private final PushdownSqlCache cache = new PushdownSqlCache(this.clock::get);
+    private final AtomicInteger rewriteCalls = new AtomicInteger();
+
+    private String rewrite(final String key) throws AdapterException, SQLException {
+        return this.cache.getOrRewrite(key, SETTINGS, () -> "SELECT " + this.rewriteCalls.incrementAndGet());
+    }
+
+    private static Optional<String> createKey(final SqlStatement statement, final List<DataType> dataTypes) {
+        return PushdownSqlCache.createKey("DIALECT", PROPERTIES, "8.34.0", statement, dataTypes);
+    }
+
+    private static SqlStatement selectFromTableWithAdapterNotes(final String adapterNotes) {
+        final ColumnMetadata column = ColumnMetadata.builder().name("C").type(DataType.createDecimal(18, 0)).build();
+        final TableMetadata table = new TableMetadata("T", adapterNotes, List.of(column), "");
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(new SqlTable("T", table)) //
+                .build();
+    }
+
+    @Test
+    void testCacheHit() throws AdapterException, SQLException {
+        final String first = rewrite("A");
+        final String second = rewrite("A");
+        assertAll(() -> assertThat(second, equalTo(first)), //
+                () -> assertThat(this.rewriteCalls.get(), equalTo(1)),
+                () -> assertThat(this.cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(this.cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testCreateKeyIsEqualForStructurallyEqualStatements() {
+        final List<DataType> dataTypes = List.of(DataType.createDecimal(18, 0));
+        final Optional<String> key = createKey(TestSqlStatementFactory.createSelectOneFromDual(), dataTypes);
+        assertAll(() -> assertThat(key.isPresent(), equalTo(true)),
+                () -> assertThat(key, equalTo(createKey(TestSqlStatementFactory.createSelectOneFromDual(),
+                        List.of(DataType.createDecimal(18, 0))))));
+    }
+
+    @Test
+    void testCreateKeyDiffersForDifferentStatements() {
+        final List<DataType> dataTypes = List.of(DataType.createDecimal(18, 0));
+        assertAll(
+                () -> assertThat(createKey(TestSqlStatementFactory.createSelectOneFromDual(), dataTypes),
+                        not(equalTo(createKey(TestSqlStatementFactory.createSelectOneFromSysDummy(), dataTypes)))),
+                () -> assertThat(createKey(TestSqlStatementFactory.createSelectOneFromDual(), dataTypes),
+                        not(equalTo(createKey(TestSqlStatementFactory.createSelectOneFromDual(),
+                                List.of(DataType.createDouble()))))));
+    }
+
+    @Test
+    void testCreateKeyDiffersForDifferentProperties() {
+        final SqlStatement statement = TestSqlStatementFactory.createSelectOneFromDual();
+        assertThat(createKey(statement, List.of()), not(equalTo(PushdownSqlCache.createKey("DIALECT",
+                new AdapterProperties(Map.of("CONNECTION_NAME", "OTHER")), "8.34.0", statement, List.of()))));
+    }
+
+    @Test
+    void testCreateKeyDiffersForDifferentLiterals() {
+        assertThat(createKey(selectWhereColumnEquals("a"), List.of()),
+                not(equalTo(createKey(selectWhereColumnEquals("b"), List.of()))));
+    }
+
+    private static SqlStatement selectWhereColumnEquals(final String value) {
+        final ColumnMetadata column = ColumnMetadata.builder().name("C")
+                .type(DataType.createVarChar(10, DataType.ExaCharset.UTF8)).build();
+        final TableMetadata table = new TableMetadata("T", "", List.of(column), "");
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(new SqlTable("T", table)) //
+                .whereClause(new SqlPredicateEqual(new SqlColumn(0, column), new SqlLiteralString(value))) //
+                .build();
+    }
+
+    @Test
+    void testCreateKeyDiffersForDifferentTableAdapterNotes() {
+        assertThat(createKey(selectFromTableWithAdapterNotes("{\"rowCount\":1}"), List.of()),
+                not(equalTo(createKey(selectFromTableWithAdapterNotes("{\"rowCount\":2}"), List.of()))));
+    }
+}
@@ -9,23 +9,32 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.sql.*;
 import java.util.*;
+import java.util.logging.Logger;
 
 import com.exasol.ExaMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.AdapterProperties;
-import com.exasol.adapter.adapternotes.SchemaAdapterNotes;
+import com.exasol.adapter.adapternotes.*;
 import com.exasol.adapter.dialects.IdentifierCaseHandling;
 import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.properties.TableCountLimit;
+import com.exasol.logging.CapturingLogHandler;
 
 @ExtendWith(MockitoExtension.class)
 class BaseRemoteMetadataReaderTest {
@@ -48,16 +57,10 @@ class BaseRemoteMetadataReaderTest {
     void testReadEmptyRemoteMetadata() throws RemoteMetadataReaderException, SQLException {
         final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(false);
         setupConnectionMetadata(remoteMetadataMock);
-        mockGetAllTablesReturnsEmptyList(remoteMetadataMock);
+        mockGetAllTables(remoteMetadataMock);
         assertThat(readMockedSchemaMetadata().getTables(), emptyIterableOf(TableMetadata.class));
     }
 
-    private void mockGetAllTablesReturnsEmptyList(final DatabaseMetaData remoteMetadataMock) throws SQLException {
-        final ResultSet remoteTablesMock = Mockito.mock(ResultSet.class);
-        when(remoteTablesMock.next()).thenReturn(false);
-        mockGetAllTables(remoteMetadataMock, remoteTablesMock);
-    }
-
     private SchemaMetadata readMockedSchemaMetadata() {
         return readMockedSchemaMetadataWithProperties(AdapterProperties.emptyProperties());
     }
@@ -86,6 +89,127 @@ class BaseRemoteMetadataReaderTest {
                 () -> assertThat(columnsBMetadata, iterableWithSize(3)));
     }
 
+    @Test
+    void testReadRemoteMetadataWithBulkColumnScan() throws RemoteMetadataReaderException, SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockGetAllColumns(remoteMetadataMock);
+        mockGetTableCalls(remoteMetadataMock);
+        final SchemaMetadata metadata = readMockedSchemaMetadataWithProperties(
+                new AdapterProperties(Map.of(AbstractRemoteMetadataReader.BULK_COLUMN_SCAN_PROPERTY, "TRUE")));
+        final List<TableMetadata> tables = metadata.getTables();
+        final List<ColumnMetadata> columnsAMetadata = tables.get(0).getColumns();
+        final List<ColumnMetadata> columnsBMetadata = tables.get(1).getColumns();
+        assertAll(() -> assertThat(tables, iterableWithSize(2)),
+                () -> assertThat(columnsAMetadata, iterableWithSize(2)),
+                () -> assertThat(columnsAMetadata.get(1).getName(), equalTo("COLUMN_A2")),
+                () -> assertThat(columnsBMetadata, iterableWithSize(1)),
+                () -> assertThat(columnsBMetadata.get(0).getName(), equalTo("COLUMN_B1")),
+                () -> verify(remoteMetadataMock, times(1)).getColumns(any(), any(), any(), any()));
+    }
+
+    @Test
+    void testReadRemoteMetadataWithTableStatistics() throws AdapterException, SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockGetColumnsCalls(remoteMetadataMock);
+        mockGetTableCalls(remoteMetadataMock);
+        final ResultSet tableAIndexes = Mockito.mock(ResultSet.class);
+        when(tableAIndexes.next()).thenReturn(true, false);
+        when(tableAIndexes.getLong("CARDINALITY")).thenReturn(1234L);
+        when(tableAIndexes.getShort("TYPE")).thenReturn(DatabaseMetaData.tableIndexStatistic);
+        when(remoteMetadataMock.getIndexInfo(any(), any(), eq(TABLE_A), eq(false), eq(true)))
+                .thenReturn(tableAIndexes);
+        final ResultSet tableBIndexes = Mockito.mock(ResultSet.class);
+        when(remoteMetadataMock.getIndexInfo(any(), any(), eq(TABLE_B), eq(false), eq(true)))
+                .thenReturn(tableBIndexes);
+        final List<TableMetadata> tables = readMockedSchemaMetadataWithProperties(
+                new AdapterProperties(Map.of(AbstractRemoteMetadataReader.TABLE_STATISTICS_PROPERTY, "TRUE")))
+                .getTables();
+        final TableAdapterNotes tableANotes = TableAdapterNotesJsonConverter.getInstance()
+                .convertFromJsonToTableAdapterNotes(tables.get(0).getAdapterNotes(), TABLE_A);
+        assertAll(() -> assertThat(tableANotes.getRowCount(), equalTo(OptionalLong.of(1234))),
+                () -> assertThat(tables.get(1).getAdapterNotes(), equalTo("")));
+    }
+
+    @Test
+    void testIncrementalReadIgnoresUnmappedTablesAndRefreshesStatistics(@TempDir final Path snapshotDirectory)
+            throws AdapterException, SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockGetAllTables(remoteMetadataMock, TABLE_A);
+        mockTableA(remoteMetadataMock);
+        when(remoteMetadataMock.getColumns(any(), any(), eq(RemoteMetadataReaderConstants.ANY_TABLE), any()))
+                .thenAnswer(invocation -> createColumnSignaturesMock(TABLE_A, TABLE_A, "VIEW_V"));
+        final ResultSet firstStatistics = createTableStatisticMock(1234);
+        final ResultSet secondStatistics = createTableStatisticMock(5678);
+        when(remoteMetadataMock.getIndexInfo(any(), any(), eq(TABLE_A), eq(false), eq(true)))
+                .thenReturn(firstStatistics, secondStatistics);
+        final AdapterProperties properties = new AdapterProperties(Map.of( //
+                AbstractRemoteMetadataReader.METADATA_SNAPSHOT_DIRECTORY_PROPERTY, snapshotDirectory.toString(), //
+                AbstractRemoteMetadataReader.TABLE_STATISTICS_PROPERTY, "TRUE"));
+        readMockedSchemaMetadataWithProperties(properties);
+        final List<TableMetadata> tables = readMockedSchemaMetadataWithProperties(properties).getTables();
+        final TableAdapterNotes notes = TableAdapterNotesJsonConverter.getInstance()
+                .convertFromJsonToTableAdapterNotes(tables.get(0).getAdapterNotes(), TABLE_A);
+        assertAll(() -> assertThat(tables, iterableWithSize(1)),
+                () -> assertThat(notes.getRowCount(), equalTo(OptionalLong.of(5678))),
+                // one listing per signature scan plus two for the initial complete read
+                () -> verify(remoteMetadataMock, times(4)).getTables(any(), any(), any(), any()),
+                () -> verify(remoteMetadataMock, times(1)).getColumns(any(), any(), eq(escapeSqlWildCards(TABLE_A)),
+                        any()));
+    }
+
+    @Test
+    void testIncrementalReadUsesEscapedSchemaNameForSignatures(@TempDir final Path snapshotDirectory)
+            throws SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockGetAllTables(remoteMetadataMock, TABLE_A);
+        mockTableA(remoteMetadataMock);
+        when(remoteMetadataMock.getColumns(any(), any(), eq(RemoteMetadataReaderConstants.ANY_TABLE), any()))
+                .thenAnswer(invocation -> createColumnSignaturesMock(TABLE_A));
+        readMockedSchemaMetadataWithProperties(new AdapterProperties(Map.of( //
+                AbstractRemoteMetadataReader.METADATA_SNAPSHOT_DIRECTORY_PROPERTY, snapshotDirectory.toString(), //
+                AdapterProperties.SCHEMA_NAME_PROPERTY, "MY_SCHEMA")));
+        final String schemaPattern = escapeSqlWildCards("MY_SCHEMA");
+        assertAll(() -> verify(remoteMetadataMock).getTables(any(), eq(schemaPattern),
+                eq(RemoteMetadataReaderConstants.ANY_TABLE), any()),
+                () -> verify(remoteMetadataMock).getColumns(any(), eq(schemaPattern),
+                        eq(RemoteMetadataReaderConstants.ANY_TABLE), any()));
+    }
+
+    private static ResultSet createColumnSignaturesMock(final String... tableNames) throws SQLException {
+        final ResultSet columnsMock = Mockito.mock(ResultSet.class);
+        final Boolean[] hasNext = new Boolean[tableNames.length];
+        Arrays.fill(hasNext, true);
+        hasNext[tableNames.length - 1] = false;
+        when(columnsMock.next()).thenReturn(true, hasNext);
+        when(columnsMock.getString(BaseColumnMetadataReader.TABLE_NAME_COLUMN)).thenReturn(tableNames[0],
+                Arrays.copyOfRange(tableNames, 1, tableNames.length));
+        return columnsMock;
+    }
+
+    private static ResultSet createTableStatisticMock(final long cardinality) throws SQLException {
+        final ResultSet statisticMock = Mockito.mock(ResultSet.class);
+        when(statisticMock.next()).thenReturn(true, false);
+        when(statisticMock.getLong("CARDINALITY")).thenReturn(cardinality);
+        when(statisticMock.getShort("TYPE")).thenReturn(DatabaseMetaData.tableIndexStatistic);
+        return statisticMock;
+    }
+
+    private void mockGetAllColumns(final DatabaseMetaData remoteMetadataMock) throws SQLException {
+        final ResultSet allColumns = Mockito.mock(ResultSet.class);
+        when(allColumns.next()).thenReturn(true, true, true, false);
+        when(allColumns.getString(BaseColumnMetadataReader.TABLE_NAME_COLUMN)).thenReturn(TABLE_A, TABLE_A, TABLE_B);
+        when(allColumns.getString(BaseColumnMetadataReader.NAME_COLUMN)).thenReturn("COLUMN_A1", "COLUMN_A2",
+                "COLUMN_B1");
+        when(allColumns.getInt(BaseColumnMetadataReader.DATA_TYPE_COLUMN)).thenReturn(Types.BOOLEAN, Types.DATE,
+                Types.DOUBLE);
+        when(remoteMetadataMock.getColumns(any(), any(), eq(RemoteMetadataReaderConstants.ANY_TABLE), any()))
+                .thenReturn(allColumns);
+    }
+
     private void mockGetColumnsCalls(final DatabaseMetaData remoteMetadataMock) throws SQLException {
         mockTableA(remoteMetadataMock);
         mockTableB(remoteMetadataMock);
@@ -117,15 +241,23 @@ class BaseRemoteMetadataReaderTest {
     }
 
     private void mockGetTableCalls(final DatabaseMetaData remoteMetadataMock) throws SQLException {
-        final ResultSet tablesMock = Mockito.mock(ResultSet.class);
-        mockTableCount(tablesMock, 2);
-        mockTableName(tablesMock, TABLE_A, TABLE_B);
-        mockGetAllTables(remoteMetadataMock, tablesMock);
+        mockGetAllTables(remoteMetadataMock, TABLE_A, TABLE_B);
     }
 
-    private void mockGetAllTables(final DatabaseMetaData remoteMetadataMock, final ResultSet tables)
+    // The reader lists the tables twice: once to check the table count limit and once to map the tables.
+    private void mockGetAllTables(final DatabaseMetaData remoteMetadataMock, final String... tableNames)
             throws SQLException {
-        when(remoteMetadataMock.getTables(any(), any(), any(), any())).thenReturn(tables);
+        when(remoteMetadataMock.getTables(any(), any(), any(), any()))
+                .thenAnswer(invocation -> createTablesMock(tableNames));
+    }
+
+    private static ResultSet createTablesMock(final String... tableNames) throws SQLException {
+        final ResultSet tablesMock = Mockito.mock(ResultSet.class);
+        mockTableCount(tablesMock, tableNames.length);
+        if (tableNames.length > 0) {
+            mockTableName(tablesMock, tableNames[0], Arrays.copyOfRange(tableNames, 1, tableNames.length));
+        }
+        return tablesMock;
     }
 
     protected DatabaseMetaData mockSupportingMetadata(final boolean mockGetSearchStringEscape) throws SQLException {
@@ -165,6 +297,67 @@ class BaseRemoteMetadataReaderTest {
                 () -> assertThat(tableAMetadata.getName(), equalTo(TABLE_B)));
     }
 
+    @Test
+    void testReadRemoteDataWithTargetedTableScan() throws SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockTableB(remoteMetadataMock);
+        final ResultSet tablesMock = Mockito.mock(ResultSet.class);
+        mockTableCount(tablesMock, 1);
+        mockTableName(tablesMock, TABLE_B);
+        when(remoteMetadataMock.getTables(any(), any(), eq(escapeSqlWildCards(TABLE_B)), any())).thenReturn(tablesMock);
+        final SchemaMetadata metadata = readMockedSchemaMetadataWithProperties(new AdapterProperties(Map.of( //
+                AdapterProperties.TABLE_FILTER_PROPERTY, TABLE_B, //
+                AbstractRemoteMetadataReader.TARGETED_TABLE_SCAN_PROPERTY, "TRUE")));
+        final List<TableMetadata> tables = metadata.getTables();
+        assertAll(() -> assertThat(tables, iterableWithSize(1)),
+                () -> assertThat(tables.get(0).getName(), equalTo(TABLE_B)),
+                () -> verify(remoteMetadataMock, never()).getTables(any(), any(),
+                        eq(RemoteMetadataReaderConstants.ANY_TABLE), any()));
+    }
+
+    @Test
+    void testTargetedTableScanReportsMissingTablesInOneWarning() throws SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockTableB(remoteMetadataMock);
+        final ResultSet tablesMock = Mockito.mock(ResultSet.class);
+        mockTableCount(tablesMock, 1);
+        mockTableName(tablesMock, TABLE_B);
+        when(remoteMetadataMock.getTables(any(), any(), eq(escapeSqlWildCards(TABLE_B)), any())).thenReturn(tablesMock);
+        final ResultSet emptyTablesMock = Mockito.mock(ResultSet.class);
+        mockTableCount(emptyTablesMock, 0);
+        when(remoteMetadataMock.getTables(any(), any(), eq("MISSINGA"), any())).thenReturn(emptyTablesMock);
+        when(remoteMetadataMock.getTables(any(), any(), eq("MISSINGB"), any())).thenReturn(emptyTablesMock);
+        final CapturingLogHandler capturingLogHandler = new CapturingLogHandler();
+        final Logger logger = Logger.getLogger("com.exasol");
+        logger.addHandler(capturingLogHandler);
+        try {
+            final SchemaMetadata metadata = readMockedSchemaMetadataWithProperties(new AdapterProperties(Map.of( //
+                    AdapterProperties.TABLE_FILTER_PROPERTY, TABLE_B + ",MISSINGA,MISSINGB", //
+                    AbstractRemoteMetadataReader.TARGETED_TABLE_SCAN_PROPERTY, "TRUE")));
+            final String log = capturingLogHandler.getCapturedData();
+            assertAll(() -> assertThat(metadata.getTables(), iterableWithSize(1)),
+                    () -> assertThat(log, containsString("W-VSCJDBC-64")),
+                    () -> assertThat(log, containsString("MISSINGA, MISSINGB")),
+                    () -> assertThat(log, not(containsString("W-VSCJDBC-35"))));
+        } finally {
+            logger.removeHandler(capturingLogHandler);
+        }
+    }
+
+    @Test
+    void testTableCountLimitIsCheckedBeforeReadingColumns() throws SQLException {
+        final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(false);
+        setupConnectionMetadata(remoteMetadataMock);
+        mockGetTableCalls(remoteMetadataMock);
+        final AdapterProperties properties = new AdapterProperties(Map.of(TableCountLimit.MAXTABLES_PROPERTY, "1"));
+        final RemoteMetadataReaderException exception = assertThrows(RemoteMetadataReaderException.class,
+                () -> readMockedSchemaMetadataWithProperties(properties));
+        assertAll(() -> assertThat(exception.getMessage(), containsString("E-VSCJDBC-42")),
+                () -> verify(remoteMetadataMock, never()).getColumns(any(), any(), any(), any()));
+    }
+
     @Test
     void testCreateSchemaAdapterNotes() throws SQLException {
         final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(false);
@@ -191,10 +384,7 @@ class BaseRemoteMetadataReaderTest {
     void testReadRemoteMetadataWithAdapterNotes() throws RemoteMetadataReaderException, SQLException {
         final DatabaseMetaData remoteMetadataMock = mockSupportingMetadata(true);
         setupConnectionMetadata(remoteMetadataMock);
-        final ResultSet tablesMock = Mockito.mock(ResultSet.class);
-        mockTableCount(tablesMock, 1);
-        mockTableName(tablesMock, TABLE_A);
-        mockGetAllTables(remoteMetadataMock, tablesMock);
+        mockGetAllTables(remoteMetadataMock, TABLE_A);
         mockTableA(remoteMetadataMock);
         final SchemaMetadata metadata = readMockedSchemaMetadata();
         final List<TableMetadata> tables = metadata.getTables();
@@ -20,7 +20,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.AdapterProperties;
+import com.exasol.adapter.adapternotes.*;
 import com.exasol.adapter.dialects.BaseIdentifierConverter;
 import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.properties.TableCountLimit;
@@ -68,6 +70,28 @@ class BaseTableMetadataReaderTest {
                 () -> assertThat(tableB.getColumns().get(0).getName(), equalTo(COLUMN_B1)));
     }
 
+    @Test
+    void testMapTablesStoresPartitionsInAdapterNotes() throws SQLException, AdapterException {
+        mockTableCount(this.tablesMock, 1);
+        mockTableName(this.tablesMock, TABLE_A);
+        mockTableComment(this.tablesMock, TABLE_A_COMMENT);
+        mockTableWithColumnsOfType(this.tablesMock, this.columnMetadataReaderMock, TABLE_A, DataType.createDate());
+        final TablePartition partition = TablePartition.builder().name("P2024").columnName(COLUMN_A1)
+                .lowerBound("2024-01-01").upperBound("2025-01-01").build();
+        final TableMetadataReader reader = new BaseTableMetadataReader(this.connectionMock,
+                this.columnMetadataReaderMock, AdapterProperties.emptyProperties(), this.exaMetadataMock,
+                BaseIdentifierConverter.createDefault()) {
+            @Override
+            protected List<TablePartition> readPartitions(final String tableName) {
+                return List.of(partition);
+            }
+        };
+        final List<TableMetadata> tables = reader.mapTables(this.tablesMock, Collections.emptyList());
+        assertThat(TableAdapterNotesJsonConverter.getInstance()
+                .convertFromJsonToTableAdapterNotes(tables.get(0).getAdapterNotes(), TABLE_A),
+                equalTo(new TableAdapterNotes(List.of(partition))));
+    }
+
     private TableMetadataReader createDefaultTableMetadataReader() {
         return createTableMetadataReaderWithProperties(AdapterProperties.emptyProperties());
     }
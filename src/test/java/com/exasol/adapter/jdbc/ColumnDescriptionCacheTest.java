@@ -0,0 +1,48 @@
+package com.exasol.adapter.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.properties.ColumnDescriptionCacheSettings;
+
+class ColumnDescriptionCacheTest {
+    private static final ColumnDescriptionCacheSettings SETTINGS = new ColumnDescriptionCacheSettings(2,
+            Duration.ofSeconds(10));
+    private final AtomicLong clock = new AtomicLong();
+    private final ColumnDescriptionCache cache = new ColumnDescriptionCache(this.clock::get);
+    private final AtomicInteger describeCalls = new AtomicInteger();
+
+    private String describe(final String key) throws SQLException {
+        return this.cache.getOrDescribe(key, SETTINGS, () -> "c" + this.describeCalls.incrementAndGet());
+    }
+
+    @Test
+    void testCacheHit() throws SQLException {
+        final String first = describe("A");
+        final String second = describe("A");
+        assertAll(() -> assertThat(second, equalTo(first)), //
+                () -> assertThat(this.describeCalls.get(), equalTo(1)),
+                () -> assertThat(this.cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(this.cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testCreateKeyIgnoresWhitespaceOutsideLiterals() {
+        assertAll(
+                () -> assertThat(ColumnDescriptionCache.createKey("CON", "M", "SELECT  a\n FROM t "),
+                        equalTo(ColumnDescriptionCache.createKey("CON", "M", "SELECT a FROM t"))),
+                () -> assertThat(ColumnDescriptionCache.createKey("CON", "M", "SELECT 'a  b'"),
+                        not(equalTo(ColumnDescriptionCache.createKey("CON", "M", "SELECT 'a b'")))),
+                () -> assertThat(ColumnDescriptionCache.createKey("CON1", "M", "SELECT 1"),
+                        not(equalTo(ColumnDescriptionCache.createKey("CON2", "M", "SELECT 1")))));
+    }
+}
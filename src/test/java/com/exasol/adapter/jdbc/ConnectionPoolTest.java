@@ -0,0 +1,108 @@
+package com.exasol.adapter.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.properties.ConnectionPoolSettings;
+
+class ConnectionPoolTest {
+    private static final String KEY = ConnectionPool.createKey("CON", "jdbc:test", "user", "secret");
+    private static final ConnectionPoolSettings SETTINGS = new ConnectionPoolSettings(1, Duration.ofSeconds(10),
+            Duration.ofSeconds(60));
+    private final AtomicLong clock = new AtomicLong();
+    private final ConnectionPool pool = new ConnectionPool(this.clock::get);
+
+    private static Connection mockValidConnection() throws SQLException {
+        final Connection connection = mock(Connection.class);
+        lenient().when(connection.isValid(anyInt())).thenReturn(true);
+        return connection;
+    }
+
+    @Test
+    void testReleasedConnectionIsReused() throws SQLException {
+        final Connection connection = mockValidConnection();
+        this.pool.release(KEY, this.pool.acquire(KEY, SETTINGS, () -> connection), SETTINGS);
+        final Connection reused = this.pool.acquire(KEY, SETTINGS, () -> mockValidConnection());
+        assertAll(() -> assertThat(reused, sameInstance(connection)), //
+                () -> verify(connection, never()).close());
+    }
+
+    @Test
+    void testInvalidConnectionIsReplaced() throws SQLException {
+        final Connection connection = mockValidConnection();
+        this.pool.release(KEY, this.pool.acquire(KEY, SETTINGS, () -> connection), SETTINGS);
+        when(connection.isValid(anyInt())).thenReturn(false);
+        final Connection replacement = mockValidConnection();
+        assertAll(() -> assertThat(this.pool.acquire(KEY, SETTINGS, () -> replacement), sameInstance(replacement)),
+                () -> verify(connection).close());
+    }
+
+    @Test
+    void testIdleConnectionIsEvicted() throws SQLException {
+        final Connection connection = mockValidConnection();
+        this.pool.release(KEY, this.pool.acquire(KEY, SETTINGS, () -> connection), SETTINGS);
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        final Connection replacement = mockValidConnection();
+        assertAll(() -> assertThat(this.pool.acquire(KEY, SETTINGS, () -> replacement), sameInstance(replacement)),
+                () -> verify(connection).close());
+    }
+
+    @Test
+    void testConnectionIsClosedAfterMaxAge() throws SQLException {
+        final Connection connection = mockValidConnection();
+        final Connection acquired = this.pool.acquire(KEY, SETTINGS, () -> connection);
+        this.clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        this.pool.release(KEY, acquired, SETTINGS);
+        assertAll(() -> assertThat(this.pool.getIdleCount(KEY), equalTo(0)), //
+                () -> verify(connection).close());
+    }
+
+    @Test
+    void testConnectionIsClosedIfPoolIsFull() throws SQLException {
+        final Connection first = this.pool.acquire(KEY, SETTINGS, ConnectionPoolTest::mockValidConnection);
+        final Connection second = this.pool.acquire(KEY, SETTINGS, ConnectionPoolTest::mockValidConnection);
+        this.pool.release(KEY, first, SETTINGS);
+        this.pool.release(KEY, second, SETTINGS);
+        assertAll(() -> assertThat(this.pool.getIdleCount(KEY), equalTo(1)), //
+                () -> verify(first, never()).close(), //
+                () -> verify(second).close());
+    }
+
+    @Test
+    void testReleaseRollsBackAndResetsSessionState() throws SQLException {
+        final Connection connection = mockValidConnection();
+        when(connection.getAutoCommit()).thenReturn(true, false, false);
+        when(connection.getCatalog()).thenReturn("INITIAL", "OTHER");
+        this.pool.release(KEY, this.pool.acquire(KEY, SETTINGS, () -> connection), SETTINGS);
+        assertAll(() -> assertThat(this.pool.getIdleCount(KEY), equalTo(1)), //
+                () -> verify(connection).rollback(), //
+                () -> verify(connection).setAutoCommit(true), //
+                () -> verify(connection).setCatalog("INITIAL"), //
+                () -> verify(connection, never()).close());
+    }
+
+    @Test
+    void testConnectionIsClosedIfSessionStateCannotBeReset() throws SQLException {
+        final Connection connection = mockValidConnection();
+        this.pool.acquire(KEY, SETTINGS, () -> connection);
+        doThrow(new SQLException("connection broken")).when(connection).rollback();
+        this.pool.release(KEY, connection, SETTINGS);
+        assertAll(() -> assertThat(this.pool.getIdleCount(KEY), equalTo(0)), //
+                () -> verify(connection).close());
+    }
+
+    @Test
+    void testKeysDependOnCredentials() {
+        assertThat(ConnectionPool.createKey("CON", "jdbc:test", "user", "other"), not(equalTo(KEY)));
+    }
+}
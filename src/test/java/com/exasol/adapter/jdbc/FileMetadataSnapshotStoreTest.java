@@ -0,0 +1,59 @@
+package com.exasol.adapter.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+
+class FileMetadataSnapshotStoreTest {
+    private static final String KEY = "CONNECTION\nCATALOG\nSCHEMA";
+
+    @Test
+    void testLoadMissingSnapshot(@TempDir final Path directory) {
+        assertThat(new FileMetadataSnapshotStore(directory).load(KEY), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testSaveAndLoadSnapshot(@TempDir final Path directory) {
+        final FileMetadataSnapshotStore store = new FileMetadataSnapshotStore(directory);
+        final List<ColumnMetadata> columns = List.of( //
+                ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).nullable(false).build(),
+                ColumnMetadata.builder().name("NAME").type(DataType.createVarChar(100, ExaCharset.UTF8))
+                        .comment("the name").build(),
+                ColumnMetadata.builder().name("CREATED").type(DataType.createTimestamp(true, 3)).build(),
+                ColumnMetadata.builder().name("DURATION").type(DataType.createIntervalDaySecond(2, 3)).build());
+        final TableMetadata table = new TableMetadata("T1", "", columns, "table comment");
+        store.save(KEY, new MetadataSnapshot("fingerprint", List.of(new MetadataSnapshot.Entry("t1", "4:af", table))));
+        final MetadataSnapshot snapshot = store.load(KEY).orElseThrow();
+        final TableMetadata loadedTable = snapshot.getUnchangedTable("t1", "4:af").orElseThrow();
+        assertAll(() -> assertThat(snapshot.getPropertiesFingerprint(), equalTo("fingerprint")),
+                () -> assertThat(loadedTable.getName(), equalTo("T1")),
+                () -> assertThat(loadedTable.getComment(), equalTo("table comment")),
+                () -> assertThat(loadedTable.getColumns().get(0).isNullable(), equalTo(false)),
+                () -> assertThat(loadedTable.getColumns().get(1).getComment(), equalTo("the name")),
+                () -> assertThat(loadedTable.getColumns().get(1).getType(),
+                        equalTo(DataType.createVarChar(100, ExaCharset.UTF8))),
+                () -> assertThat(loadedTable.getColumns().get(2).getType(), equalTo(DataType.createTimestamp(true, 3))),
+                () -> assertThat(loadedTable.getColumns().get(3).getType(),
+                        equalTo(DataType.createIntervalDaySecond(2, 3))),
+                () -> assertThat(snapshot.getUnchangedTable("t1", "5:b0"), equalTo(Optional.empty())));
+    }
+
+    @Test
+    void testLoadCorruptSnapshotReturnsEmpty(@TempDir final Path directory) throws IOException {
+        final FileMetadataSnapshotStore store = new FileMetadataSnapshotStore(directory);
+        Files.writeString(store.getSnapshotFile(KEY), "not a snapshot");
+        assertThat(store.load(KEY), equalTo(Optional.empty()));
+    }
+}
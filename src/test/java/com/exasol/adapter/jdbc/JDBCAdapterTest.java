@@ -5,6 +5,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.*;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 
 import com.exasol.*;
 import com.exasol.adapter.*;
@@ -20,6 +23,8 @@ import com.exasol.adapter.capabilities.*;
 import com.exasol.adapter.dialects.SqlDialect;
 import com.exasol.adapter.dialects.SqlDialectFactory;
 import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metrics.AdapterMetrics;
+import com.exasol.adapter.metrics.Metrics;
 import com.exasol.adapter.properties.PropertyValidationException;
 import com.exasol.adapter.properties.TableCountLimit;
 import com.exasol.adapter.request.*;
@@ -70,6 +75,29 @@ class JDBCAdapterTest {
                         + " STATEMENT 'SELECT 1 FROM \"SYSIBM\".\"SYSDUMMY1\"'"));
     }
 
+    @Test
+    void testPushdownWithSelectListDataTypesDoesNotConnect() throws AdapterException, ExaConnectionAccessException {
+        pushStatementDown(TestSqlStatementFactory.createSelectOneFromSysDummy(),
+                List.of(DataType.createDecimal(10, 0)));
+        assertThat(((JDBCAdapter) this.adapter).connectionFactory.getOpenedConnectionCount(), equalTo(0));
+    }
+
+    @Test
+    void testPushdownReportsMetrics() throws AdapterException, ExaConnectionAccessException {
+        final AdapterMetrics metrics = mock(AdapterMetrics.class);
+        Metrics.setSink(metrics);
+        try {
+            pushStatementDown(TestSqlStatementFactory.createSelectOneFromSysDummy(), EMPTY_SELECT_LIST_DATA_TYPES);
+        } finally {
+            Metrics.setSink(null);
+        }
+        final InOrder inOrder = inOrder(metrics);
+        inOrder.verify(metrics).requestStarted("PUSHDOWN");
+        inOrder.verify(metrics).recordDuration(eq(Metrics.SQL_GENERATION), anyLong());
+        inOrder.verify(metrics).recordDuration(eq(Metrics.REMOTE_DESCRIBE), anyLong());
+        inOrder.verify(metrics).requestFinished("PUSHDOWN");
+    }
+
     private PushDownResponse pushStatementDown(final SqlStatement statement,
             final List<DataType> selectListDataTypes)
             throws AdapterException, ExaConnectionAccessException {
@@ -134,6 +162,60 @@ class JDBCAdapterTest {
                         ScalarFunctionCapability.ADD)));
     }
 
+    @Test
+    void testGetCapabilitiesReusesCapabilitiesOfEarlierRequest() throws AdapterException {
+        final SqlDialect dialect = mock(SqlDialect.class);
+        when(dialect.getCapabilities())
+                .thenAnswer(invocation -> Capabilities.builder().addMain(MainCapability.SELECTLIST_PROJECTION).build());
+        final SqlDialectFactory factory = mock(SqlDialectFactory.class);
+        when(factory.getSqlDialectName()).thenReturn("CAPABILITIES_CACHE_TEST");
+        when(factory.createSqlDialect(any())).thenReturn(dialect);
+        final JDBCAdapter jdbcAdapter = new JDBCAdapter(factory, new AdapterContext(mock(TelemetryClient.class)));
+        setDerbyConnectionNameProperty();
+        final GetCapabilitiesRequest request = new GetCapabilitiesRequest(createSchemaMetadataInfo());
+        final ExaMetadata exaMetadataMock = mock(ExaMetadata.class);
+        jdbcAdapter.getCapabilities(exaMetadataMock, request);
+        final GetCapabilitiesResponse response = jdbcAdapter.getCapabilities(exaMetadataMock, request);
+        assertAll(() -> assertThat(response.getCapabilities().getMainCapabilities(),
+                contains(MainCapability.SELECTLIST_PROJECTION)), //
+                () -> verify(factory, times(1)).createSqlDialect(any()));
+    }
+
+    @Test
+    void testGetCapabilitiesAreComputedAgainAfterPropertyChange() throws AdapterException {
+        final SqlDialect dialect = mock(SqlDialect.class);
+        when(dialect.getCapabilities())
+                .thenAnswer(invocation -> Capabilities.builder().addMain(MainCapability.SELECTLIST_PROJECTION).build());
+        final SqlDialectFactory factory = mock(SqlDialectFactory.class);
+        when(factory.getSqlDialectName()).thenReturn("CAPABILITIES_PROPERTY_CHANGE_TEST");
+        when(factory.createSqlDialect(any())).thenReturn(dialect);
+        final JDBCAdapter jdbcAdapter = new JDBCAdapter(factory, new AdapterContext(mock(TelemetryClient.class)));
+        setDerbyConnectionNameProperty();
+        final ExaMetadata exaMetadataMock = mock(ExaMetadata.class);
+        jdbcAdapter.getCapabilities(exaMetadataMock, new GetCapabilitiesRequest(createSchemaMetadataInfo()));
+        this.rawProperties.put(SCHEMA_NAME_PROPERTY, "OTHER_SCHEMA");
+        jdbcAdapter.getCapabilities(exaMetadataMock, new GetCapabilitiesRequest(createSchemaMetadataInfo()));
+        verify(factory, times(2)).createSqlDialect(any());
+    }
+
+    @Test
+    void testGetCapabilitiesReturnsCopyOfCachedCapabilities() throws AdapterException {
+        final SqlDialect dialect = mock(SqlDialect.class);
+        when(dialect.getCapabilities())
+                .thenAnswer(invocation -> Capabilities.builder().addMain(MainCapability.SELECTLIST_PROJECTION).build());
+        final SqlDialectFactory factory = mock(SqlDialectFactory.class);
+        when(factory.getSqlDialectName()).thenReturn("CAPABILITIES_COPY_TEST");
+        when(factory.createSqlDialect(any())).thenReturn(dialect);
+        final JDBCAdapter jdbcAdapter = new JDBCAdapter(factory, new AdapterContext(mock(TelemetryClient.class)));
+        setDerbyConnectionNameProperty();
+        final GetCapabilitiesRequest request = new GetCapabilitiesRequest(createSchemaMetadataInfo());
+        final ExaMetadata exaMetadataMock = mock(ExaMetadata.class);
+        jdbcAdapter.getCapabilities(exaMetadataMock, request).getCapabilities().subtractCapabilities(
+                Capabilities.builder().addMain(MainCapability.SELECTLIST_PROJECTION).build());
+        final GetCapabilitiesResponse response = jdbcAdapter.getCapabilities(exaMetadataMock, request);
+        assertThat(response.getCapabilities().getMainCapabilities(), contains(MainCapability.SELECTLIST_PROJECTION));
+    }
+
     @Test
     void testDropVirtualSchemaMustSucceedEvenIfDebugAddressIsInvalid() throws AdapterException {
         setDerbyConnectionNameProperty();
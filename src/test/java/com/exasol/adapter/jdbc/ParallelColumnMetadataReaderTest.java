@@ -0,0 +1,65 @@
+package com.exasol.adapter.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.properties.TableCountLimit;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelColumnMetadataReaderTest {
+    @Mock
+    private ColumnMetadataReader readerA;
+    @Mock
+    private ColumnMetadataReader readerB;
+
+    @Test
+    void testMapColumnsKeepsTableAssignment() {
+        when(this.readerA.mapColumns(anyString())).then(invocation -> columnsOf(invocation.getArgument(0)));
+        when(this.readerB.mapColumns(anyString())).then(invocation -> columnsOf(invocation.getArgument(0)));
+        final List<String> tableNames = List.of("T1", "T2", "T3", "T4", "T5");
+        final Map<String, List<ColumnMetadata>> columns = new ParallelColumnMetadataReader(
+                List.of(this.readerA, this.readerB)).mapColumns(tableNames, new TableCountLimit(10));
+        assertAll(() -> assertThat(columns.keySet(), containsInAnyOrder("T1", "T2", "T3", "T4", "T5")),
+                () -> assertThat(columns.get("T3").get(0).getName(), equalTo("T3_C1")));
+    }
+
+    @Test
+    void testMapColumnsEnforcesTableCountLimit() {
+        when(this.readerA.mapColumns(anyString())).then(invocation -> columnsOf(invocation.getArgument(0)));
+        final ParallelColumnMetadataReader reader = new ParallelColumnMetadataReader(List.of(this.readerA));
+        final List<String> tableNames = List.of("T1", "T2", "T3");
+        final TableCountLimit limit = new TableCountLimit(2);
+        final RemoteMetadataReaderException exception = assertThrows(RemoteMetadataReaderException.class,
+                () -> reader.mapColumns(tableNames, limit));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-42"));
+    }
+
+    @Test
+    void testMapColumnsPropagatesReaderFailure() {
+        when(this.readerA.mapColumns(anyString())).thenThrow(new RemoteMetadataReaderException("failure"));
+        final ParallelColumnMetadataReader reader = new ParallelColumnMetadataReader(List.of(this.readerA));
+        final List<String> tableNames = List.of("T1");
+        final TableCountLimit limit = new TableCountLimit(2);
+        final RemoteMetadataReaderException exception = assertThrows(RemoteMetadataReaderException.class,
+                () -> reader.mapColumns(tableNames, limit));
+        assertThat(exception.getMessage(), equalTo("failure"));
+    }
+
+    private static List<ColumnMetadata> columnsOf(final String tableName) {
+        return List.of(ColumnMetadata.builder().name(tableName + "_C1").type(DataType.createBool()).build());
+    }
+}
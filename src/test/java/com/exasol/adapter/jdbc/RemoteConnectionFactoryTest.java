@@ -7,6 +7,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
@@ -59,13 +60,29 @@ class RemoteConnectionFactoryTest {
         return factory.getConnection();
     }
 
+    private void useConnection() throws SQLException {
+        createConnection().getMetaData();
+    }
+
+    @Test
+    void testGetConnectionDoesNotConnectBeforeFirstUse() throws SQLException {
+        this.rawProperties.put("CONNECTION_NAME", CONNECTION_NAME);
+        final RemoteConnectionFactory factory = new RemoteConnectionFactory(this.exaMetadataMock,
+                new AdapterProperties(this.rawProperties));
+        final Connection connection = factory.getConnection();
+        factory.clean();
+        assertAll(() -> assertThat(connection, notNullValue()),
+                () -> assertThat(factory.getOpenedConnectionCount(), equalTo(0)),
+                () -> verifyNoInteractions(this.exaMetadataMock));
+    }
+
     @Test
     void testGetConnectionThrowsException() throws ExaConnectionAccessException {
         when(this.exaMetadataMock.getConnection(CONNECTION_NAME))
                 .thenThrow(new ExaConnectionAccessException("FAKE connection access exception"));
         this.rawProperties.put("CONNECTION_NAME", "");
         final RemoteConnectionException exception = assertThrows(RemoteConnectionException.class,
-                this::createConnection);
+                this::useConnection);
         assertThat(exception.getMessage(), containsString("E-VSCJDBC-28"));
     }
 
@@ -75,7 +92,7 @@ class RemoteConnectionFactoryTest {
                 .thenThrow(new ExaConnectionAccessException("FAKE connection access exception"));
         this.rawProperties.put("CONNECTION_NAME", CONNECTION_NAME);
         final RemoteConnectionException exception = assertThrows(RemoteConnectionException.class,
-                this::createConnection);
+                this::useConnection);
         assertThat(exception.getMessage(), containsString("E-VSCJDBC-29"));
     }
 
@@ -91,7 +108,7 @@ class RemoteConnectionFactoryTest {
         when(this.exaConnectionMock.getAddress()).thenReturn(DERBY_INSTANT_JDBC_CONNECTION_STRING);
         when(this.exaMetadataMock.getConnection(CONNECTION_NAME)).thenReturn(this.exaConnectionMock);
         this.rawProperties.put("CONNECTION_NAME", CONNECTION_NAME);
-        createConnection(); // return value ignored on purpose
+        useConnection();
         assertAll(
                 () -> assertThat(System.getProperty(KERBEROS_CONFIG_PROPERTY),
                         matchesPattern(FilePatterns.KERBEROS_CONFIG_PATTERN)),
@@ -115,4 +132,48 @@ class RemoteConnectionFactoryTest {
         factory.clean();
         assertThat("Cached connection after clean()", !factory.hasCachedConnection());
     }
+
+    @Test
+    void testConnectionCannotBeUsedAfterClean() throws SQLException, ExaConnectionAccessException {
+        this.rawProperties.put("CONNECTION_NAME", CONNECTION_NAME);
+        when(this.exaMetadataMock.getConnection(CONNECTION_NAME)).thenReturn(this.exaConnectionMock);
+        when(this.exaConnectionMock.getUser()).thenReturn("user");
+        when(this.exaConnectionMock.getPassword()).thenReturn("pass");
+        when(this.exaConnectionMock.getAddress()).thenReturn(DERBY_INSTANT_JDBC_CONNECTION_STRING);
+        final RemoteConnectionFactory factory = new RemoteConnectionFactory(this.exaMetadataMock,
+                new AdapterProperties(this.rawProperties));
+        final Connection connection = factory.getConnection();
+        connection.getMetaData();
+        factory.clean();
+        final SQLException exception = assertThrows(SQLException.class, connection::getMetaData);
+        connection.close();
+        assertAll(() -> assertThat(exception.getMessage(), containsString("E-VSCJDBC-63")),
+                () -> assertThat(connection.isClosed(), equalTo(true)),
+                () -> assertThat(factory.getOpenedConnectionCount(), equalTo(1)));
+    }
+
+    @Test
+    void testCleanReturnsConnectionToPool() throws SQLException, ExaConnectionAccessException {
+        this.rawProperties.put("CONNECTION_NAME", CONNECTION_NAME);
+        this.rawProperties.put("CONNECTION_POOL_SIZE", "1");
+        when(this.exaMetadataMock.getConnection(CONNECTION_NAME)).thenReturn(this.exaConnectionMock);
+        when(this.exaConnectionMock.getUser()).thenReturn("pool_user");
+        when(this.exaConnectionMock.getPassword()).thenReturn("pass");
+        when(this.exaConnectionMock.getAddress()).thenReturn(DERBY_INSTANT_JDBC_CONNECTION_STRING);
+        final AdapterProperties properties = new AdapterProperties(this.rawProperties);
+        final RemoteConnectionFactory firstFactory = new RemoteConnectionFactory(this.exaMetadataMock, properties);
+        firstFactory.getConnection().getMetaData();
+        firstFactory.clean();
+        final RemoteConnectionFactory secondFactory = new RemoteConnectionFactory(this.exaMetadataMock, properties);
+        try {
+            final Connection secondConnection = secondFactory.getConnection();
+            secondConnection.getMetaData();
+            assertAll(() -> assertThat(secondConnection.isClosed(), equalTo(false)),
+                    () -> assertThat(firstFactory.getOpenedConnectionCount(), equalTo(1)),
+                    () -> assertThat(secondFactory.getOpenedConnectionCount(), equalTo(0)));
+        } finally {
+            secondFactory.clean();
+            ConnectionPool.getInstance().closeAll();
+        }
+    }
 }
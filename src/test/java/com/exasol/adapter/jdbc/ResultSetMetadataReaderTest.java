@@ -3,23 +3,40 @@ package com.exasol.adapter.jdbc;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.*;
+import java.time.Duration;
+import java.util.List;
 
 import com.exasol.ExaMetadata;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.exasol.adapter.AdapterProperties;
 import com.exasol.adapter.dialects.BaseIdentifierConverter;
+import com.exasol.adapter.metrics.AdapterMetrics;
+import com.exasol.adapter.metrics.DescribeColumnsEvent;
+import com.exasol.adapter.metrics.Metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 @ExtendWith(MockitoExtension.class)
 class ResultSetMetadataReaderTest {
+    private static final String DUPLICATE_COLUMNS_QUERY = "SELECT COUNT(*), COUNT(*) FROM T";
     @Mock
     private ResultSetMetaData resultSetMetadataMock;
     @Mock
@@ -40,6 +57,95 @@ class ResultSetMetadataReaderTest {
         assertThat(getReader().describeColumns("irrelevant"), equalTo(columnDescription));
     }
 
+    @Test
+    void testDescribeColumnEmitsFlightRecorderEvent(@TempDir final Path tempDir) throws SQLException, IOException {
+        when(this.resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(this.resultSetMetadataMock.getColumnType(1)).thenReturn(Types.BOOLEAN);
+        final Path recordingFile = tempDir.resolve("describe.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(DescribeColumnsEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            getReader().describeColumns("SELECT 1");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events, hasSize(1));
+        assertAll(() -> assertThat(events.get(0).getInt("sqlLength"), equalTo(8)),
+                () -> assertThat(events.get(0).getInt("columnCount"), equalTo(1)));
+    }
+
+    @Test
+    void testDescribeColumnFallsBackToZeroRowProbe(@Mock final PreparedStatement probeStatementMock,
+            @Mock final ResultSet probeResultMock) throws SQLException {
+        when(this.connectionMock.prepareStatement("SELECT A FROM T")).thenReturn(this.statementMock);
+        when(this.connectionMock.prepareStatement("SELECT * FROM (SELECT A FROM T) ZERO_ROWS WHERE 1 = 0"))
+                .thenReturn(probeStatementMock);
+        when(probeStatementMock.executeQuery()).thenReturn(probeResultMock);
+        when(probeResultMock.getMetaData()).thenReturn(this.resultSetMetadataMock);
+        when(this.resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(this.resultSetMetadataMock.getColumnType(1)).thenReturn(Types.BOOLEAN);
+        final AdapterMetrics metrics = mock(AdapterMetrics.class);
+        Metrics.setSink(metrics);
+        try {
+            assertThat(getReader(List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT,
+                    ColumnDescriptionStrategy.ZERO_ROW_SUBQUERY)).describeColumns("SELECT A FROM T"),
+                    equalTo("c1 BOOLEAN"));
+        } finally {
+            Metrics.setSink(null);
+        }
+        assertAll(() -> verify(metrics).recordDuration(eq("remoteDescribe.PREPARED_STATEMENT"), anyLong()),
+                () -> verify(metrics).recordDuration(eq("remoteDescribe.ZERO_ROW_SUBQUERY"), anyLong()),
+                () -> verify(this.statementMock, never()).executeQuery());
+    }
+
+    @Test
+    void testDefaultStrategyDoesNotExecuteProbeForDuplicateColumns() throws SQLException {
+        when(this.connectionMock.prepareStatement(any())).thenReturn(this.statementMock);
+        final ResultSetMetadataReader reader = getReader(List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT));
+        final RemoteMetadataReaderException exception = assertThrows(RemoteMetadataReaderException.class,
+                () -> reader.describeColumns(DUPLICATE_COLUMNS_QUERY));
+        assertAll(() -> assertThat(exception.getMessage(), containsString("F-VSCJDBC-34")),
+                () -> verify(this.connectionMock).prepareStatement(DUPLICATE_COLUMNS_QUERY),
+                () -> verify(this.connectionMock, times(1)).prepareStatement(any()),
+                () -> verify(this.statementMock, never()).executeQuery());
+    }
+
+    @Test
+    void testZeroRowProbeRejectedForDuplicateColumnsReportsError(@Mock final PreparedStatement probeStatementMock)
+            throws SQLException {
+        when(this.connectionMock.prepareStatement(DUPLICATE_COLUMNS_QUERY)).thenReturn(this.statementMock);
+        when(this.connectionMock.prepareStatement(
+                "SELECT * FROM (" + DUPLICATE_COLUMNS_QUERY + ") ZERO_ROWS WHERE 1 = 0"))
+                .thenReturn(probeStatementMock);
+        when(probeStatementMock.executeQuery()).thenThrow(new SQLException("duplicate column name"));
+        final ResultSetMetadataReader reader = getReader(
+                List.of(ColumnDescriptionStrategy.PREPARED_STATEMENT, ColumnDescriptionStrategy.ZERO_ROW_SUBQUERY));
+        final RemoteMetadataReaderException exception = assertThrows(RemoteMetadataReaderException.class,
+                () -> reader.describeColumns(DUPLICATE_COLUMNS_QUERY));
+        assertAll(() -> assertThat(exception.getMessage(), containsString("E-VSCJDBC-30")),
+                () -> assertThat(exception.getMessage(), containsString("duplicate column name")));
+    }
+
+    @Test
+    void testDescribeColumnWithLimitZeroProbe(@Mock final ResultSet probeResultMock) throws SQLException {
+        when(this.connectionMock.prepareStatement("SELECT * FROM (SELECT A FROM T) ZERO_ROWS LIMIT 0"))
+                .thenReturn(this.statementMock);
+        when(this.statementMock.executeQuery()).thenReturn(probeResultMock);
+        when(probeResultMock.getMetaData()).thenReturn(this.resultSetMetadataMock);
+        when(this.resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(this.resultSetMetadataMock.getColumnType(1)).thenReturn(Types.BOOLEAN);
+        assertThat(getReader(List.of(ColumnDescriptionStrategy.LIMIT_ZERO)).describeColumns("SELECT A FROM T"),
+                equalTo("c1 BOOLEAN"));
+    }
+
+    private ResultSetMetadataReader getReader(final List<ColumnDescriptionStrategy> strategies) {
+        when(this.exaMetadataMock.getDatabaseVersion()).thenReturn("8.34.0");
+        final ColumnMetadataReader columnMetadataReader = new BaseColumnMetadataReader(this.connectionMock,
+                AdapterProperties.emptyProperties(), this.exaMetadataMock, BaseIdentifierConverter.createDefault());
+        return new ResultSetMetadataReader(this.connectionMock, columnMetadataReader, strategies);
+    }
+
     public ResultSetMetadataReader getReader() throws SQLException {
         when(this.exaMetadataMock.getDatabaseVersion()).thenReturn("8.34.0");
         when(this.statementMock.getMetaData()).thenReturn(this.resultSetMetadataMock);
@@ -0,0 +1,79 @@
+package com.exasol.adapter.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+    private final RecordingMetrics recorder = new RecordingMetrics();
+
+    @AfterEach
+    void afterEach() {
+        Metrics.setSink(null);
+    }
+
+    @Test
+    void testTimerRecordsDurationInInstalledSink() {
+        Metrics.setSink(this.recorder);
+        Metrics.startTimer(Metrics.CONNECT).stop();
+        Metrics.increment("tables");
+        assertThat(this.recorder.events, contains("duration " + Metrics.CONNECT, "counter tables 1"));
+    }
+
+    @Test
+    void testSettingNullRestoresDefaultSink() {
+        Metrics.setSink(this.recorder);
+        Metrics.setSink(null);
+        assertThat(Metrics.getSink(), instanceOf(LoggingAdapterMetrics.class));
+    }
+
+    @Test
+    void testLoggingMetricsSummary() {
+        final LoggingAdapterMetrics metrics = new LoggingAdapterMetrics();
+        metrics.requestStarted("PUSHDOWN");
+        metrics.recordDuration(Metrics.SQL_GENERATION, 1_500_000);
+        metrics.recordDuration(Metrics.CONNECT, 2_000_000);
+        metrics.recordDuration(Metrics.CONNECT, 1_000_000);
+        metrics.incrementCounter("tables", 3);
+        assertThat(metrics.createSummary("PUSHDOWN"),
+                equalTo("Metrics for PUSHDOWN request: connect=2/3.0ms sqlGeneration=1/1.5ms tables=3"));
+    }
+
+    @Test
+    void testLoggingMetricsAreResetAfterRequest() {
+        final LoggingAdapterMetrics metrics = new LoggingAdapterMetrics();
+        metrics.requestStarted("REFRESH");
+        metrics.recordDuration(Metrics.TABLE_LISTING, 1_000_000);
+        metrics.requestFinished("REFRESH");
+        assertThat(metrics.createSummary("REFRESH"), equalTo("Metrics for REFRESH request:"));
+    }
+
+    private static final class RecordingMetrics implements AdapterMetrics {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void requestStarted(final String requestType) {
+            this.events.add("started " + requestType);
+        }
+
+        @Override
+        public void recordDuration(final String name, final long nanos) {
+            this.events.add("duration " + name);
+        }
+
+        @Override
+        public void incrementCounter(final String name, final long delta) {
+            this.events.add("counter " + name + " " + delta);
+        }
+
+        @Override
+        public void requestFinished(final String requestType) {
+            this.events.add("finished " + requestType);
+        }
+    }
+}
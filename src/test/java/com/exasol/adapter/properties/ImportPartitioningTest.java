@@ -0,0 +1,53 @@
+package com.exasol.adapter.properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.AdapterProperties;
+
+class ImportPartitioningTest {
+    @Test
+    void testFromProperties() {
+        final ImportPartitioning testee = ImportPartitioning.from(new AdapterProperties(Map.of( //
+                ImportPartitioning.PARTITION_COUNT_PROPERTY, "8", //
+                ImportPartitioning.PARTITION_COLUMNS_PROPERTY, "SALES.SALE_DATE, ORDERS.ID")));
+        assertAll(() -> assertThat(testee.isEnabled(), equalTo(true)),
+                () -> assertThat(testee.getPartitionCount(), equalTo(8)),
+                () -> assertThat(testee.getPartitionColumn("SALES"), equalTo(Optional.of("SALE_DATE"))),
+                () -> assertThat(testee.getPartitionColumn("ORDERS"), equalTo(Optional.of("ID"))),
+                () -> assertThat(testee.getPartitionColumn("CUSTOMERS"), equalTo(Optional.empty())));
+    }
+
+    @Test
+    void testFromEmptyPropertiesIsDisabled() {
+        assertThat(ImportPartitioning.from(AdapterProperties.emptyProperties()).isEnabled(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "-1", "0", "3000000000", "many" })
+    void testValidatorFailureForPartitionCount(final String value) {
+        final PropertyValidator validator = ImportPartitioning.getValidator();
+        final Exception exception = assertThrows(PropertyValidationException.class, () -> validator
+                .validate(new AdapterProperties(Map.of(ImportPartitioning.PARTITION_COUNT_PROPERTY, value))));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-56"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "SALES", "SALES.", ".ID", "SALES.ID, ORDERS" })
+    void testValidatorFailureForPartitionColumns(final String value) {
+        final PropertyValidator validator = ImportPartitioning.getValidator();
+        final Exception exception = assertThrows(PropertyValidationException.class, () -> validator
+                .validate(new AdapterProperties(Map.of(ImportPartitioning.PARTITION_COLUMNS_PROPERTY, value))));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-61"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.exasol.adapter.properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.AdapterProperties;
+
+class MetadataReadParallelismTest {
+    @ParameterizedTest
+    @ValueSource(strings = { "1", "8" })
+    void testFromProperties(final String value) {
+        final Map<String, String> properties = Map.of(MetadataReadParallelism.PARALLELISM_PROPERTY, value);
+        final MetadataReadParallelism testee = MetadataReadParallelism.from(new AdapterProperties(properties));
+        final PropertyValidator validator = MetadataReadParallelism.getValidator();
+        assertAll(() -> assertThat(testee.getParallelism(), equalTo(Integer.parseInt(value))),
+                () -> assertThat(testee.isParallel(), equalTo(!"1".equals(value))),
+                () -> assertDoesNotThrow(() -> validator.validate(new AdapterProperties(properties))));
+    }
+
+    @Test
+    void testFromEmptyPropertiesIsSequential() {
+        final MetadataReadParallelism testee = MetadataReadParallelism.from(AdapterProperties.emptyProperties());
+        assertAll(() -> assertThat(testee.getParallelism(), equalTo(1)),
+                () -> assertThat(testee.isParallel(), equalTo(false)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "-1", "0", "1.2", "many", "2147483648", "3000000000" })
+    void testValidatorFailure(final String value) {
+        final Map<String, String> properties = Map.of(MetadataReadParallelism.PARALLELISM_PROPERTY, value);
+        final PropertyValidator validator = MetadataReadParallelism.getValidator();
+        final Exception exception = assertThrows(PropertyValidationException.class,
+                () -> validator.validate(new AdapterProperties(properties)));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-56"));
+    }
+}
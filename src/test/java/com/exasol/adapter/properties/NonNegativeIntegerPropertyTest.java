@@ -0,0 +1,59 @@
+package com.exasol.adapter.properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.AdapterProperties;
+
+class NonNegativeIntegerPropertyTest {
+
+    static private final String PROPERTY = "MY_PROPERTY";
+
+    @ParameterizedTest
+    @ValueSource(strings = { "-1", "3000000000", "1.5", "abc", "" })
+    void testFailure(final String value) {
+        final PropertyValidationException exception = assertThrows(PropertyValidationException.class,
+                () -> verify(value));
+        assertThat(exception.getMessage(), containsString("E-VSCJDBC-56"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "42", "2147483647" })
+    void testSuccess(final String value) {
+        assertDoesNotThrow(() -> verify(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-1", "3000000000" })
+    void testFailureBelowMinimum(final String value) {
+        final AdapterProperties properties = new AdapterProperties(Map.of(PROPERTY, value));
+        final PropertyValidationException exception = assertThrows(PropertyValidationException.class,
+                () -> NonNegativeIntegerProperty.validator(PROPERTY, 1).validate(properties));
+        assertThat(exception.getMessage(), containsString("between 1 and 2147483647"));
+    }
+
+    @Test
+    void testGetValue() {
+        final AdapterProperties properties = new AdapterProperties(Map.of(PROPERTY, "2147483647"));
+        assertThat(NonNegativeIntegerProperty.getValue(properties, PROPERTY, 7), equalTo(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testGetDefaultValue() {
+        assertThat(NonNegativeIntegerProperty.getValue(AdapterProperties.emptyProperties(), PROPERTY, 7), equalTo(7));
+    }
+
+    private void verify(final String value) throws PropertyValidationException {
+        final AdapterProperties properties = new AdapterProperties(Map.of(PROPERTY, value));
+        NonNegativeIntegerProperty.validator(PROPERTY).validate(properties);
+    }
+}
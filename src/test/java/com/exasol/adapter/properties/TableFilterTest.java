@@ -0,0 +1,80 @@
+package com.exasol.adapter.properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.exasol.adapter.AdapterProperties;
+
+class TableFilterTest {
+    private static TableFilter filter(final Map<String, String> properties) {
+        return TableFilter.from(new AdapterProperties(properties));
+    }
+
+    @Test
+    void testEmptyFilterIncludesAllTables() {
+        final TableFilter testee = filter(Map.of());
+        assertAll(() -> assertThat(testee.includesAllTables(), equalTo(true)),
+                () -> assertThat(testee.matches("ANY"), equalTo(true)),
+                () -> assertThat(testee.getTableNamePattern(), equalTo(Optional.empty())));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "SALES_2024, true", "SALESX2024, true", "SALES, false", "ORDERS, true", "CUSTOMERS, true",
+            "CUSTOMERS_TMP, false", "ORDERS_BACKUP, false", "PRODUCTS, false" })
+    void testMatches(final String tableName, final boolean expected) {
+        final TableFilter testee = filter(Map.of( //
+                AdapterProperties.TABLE_FILTER_PROPERTY, "CUSTOMERS,CUSTOMERS_TMP", //
+                TableFilter.INCLUDE_PATTERN_PROPERTY, "SALES_%, ORDERS%", //
+                TableFilter.EXCLUDE_PATTERN_PROPERTY, "%_TMP", //
+                TableFilter.EXCLUDE_REGEX_PROPERTY, ".*_BACKUP"));
+        assertThat(testee.matches(tableName), equalTo(expected));
+    }
+
+    @Test
+    void testIncludeRegex() {
+        final TableFilter testee = filter(Map.of(TableFilter.INCLUDE_REGEX_PROPERTY, "T[0-9]+"));
+        assertAll(() -> assertThat(testee.matches("T42"), equalTo(true)),
+                () -> assertThat(testee.matches("T4X"), equalTo(false)),
+                () -> assertThat(testee.hasIncludePatterns(), equalTo(true)));
+    }
+
+    @Test
+    void testWildcardPatternQuotesRegexCharacters() {
+        final TableFilter testee = filter(Map.of(TableFilter.INCLUDE_PATTERN_PROPERTY, "A.B%"));
+        assertAll(() -> assertThat(testee.matches("A.BC"), equalTo(true)),
+                () -> assertThat(testee.matches("AXBC"), equalTo(false)));
+    }
+
+    @Test
+    void testSingleIncludePatternIsPushedDown() {
+        final TableFilter testee = filter(Map.of( //
+                TableFilter.INCLUDE_PATTERN_PROPERTY, "SALES_%", //
+                TableFilter.EXCLUDE_PATTERN_PROPERTY, "%_TMP"));
+        assertThat(testee.getTableNamePattern(), equalTo(Optional.of("SALES_%")));
+    }
+
+    @Test
+    void testMultipleIncludePatternsAreNotPushedDown() {
+        final TableFilter testee = filter(Map.of(TableFilter.INCLUDE_PATTERN_PROPERTY, "SALES_%, ORDERS%"));
+        assertThat(testee.getTableNamePattern(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testValidatorFailure() {
+        final PropertyValidator validator = TableFilter.getValidator();
+        final Exception exception = assertThrows(PropertyValidationException.class, () -> validator
+                .validate(new AdapterProperties(Map.of(TableFilter.EXCLUDE_REGEX_PROPERTY, "T[0-9"))));
+        assertAll(() -> assertThat(exception.getMessage(), containsString("E-VSCJDBC-58")),
+                () -> assertThat(exception.getMessage(), containsString(TableFilter.EXCLUDE_REGEX_PROPERTY)));
+    }
+}
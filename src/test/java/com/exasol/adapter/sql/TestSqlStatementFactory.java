@@ -1,7 +1,7 @@
 package com.exasol.adapter.sql;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.*;
 
 import com.exasol.adapter.metadata.*;
 
@@ -26,4 +26,138 @@ public final class TestSqlStatementFactory {
     static public SqlStatement createSelectOneFromDual() {
         return selectOneFromTable(DUAL);
     }
-}
\ No newline at end of file
+
+    /**
+     * Create a select statement with a wide select list of columns.
+     *
+     * @param columnCount number of columns in the select list
+     * @return select statement
+     */
+    public static SqlStatement createWideSelect(final int columnCount) {
+        final List<SqlNode> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; ++i) {
+            columns.add(column(i, "COLUMN_" + i));
+        }
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createRegularSelectList(columns)) //
+                .fromClause(table("WIDE_TABLE")) //
+                .build();
+    }
+
+    /**
+     * Create a select statement with a balanced tree of alternating {@code AND} and {@code OR} predicates.
+     *
+     * @param depth depth of the predicate tree
+     * @return select statement
+     */
+    public static SqlStatement createDeepPredicate(final int depth) {
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table("FACTS")) //
+                .whereClause(predicateTree(depth, new int[] { 0 })) //
+                .build();
+    }
+
+    private static SqlNode predicateTree(final int depth, final int[] counter) {
+        if (depth == 0) {
+            final int id = counter[0]++;
+            return new SqlPredicateEqual(column(id, "C" + id), new SqlLiteralString("value " + id));
+        }
+        final List<SqlNode> operands = List.of(predicateTree(depth - 1, counter), predicateTree(depth - 1, counter));
+        return (depth % 2) == 0 ? new SqlPredicateAnd(operands) : new SqlPredicateOr(operands);
+    }
+
+    /**
+     * Create a select statement filtering with a large {@code IN} list.
+     *
+     * @param size number of values in the {@code IN} list
+     * @return select statement
+     */
+    public static SqlStatement createLargeInList(final int size) {
+        final List<SqlNode> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(new SqlLiteralExactnumeric(BigDecimal.valueOf(i)));
+        }
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table("FACTS")) //
+                .whereClause(new SqlPredicateInConstList(column(0, "ID"), values)) //
+                .build();
+    }
+
+    /**
+     * Create a select statement with the redundant filter predicates BI tools typically generate: nested {@code AND},
+     * constant {@code TRUE}, repeated comparisons, an {@code OR}-chain of equality comparisons on one column and an
+     * {@code IN} list with repeated values.
+     *
+     * @param size number of comparisons in the {@code OR}-chain and of values in the {@code IN} list
+     * @return select statement
+     */
+    public static SqlStatement createRedundantPredicate(final int size) {
+        final List<SqlNode> equalities = new ArrayList<>(size);
+        final List<SqlNode> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            equalities.add(new SqlPredicateEqual(column(0, "C0"), new SqlLiteralString("value " + (i % 10))));
+            values.add(new SqlLiteralExactnumeric(BigDecimal.valueOf(i % 10)));
+        }
+        final SqlNode filter = new SqlPredicateAnd(List.of( //
+                new SqlPredicateAnd(List.of(new SqlPredicateOr(equalities), new SqlLiteralBool(true))), //
+                new SqlPredicateAnd(List.of(new SqlPredicateInConstList(column(1, "C1"), values),
+                        new SqlPredicateEqual(column(2, "C2"), new SqlLiteralString("x")))), //
+                new SqlPredicateEqual(column(2, "C2"), new SqlLiteralString("x"))));
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table("FACTS")) //
+                .whereClause(filter) //
+                .build();
+    }
+
+    /**
+     * Create a select statement joining multiple tables.
+     *
+     * @param tableCount number of joined tables
+     * @return select statement
+     */
+    public static SqlStatement createMultiJoin(final int tableCount) {
+        SqlNode from = table("T0");
+        for (int i = 1; i < tableCount; ++i) {
+            final SqlNode condition = new SqlPredicateEqual(column(0, "ID"), column(i, "T" + (i - 1) + "_ID"));
+            from = new SqlJoin(from, table("T" + i), condition, JoinType.INNER);
+        }
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(from) //
+                .build();
+    }
+
+    /**
+     * Create a select statement with {@code ORDER BY} and {@code LIMIT}.
+     *
+     * @param orderByColumnCount number of columns to order by
+     * @return select statement
+     */
+    public static SqlStatement createOrderByLimit(final int orderByColumnCount) {
+        final List<SqlNode> expressions = new ArrayList<>(orderByColumnCount);
+        final List<Boolean> ascending = new ArrayList<>(orderByColumnCount);
+        final List<Boolean> nullsLast = new ArrayList<>(orderByColumnCount);
+        for (int i = 0; i < orderByColumnCount; ++i) {
+            expressions.add(column(i, "C" + i));
+            ascending.add((i % 2) == 0);
+            nullsLast.add(true);
+        }
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createAnyValueSelectList()) //
+                .fromClause(table("FACTS")) //
+                .orderBy(new SqlOrderBy(expressions, ascending, nullsLast)) //
+                .limit(new SqlLimit(100, 20)) //
+                .build();
+    }
+
+    private static SqlColumn column(final int id, final String name) {
+        return new SqlColumn(id, ColumnMetadata.builder().name(name).type(DataType.createDecimal(18, 0)).build());
+    }
+
+    private static SqlTable table(final String name) {
+        return new SqlTable(name, new TableMetadata(name, "", Collections.emptyList(), ""));
+    }
+}
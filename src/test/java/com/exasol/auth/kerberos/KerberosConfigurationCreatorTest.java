@@ -11,11 +11,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Base64;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -54,6 +58,51 @@ class KerberosConfigurationCreatorTest {
                 () -> assertKeyTableFileContent(getJaasConfigPathFromProperty()));
     }
 
+    @Test
+    void testIdenticalCredentialsReuseConfigurationFiles() {
+        this.creator.writeKerberosConfigurationFiles(USER, PW);
+        final String jaasConfigPath = getJaasConfigPathFromProperty();
+        new KerberosConfigurationCreator().writeKerberosConfigurationFiles(USER, PW);
+        assertThat(getJaasConfigPathFromProperty(), equalTo(jaasConfigPath));
+    }
+
+    @Test
+    void testDifferentCredentialsUseDifferentConfigurationFiles() {
+        this.creator.writeKerberosConfigurationFiles(USER, PW);
+        final String jaasConfigPath = getJaasConfigPathFromProperty();
+        this.creator.writeKerberosConfigurationFiles("other_user", PW);
+        assertThat(getJaasConfigPathFromProperty(), not(equalTo(jaasConfigPath)));
+    }
+
+    @Test
+    void testStaleConfigurationFilesAreDeleted() {
+        this.creator.writeKerberosConfigurationFiles("stale_user", PW);
+        final File staleJaasConfig = new File(getJaasConfigPathFromProperty());
+        for (int i = 0; i < MAX_WRITTEN_CONFIGURATIONS; ++i) {
+            this.creator.writeKerberosConfigurationFiles("user_" + i, PW);
+        }
+        assertThat(staleJaasConfig, not(anExistingFile()));
+    }
+
+    @Test
+    void testStaleConfigurationDirectoryWithPartialFileIsDeleted() throws IOException {
+        this.creator.writeKerberosConfigurationFiles("partial_user", PW);
+        final File staleDirectory = new File(getJaasConfigPathFromProperty()).getParentFile();
+        Files.createTempFile(staleDirectory.toPath(), "kt_client.keytab", ".tmp");
+        for (int i = 0; i < MAX_WRITTEN_CONFIGURATIONS; ++i) {
+            this.creator.writeKerberosConfigurationFiles("user_" + i, PW);
+        }
+        assertThat(staleDirectory.exists(), equalTo(false));
+    }
+
+    @Test
+    @EnabledOnOs({ OS.LINUX, OS.MAC })
+    void testConfigurationDirectoryIsOnlyAccessibleByOwner() throws IOException {
+        this.creator.writeKerberosConfigurationFiles(USER, PW);
+        final Path directory = Paths.get(getJaasConfigPathFromProperty()).getParent();
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(directory)), equalTo("rwx------"));
+    }
+
     @Test
     void base64() {
         final byte[] raw = "some string".getBytes();
@@ -0,0 +1,93 @@
+package com.exasol.auth.kerberos;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosPrincipal;
+import javax.security.auth.kerberos.KerberosTicket;
+import javax.security.auth.login.LoginException;
+
+import org.junit.jupiter.api.Test;
+
+class KerberosSubjectCacheTest {
+    private static final Path JAAS_CONFIG = Path.of("jaas_client.conf");
+    private static final long TICKET_LIFETIME_MILLIS = 10 * 60 * 60 * 1000L;
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final List<Subject> logins = new ArrayList<>();
+    private final List<Runnable> renewals = new ArrayList<>();
+    private boolean kdcAvailable = true;
+    private final KerberosSubjectCache cache = new KerberosSubjectCache(this.clock::get, this::login,
+            this.renewals::add);
+
+    private Subject login(final Path jaasConfigPath) throws LoginException {
+        if (!this.kdcAvailable) {
+            throw new LoginException("KDC unreachable");
+        }
+        final Subject subject = new Subject();
+        final Date start = new Date(this.clock.get());
+        final Date end = new Date(this.clock.get() + TICKET_LIFETIME_MILLIS);
+        subject.getPrivateCredentials().add(new KerberosTicket(new byte[] { 1 },
+                new KerberosPrincipal("user@EXAMPLE.COM"), new KerberosPrincipal("krbtgt/EXAMPLE.COM@EXAMPLE.COM"),
+                new byte[16], 17, new boolean[32], start, start, end, null, null));
+        this.logins.add(subject);
+        return subject;
+    }
+
+    @Test
+    void testSubjectIsReused() throws LoginException {
+        final Subject first = this.cache.getSubject(JAAS_CONFIG);
+        this.clock.addAndGet(TICKET_LIFETIME_MILLIS / 2);
+        assertAll(() -> assertThat(this.cache.getSubject(JAAS_CONFIG), sameInstance(first)),
+                () -> assertThat(this.logins, hasSize(1)));
+    }
+
+    @Test
+    void testSubjectIsRenewedInBackground() throws LoginException {
+        final Subject first = this.cache.getSubject(JAAS_CONFIG);
+        this.clock.addAndGet((TICKET_LIFETIME_MILLIS * 9) / 10);
+        final Subject duringRenewal = this.cache.getSubject(JAAS_CONFIG);
+        final int loginsBeforeRenewal = this.logins.size();
+        this.renewals.forEach(Runnable::run);
+        assertAll(() -> assertThat(duringRenewal, sameInstance(first)),
+                () -> assertThat(loginsBeforeRenewal, equalTo(1)),
+                () -> assertThat(this.renewals, hasSize(1)),
+                () -> assertThat(this.cache.getSubject(JAAS_CONFIG), sameInstance(this.logins.get(1))));
+    }
+
+    @Test
+    void testExpiredSubjectIsReplacedImmediately() throws LoginException {
+        final Subject first = this.cache.getSubject(JAAS_CONFIG);
+        this.clock.addAndGet(TICKET_LIFETIME_MILLIS);
+        final Subject second = this.cache.getSubject(JAAS_CONFIG);
+        assertAll(() -> assertThat(second, not(sameInstance(first))),
+                () -> assertThat(this.logins, hasSize(2)),
+                () -> assertThat(this.renewals, empty()));
+    }
+
+    @Test
+    void testSubjectsAreCachedPerConfiguration() throws LoginException {
+        final Subject first = this.cache.getSubject(JAAS_CONFIG);
+        assertThat(this.cache.getSubject(Path.of("other_jaas.conf")), not(sameInstance(first)));
+    }
+
+    @Test
+    void testFailedRenewalIsRetriedAfterBackOff() throws LoginException {
+        this.cache.getSubject(JAAS_CONFIG);
+        this.clock.addAndGet((TICKET_LIFETIME_MILLIS * 8) / 10);
+        this.kdcAvailable = false;
+        this.cache.getSubject(JAAS_CONFIG);
+        this.renewals.forEach(Runnable::run);
+        this.cache.getSubject(JAAS_CONFIG);
+        final int renewalsDuringBackOff = this.renewals.size();
+        this.clock.addAndGet(KerberosSubjectCache.EXPIRY_MARGIN_MILLIS);
+        this.cache.getSubject(JAAS_CONFIG);
+        assertAll(() -> assertThat(renewalsDuringBackOff, equalTo(1)),
+                () -> assertThat(this.renewals, hasSize(2)));
+    }
+}